@@ -7,12 +7,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import site.bookmore.bookmore.alarms.dto.AlarmResponse;
 import site.bookmore.bookmore.alarms.service.AlarmService;
 import site.bookmore.bookmore.common.dto.ResultResponse;
 import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
 import springfox.documentation.annotations.ApiIgnore;
 
 @RestController
@@ -28,8 +30,8 @@ public class AlarmController {
     @Authorized
     @ApiOperation(value = "나의 모든 알림 조회")
     @GetMapping("")
-    public ResultResponse<Page<AlarmResponse>> getAlarm(@PageableDefault(size = 20, sort = "createdDatetime", direction = Sort.Direction.DESC) Pageable pageable, @ApiIgnore Authentication authentication) {
-        Page<AlarmResponse> alarmResponses = alarmService.findByFollowingReview(pageable, authentication.getName());
+    public ResultResponse<Page<AlarmResponse>> getAlarm(@PageableDefault(size = 20, sort = "createdDatetime", direction = Sort.Direction.DESC) Pageable pageable, @ApiIgnore @LoginUserId Long userId) {
+        Page<AlarmResponse> alarmResponses = alarmService.findByFollowingReview(pageable, userId);
 
         return ResultResponse.success(alarmResponses);
     }
@@ -37,18 +39,38 @@ public class AlarmController {
     @Authorized
     @ApiOperation(value = "나의 새로운 알림 조회")
     @GetMapping("/new")
-    public ResultResponse<Page<AlarmResponse>> getNewAlarms(@PageableDefault(size = 20, sort = "createdDatetime", direction = Sort.Direction.DESC) Pageable pageable, @ApiIgnore Authentication authentication) {
-        Page<AlarmResponse> alarmResponses = alarmService.getNewAlarms(pageable, authentication.getName());
+    public ResultResponse<Page<AlarmResponse>> getNewAlarms(@PageableDefault(size = 20, sort = "createdDatetime", direction = Sort.Direction.DESC) Pageable pageable, @ApiIgnore @LoginUserId Long userId) {
+        Page<AlarmResponse> alarmResponses = alarmService.getNewAlarms(pageable, userId);
 
         return ResultResponse.success(alarmResponses);
     }
 
+    @Authorized
+    @ApiOperation(value = "나의 읽지 않은 알림 수 조회")
+    @GetMapping("/unread-count")
+    public ResultResponse<Long> countUnread(@ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(alarmService.countUnread(userId));
+    }
+
+    @Authorized
+    @ApiOperation(value = "새로운 알림 구독")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId, @ApiIgnore @LoginUserId Long userId) {
+        return alarmService.subscribe(userId, lastEventId);
+    }
+
     @Authorized
     @ApiOperation(value = "알림 읽음 처리")
     @PostMapping("/{id}/confirm")
-    public ResultResponse<String> doConfirm(@PathVariable Long id, @ApiIgnore Authentication authentication) {
-        String email = authentication.getName();
-        String result = alarmService.doConfirm(email, id);
+    public ResultResponse<String> doConfirm(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        String result = alarmService.doConfirm(userId, id);
         return ResultResponse.success(result);
     }
+
+    @Authorized
+    @ApiOperation(value = "모든 알림 읽음 처리")
+    @PostMapping("/confirm")
+    public ResultResponse<String> confirmAll(@ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(alarmService.confirmAll(userId));
+    }
 }
\ No newline at end of file
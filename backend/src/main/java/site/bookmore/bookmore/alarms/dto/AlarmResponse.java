@@ -1,6 +1,7 @@
 package site.bookmore.bookmore.alarms.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import site.bookmore.bookmore.alarms.entity.Alarm;
 import site.bookmore.bookmore.alarms.entity.AlarmType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @AllArgsConstructor
@@ -17,12 +19,19 @@ import java.util.Map;
 @Getter
 @Builder
 public class AlarmResponse {
+    private static final int RECENT_ACTORS = 5;
 
     private Long id;
+    // SSE 이벤트 id
+    @JsonIgnore
+    private Long eventId;
     private AlarmType alarmType;
     private boolean confirmed;
     private Long fromUserId;
     private String fromUserNickname;
+    // 묶인 알림 수와 최근 보낸 사람 id
+    private int actorCount;
+    private List<Long> recentActorIds;
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private Map<String, Object> source;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
@@ -31,10 +40,13 @@ public class AlarmResponse {
     public static AlarmResponse of(Alarm alarm, Map<String, Object> source) {
         return AlarmResponse.builder()
                 .id(alarm.getId())
+                .eventId(alarm.getEventId())
                 .alarmType(alarm.getAlarmType())
                 .confirmed(alarm.isConfirmed())
                 .fromUserId(alarm.getFromUser().getId())
                 .fromUserNickname(alarm.getFromUser().getNickname())
+                .actorCount(alarm.getActorCount())
+                .recentActorIds(alarm.getRecentActorIds(RECENT_ACTORS))
                 .source(source)
                 .createdDatetime(alarm.getCreatedDatetime())
                 .build();
@@ -9,15 +9,28 @@ import site.bookmore.bookmore.common.entity.BaseEntity;
 import site.bookmore.bookmore.users.entity.User;
 
 import javax.persistence.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "alarm")
+@Table(name = "alarm", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_alarm_event_key", columnNames = "event_key"),
+        @UniqueConstraint(name = "uk_alarm_group_key", columnNames = "group_key")
+}, indexes = {
+        @Index(name = "idx_alarm_target_confirmed_created", columnList = "target_user, confirmed, deleted_datetime, created_datetime"),
+        @Index(name = "idx_alarm_target_created", columnList = "target_user, deleted_datetime, created_datetime"),
+        @Index(name = "idx_alarm_created", columnList = "created_datetime"),
+        @Index(name = "idx_alarm_target_event", columnList = "target_user, event_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Alarm extends BaseEntity {
+    public static final int RECENT_ACTORS_LENGTH = 120;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,6 +45,24 @@ public class Alarm extends BaseEntity {
     @Column(nullable = false)
     private boolean confirmed;
 
+    // 마지막으로 반영한 outbox 이벤트 id. 묶인 행은 합쳐질 때마다 커지므로 SSE 이벤트 id 로 사용한다.
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // outbox 이벤트 id 와 수신자 id. 같은 이벤트가 다시 전달되어도 알림이 중복 생성되지 않는다.
+    @Column(name = "event_key", length = 40)
+    private String eventKey;
+
+    // 같은 알림을 한 행으로 묶는 키. 묶지 않는 알림은 null
+    @Column(name = "group_key", length = 80)
+    private String groupKey;
+
+    // 묶인 알림 수와 최근 보낸 사람 id (최신순, 쉼표 구분)
+    private int actorCount;
+
+    @Column(length = RECENT_ACTORS_LENGTH)
+    private String recentActors;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "target_user", nullable = false, foreignKey = @ForeignKey(name = "fk_alarm_target_user"))
     private User targetUser;
@@ -40,6 +71,24 @@ public class Alarm extends BaseEntity {
     @JoinColumn(name = "from_user", nullable = false, foreignKey = @ForeignKey(name = "fk_alarm_from_user"))
     private User fromUser;
 
+    public int getActorCount() {
+        return Math.max(1, actorCount);
+    }
+
+    // 최근 보낸 사람 id 를 중복 없이 최대 limit 개 반환
+    // 길이 제한에 닿았으면 마지막 id 가 중간에 잘렸을 수 있으므로 버린다.
+    public List<Long> getRecentActorIds(int limit) {
+        if (recentActors == null || recentActors.isEmpty()) return List.of(fromUser.getId());
+        String actors = recentActors.length() < RECENT_ACTORS_LENGTH ? recentActors
+                : recentActors.substring(0, Math.max(0, recentActors.lastIndexOf(',')));
+        return Arrays.stream(actors.split(","))
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .distinct()
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     public void confirm() {
         setConfirm();
     }
@@ -0,0 +1,204 @@
+package site.bookmore.bookmore.alarms.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import site.bookmore.bookmore.alarms.entity.Alarm;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 팔로워 알림처럼 같은 내용의 알림을 여러 사용자에게 보낼 때 사용한다.
+ * Alarm 은 IDENTITY 전략이라 Hibernate 가 INSERT 를 묶지 못하므로, chunk 단위 multi-row INSERT 를 직접 실행한다.
+ * 같은 이벤트가 다시 전달되면 event_key 유니크 제약으로 이미 저장된 알림은 건너뛰고, 반환하는 수신자에서도 뺀다.
+ *
+ * 묶음 대상 알림은 group_key 가 같은 행에 합쳐 보낸 사람 수와 최근 보낸 사람만 갱신한다.
+ * - 묶음 (coalesce) : 같은 수신자, 종류, 대상의 알림을 window 시간 단위로 묶고, 서로 다른 보낸 사람 수를 센다. (예 : 리뷰 좋아요)
+ *   최근 보낸 사람 목록에서 밀려난 사람이 다시 보내면 한 번 더 센다.
+ * - 요약 (digest) : 같은 수신자, 종류, 보낸 사람의 알림을 하루 단위로 묶고, 알림 수를 센다. (예 : 팔로잉의 새 리뷰)
+ * 묶인 행은 마지막 이벤트의 event_key 를 가지므로 같은 이벤트가 바로 다시 전달되면 수를 늘리지 않지만, 더 이전 이벤트가 다시 전달되면 한 번 더 셀 수 있다.
+ * 읽었거나 삭제한 행에 묶이면 다시 읽지 않은 알림이 되어 목록 맨 위로 올라온다.
+ * 최근 보낸 사람은 길이 제한에서 잘라 저장하고, 잘려 남은 마지막 id 는 읽을 때 버린다.
+ *
+ * 반환값은 수신자별 읽지 않은 알림 수 증가 여부로, 새로 저장했거나 읽음 | 삭제 상태였던 행을 되살린 경우에만 true 이다.
+ * 저장 전에 기존 행을 조회해 판단하므로 같은 묶음에 동시에 저장하면 한 번 더 셀 수 있으며, 이는 UnreadCountReconciler 가 맞춘다.
+ */
+@Repository
+public class AlarmBatchRepository {
+    private static final String INSERT_SQL = "INSERT INTO alarm " +
+            "(alarm_type, source_id, confirmed, target_user, from_user, event_id, event_key, group_key, actor_count, recent_actors, " +
+            "created_datetime, last_modified_datetime) VALUES ";
+    private static final String ROW = "(?, ?, false, ?, ?, ?, ?, ?, 1, ?, ?, ?)";
+    private static final String ON_DUPLICATE = " ON DUPLICATE KEY UPDATE id = id";
+    // 최근 보낸 사람에 이번 보낸 사람이 있는지. 길이 제한에 닿았으면 잘렸을 수 있는 마지막 id 는 비교하지 않는다.
+    private static final String KNOWN_ACTOR = "LOCATE(CONCAT(',', VALUES(from_user), ','), CONCAT(',', COALESCE(recent_actors, ''), " +
+            "CASE WHEN CHAR_LENGTH(recent_actors) < " + Alarm.RECENT_ACTORS_LENGTH + " THEN ',' ELSE '' END)) > 0";
+    private static final String PREPEND_ACTOR = "LEFT(CONCAT(VALUES(recent_actors), ',', COALESCE(recent_actors, '')), " + Alarm.RECENT_ACTORS_LENGTH + ")";
+    // 묶음은 서로 다른 보낸 사람 수를 세므로, 최근 보낸 사람에 이미 있으면 수와 목록을 그대로 둔다.
+    private static final String ON_DUPLICATE_COALESCE = onDuplicateGroup(
+            "WHEN " + KNOWN_ACTOR + " THEN actor_count ELSE actor_count + 1",
+            "WHEN " + KNOWN_ACTOR + " THEN recent_actors ELSE " + PREPEND_ACTOR);
+    // 요약은 보낸 사람이 한 명이므로 알림 수를 센다.
+    private static final String ON_DUPLICATE_DIGEST = onDuplicateGroup("ELSE actor_count + 1", "ELSE " + PREPEND_ACTOR);
+    private static final String SELECT_DELIVERED_SQL = "SELECT target_user FROM alarm WHERE event_key IN ";
+    private static final String SELECT_GROUPED_SQL = "SELECT target_user, event_key, confirmed, deleted_datetime FROM alarm WHERE group_key IN ";
+    private static final int COLUMNS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Set<AlarmType> coalescedTypes;
+    private final Set<AlarmType> digestTypes;
+    private final long windowMinutes;
+
+    public AlarmBatchRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${alarm.batch.chunk-size:500}") int chunkSize,
+                                @Value("${alarm.coalesce.types:NEW_LIKE_ON_REVIEW}") Set<AlarmType> coalescedTypes,
+                                @Value("${alarm.digest.types:}") Set<AlarmType> digestTypes,
+                                @Value("${alarm.coalesce.window-minutes:60}") long windowMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.coalescedTypes = coalescedTypes;
+        this.digestTypes = digestTypes;
+        this.windowMinutes = windowMinutes;
+    }
+
+    // 이번 호출로 알림이 저장되거나 갱신된 수신자 id 와 읽지 않은 알림 수 증가 여부. 이미 이 이벤트의 알림을 받은 수신자는 빠진다.
+    public Map<Long, Boolean> insertAll(Long eventId, AlarmType alarmType, Long fromUserId, Long source, List<Long> targetUserIds) {
+        if (targetUserIds.isEmpty()) return Map.of();
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        boolean grouped = isGrouped(alarmType);
+        String onDuplicate = onDuplicate(alarmType);
+        int fullChunkRows = Math.min(chunkSize, targetUserIds.size());
+        String fullChunkSql = insertSql(fullChunkRows, onDuplicate);
+        Map<Long, Boolean> stored = new LinkedHashMap<>();
+        for (int from = 0; from < targetUserIds.size(); from += chunkSize) {
+            List<Long> chunk = targetUserIds.subList(from, Math.min(from + chunkSize, targetUserIds.size()));
+            String[] groupKeys = new String[chunk.size()];
+            for (int row = 0; row < chunk.size(); row++) {
+                groupKeys[row] = groupKey(alarmType, chunk.get(row), fromUserId, source, now);
+            }
+            if (grouped) {
+                collectGrouped(eventId, chunk, groupKeys, stored);
+            } else {
+                collectDelivered(eventId, chunk, stored);
+            }
+
+            Object[] args = new Object[chunk.size() * COLUMNS];
+            int i = 0;
+            for (int row = 0; row < chunk.size(); row++) {
+                Long targetUserId = chunk.get(row);
+                args[i++] = alarmType.name();
+                args[i++] = source;
+                args[i++] = targetUserId;
+                args[i++] = fromUserId;
+                args[i++] = eventId;
+                args[i++] = eventId + ":" + targetUserId;
+                args[i++] = groupKeys[row];
+                args[i++] = String.valueOf(fromUserId);
+                args[i++] = timestamp;
+                args[i++] = timestamp;
+            }
+            String sql = chunk.size() == fullChunkRows ? fullChunkSql : insertSql(chunk.size(), onDuplicate);
+            jdbcTemplate.update(sql, args);
+        }
+        return stored;
+    }
+
+    // 이미 이 이벤트의 알림이 있는 수신자는 빼고, 나머지는 새로 저장되므로 true
+    private void collectDelivered(Long eventId, List<Long> chunk, Map<Long, Boolean> stored) {
+        Object[] eventKeys = new Object[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            eventKeys[i] = eventId + ":" + chunk.get(i);
+        }
+        Set<Long> delivered = new HashSet<>(jdbcTemplate.queryForList(SELECT_DELIVERED_SQL + placeholders(chunk.size()), Long.class, eventKeys));
+        for (Long targetUserId : chunk) {
+            if (!delivered.contains(targetUserId)) stored.put(targetUserId, true);
+        }
+    }
+
+    // 묶인 행이 이미 이 이벤트를 반영했으면 빼고, 읽지 않은 상태로 남아있던 행에 묶이는 경우만 false
+    private void collectGrouped(Long eventId, List<Long> chunk, String[] groupKeys, Map<Long, Boolean> stored) {
+        Set<Long> delivered = new HashSet<>();
+        Set<Long> unread = new HashSet<>();
+        jdbcTemplate.query(SELECT_GROUPED_SQL + placeholders(groupKeys.length), (RowCallbackHandler) rs -> {
+            long targetUserId = rs.getLong("target_user");
+            if ((eventId + ":" + targetUserId).equals(rs.getString("event_key"))) {
+                delivered.add(targetUserId);
+            } else if (!rs.getBoolean("confirmed") && rs.getTimestamp("deleted_datetime") == null) {
+                unread.add(targetUserId);
+            }
+        }, (Object[]) groupKeys);
+        for (Long targetUserId : chunk) {
+            if (!delivered.contains(targetUserId)) stored.put(targetUserId, !unread.contains(targetUserId));
+        }
+    }
+
+    private boolean isGrouped(AlarmType alarmType) {
+        return digestTypes.contains(alarmType) || coalescedTypes.contains(alarmType);
+    }
+
+    private String onDuplicate(AlarmType alarmType) {
+        if (digestTypes.contains(alarmType)) return ON_DUPLICATE_DIGEST;
+        if (coalescedTypes.contains(alarmType)) return ON_DUPLICATE_COALESCE;
+        return ON_DUPLICATE;
+    }
+
+    private String groupKey(AlarmType alarmType, Long targetUserId, Long fromUserId, Long source, LocalDateTime now) {
+        if (digestTypes.contains(alarmType)) {
+            return alarmType.name() + ":" + targetUserId + ":u" + fromUserId + ":" + now.toLocalDate();
+        }
+        if (coalescedTypes.contains(alarmType)) {
+            long window = now.toEpochSecond(ZoneOffset.UTC) / 60 / windowMinutes;
+            return alarmType.name() + ":" + targetUserId + ":s" + source + ":" + window;
+        }
+        return null;
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder sql = new StringBuilder(count * 3 + 1).append('(');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append('?');
+        }
+        return sql.append(')').toString();
+    }
+
+    // MySQL 은 왼쪽부터 대입하므로 event_key 를 바꾸기 전에 같은 이벤트인지, deleted_datetime 을 지우기 전에 삭제된 행인지 비교한다.
+    // 같은 이벤트가 다시 전달되면 읽음, 삭제 상태를 그대로 두고, 삭제된 행은 보낸 사람을 처음부터 다시 센다.
+    // event_id 는 합쳐질 때마다 커지므로 재연결 시 갱신된 묶음 행도 다시 보낸다. 이전 이벤트가 다시 전달되어도 줄이지 않는다.
+    private static String onDuplicateGroup(String actorCount, String recentActors) {
+        return " ON DUPLICATE KEY UPDATE " +
+                "actor_count = CASE WHEN event_key = VALUES(event_key) THEN actor_count " +
+                "WHEN deleted_datetime IS NOT NULL THEN 1 " + actorCount + " END, " +
+                "recent_actors = CASE WHEN event_key = VALUES(event_key) THEN recent_actors " +
+                "WHEN deleted_datetime IS NOT NULL THEN VALUES(recent_actors) " + recentActors + " END, " +
+                "confirmed = CASE WHEN event_key = VALUES(event_key) THEN confirmed ELSE false END, " +
+                "deleted_datetime = CASE WHEN event_key = VALUES(event_key) THEN deleted_datetime ELSE NULL END, " +
+                "created_datetime = CASE WHEN event_key = VALUES(event_key) THEN created_datetime ELSE VALUES(created_datetime) END, " +
+                "source_id = VALUES(source_id), " +
+                "from_user = VALUES(from_user), " +
+                "event_id = GREATEST(COALESCE(event_id, 0), VALUES(event_id)), " +
+                "event_key = VALUES(event_key), " +
+                "last_modified_datetime = VALUES(last_modified_datetime)";
+    }
+
+    private static String insertSql(int rows, String onDuplicate) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL.length() + rows * (ROW.length() + 2) + onDuplicate.length()).append(INSERT_SQL);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+        }
+        return sql.append(onDuplicate).toString();
+    }
+}
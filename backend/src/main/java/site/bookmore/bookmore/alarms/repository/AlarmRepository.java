@@ -2,16 +2,67 @@ package site.bookmore.bookmore.alarms.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.bookmore.bookmore.alarms.entity.Alarm;
-import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+import site.bookmore.bookmore.alarms.vo.UnreadCountVo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
-    Page<Alarm> findByTargetUserAndDeletedDatetimeIsNull(User target, Pageable pageable);
+    @EntityGraph(attributePaths = "fromUser")
+    Page<Alarm> findByTargetUserIdAndDeletedDatetimeIsNull(Long targetUserId, Pageable pageable);
 
-    Page<Alarm> findByTargetUserAndConfirmedIsFalseAndDeletedDatetimeIsNull(User target, Pageable pageable);
+    @EntityGraph(attributePaths = "fromUser")
+    Page<Alarm> findByTargetUserIdAndConfirmedIsFalseAndDeletedDatetimeIsNull(Long targetUserId, Pageable pageable);
 
-    List<Alarm> findByFromUser(User fromUser);
+    long countByTargetUserIdAndConfirmedIsFalseAndDeletedDatetimeIsNull(Long targetUserId);
+
+    // 읽지 않은 알림 수 보정용
+    @Query("select a.targetUser.id as userId, count(a) as count from Alarm a " +
+            "where a.targetUser.id in :userIds and a.confirmed = false and a.deletedDatetime is null " +
+            "group by a.targetUser.id")
+    List<UnreadCountVo> countUnreadByTargetUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("update Alarm a set a.confirmed = true, a.lastModifiedDatetime = :now " +
+            "where a.targetUser.id = :userId and a.confirmed = false and a.deletedDatetime is null")
+    int confirmAllByTargetUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 실시간 전송용. 이벤트로 저장된 알림을 보낸 사람과 함께 조회
+    @Query("select a from Alarm a join fetch a.fromUser where a.eventKey in :eventKeys")
+    List<Alarm> findAllWithFromUserByEventKeyIn(@Param("eventKeys") Collection<String> eventKeys);
+
+    // 재연결 시 마지막으로 받은 이벤트 이후에 저장되거나 갱신된 알림
+    @Query("select a from Alarm a join fetch a.fromUser " +
+            "where a.targetUser.id = :userId and a.eventId > :lastId and a.deletedDatetime is null " +
+            "order by a.eventId asc")
+    List<Alarm> findMissed(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 탈퇴 정리용. 보낸 알림 id 를 커서 이후부터 오름차순으로 조회
+    @Query("select a.id from Alarm a " +
+            "where a.fromUser.id = :userId and a.alarmType = :alarmType and a.id > :cursor and a.deletedDatetime is null " +
+            "order by a.id asc")
+    List<Long> findIdsByFromUserAfter(@Param("userId") Long userId, @Param("alarmType") AlarmType alarmType,
+                                      @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("update Alarm a set a.deletedDatetime = :now, a.lastModifiedDatetime = :now where a.id in :ids")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 보관 기간 정리용. 기준 시각 이전에 생성된 읽은 알림과 삭제된 알림
+    @Query("select a.id from Alarm a " +
+            "where a.createdDatetime < :cutoff and (a.confirmed = true or a.deletedDatetime is not null) " +
+            "order by a.createdDatetime asc")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Alarm a where a.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,51 @@
+package site.bookmore.bookmore.alarms.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 읽은 알림과 삭제된 알림을 chunk 단위로 삭제한다.
+ * chunk 마다 별도 트랜잭션으로 삭제하므로 긴 잠금 없이 진행되며, 중간에 실패하더라도 다음 실행에서 남은 알림부터 이어서 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmRetentionJob {
+    private final AlarmRepository alarmRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${alarm.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${alarm.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${schedule.alarm-retention.delaytime:0 0 17 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        int rows;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> deleteChunk(cutoff));
+            rows = chunk == null ? 0 : chunk;
+            deleted += rows;
+        } while (rows == chunkSize);
+        log.info("알림 보관 기간 정리 완료 기준 : {}, 삭제 : {}", cutoff, deleted);
+    }
+
+    private int deleteChunk(LocalDateTime cutoff) {
+        List<Long> ids = alarmRepository.findExpiredIds(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) return 0;
+        alarmRepository.deleteAllByIdIn(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,42 @@
+package site.bookmore.bookmore.alarms.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+import site.bookmore.bookmore.alarms.util.UnreadCounter;
+import site.bookmore.bookmore.alarms.vo.UnreadCountVo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시된 읽지 않은 알림 수를 stripe 별로 chunk 단위로 DB 에서 다시 세어 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconciler {
+    private final AlarmRepository alarmRepository;
+    private final UnreadCounter unreadCounter;
+
+    @Value("${alarm.unread.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(fixedDelayString = "${alarm.unread.reconcile-delay:60000}")
+    public void reconcile() {
+        for (int stripe = 0; stripe < unreadCounter.stripeCount(); stripe++) {
+            List<Long> userIds = new ArrayList<>(unreadCounter.userIds(stripe));
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+                Map<Long, Long> counts = alarmRepository.countUnreadByTargetUserIdIn(chunk).stream()
+                        .collect(Collectors.toMap(UnreadCountVo::getUserId, UnreadCountVo::getCount));
+                unreadCounter.reconcile(chunk, counts);
+            }
+        }
+    }
+}
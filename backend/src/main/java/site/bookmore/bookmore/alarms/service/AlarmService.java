@@ -2,56 +2,64 @@ package site.bookmore.bookmore.alarms.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import site.bookmore.bookmore.alarms.dto.AlarmResponse;
 import site.bookmore.bookmore.alarms.entity.Alarm;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
 import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+import site.bookmore.bookmore.alarms.util.AlarmEmitters;
+import site.bookmore.bookmore.alarms.util.UnreadCounter;
 import site.bookmore.bookmore.books.entity.Book;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateConfirmedException;
 import site.bookmore.bookmore.common.exception.forbidden.InvalidPermissionException;
 import site.bookmore.bookmore.common.exception.not_found.AlarmNotFoundException;
-import site.bookmore.bookmore.common.exception.not_found.ReviewNotFoundException;
-import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
+import site.bookmore.bookmore.reviews.entity.Review;
 import site.bookmore.bookmore.reviews.repository.ReviewRepository;
-import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.UserRepository;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AlarmService {
-    private final UserRepository userRepository;
+    private static final int REPLAY_LIMIT = 100;
+
     private final ReviewRepository reviewRepository;
     private final AlarmRepository alarmRepository;
+    private final AlarmEmitters alarmEmitters;
+    private final UnreadCounter unreadCounter;
 
     /**
      * 나의 모든 알림 조회
      */
-    public Page<AlarmResponse> findByFollowingReview(Pageable pageable, String email) {
-        User target = userRepository.findByEmailAndDeletedDatetimeIsNull(email).orElseThrow(UserNotFoundException::new);
-        return alarmRepository.findByTargetUserAndDeletedDatetimeIsNull(target, pageable).map(getAlarmResponse());
+    public Page<AlarmResponse> findByFollowingReview(Pageable pageable, Long userId) {
+        Page<Alarm> alarms = alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(userId, pageable);
+        return alarms.map(getAlarmResponse(alarms.getContent()));
     }
 
     /**
      * 나의 새로운 알림 조회
      */
-    public Page<AlarmResponse> getNewAlarms(Pageable pageable, String email) {
-        User target = userRepository.findByEmail(email).orElseThrow(UserNotFoundException::new);
-        return alarmRepository.findByTargetUserAndConfirmedIsFalseAndDeletedDatetimeIsNull(target, pageable).map(getAlarmResponse());
+    public Page<AlarmResponse> getNewAlarms(Pageable pageable, Long userId) {
+        Page<Alarm> alarms = alarmRepository.findByTargetUserIdAndConfirmedIsFalseAndDeletedDatetimeIsNull(userId, pageable);
+        return alarms.map(getAlarmResponse(alarms.getContent()));
     }
 
     @Transactional
-    public String doConfirm(String email, Long alarmId) {
-        User target = userRepository.findByEmail(email).orElseThrow(UserNotFoundException::new);
+    public String doConfirm(Long userId, Long alarmId) {
         Alarm alarm = alarmRepository.findById(alarmId).orElseThrow(AlarmNotFoundException::new);
 
-        if (!Objects.equals(target.getEmail(), alarm.getTargetUser().getEmail())) {
+        if (!Objects.equals(userId, alarm.getTargetUser().getId())) {
             throw new InvalidPermissionException();
         }
 
@@ -60,26 +68,87 @@ public class AlarmService {
         }
 
         alarm.confirm();
+        unreadCounter.add(List.of(userId), -1);
         return "알림이 읽음 처리되었습니다.";
     }
 
-    private Function<Alarm, AlarmResponse> getAlarmResponse() {
+    /**
+     * 나의 읽지 않은 알림 수. 캐시에 없을 때만 DB 에서 센다.
+     */
+    public long countUnread(Long userId) {
+        return unreadCounter.get(userId, alarmRepository::countByTargetUserIdAndConfirmedIsFalseAndDeletedDatetimeIsNull);
+    }
+
+    /**
+     * 나의 모든 알림 읽음 처리
+     */
+    @Transactional
+    public String confirmAll(Long userId) {
+        alarmRepository.confirmAllByTargetUserId(userId, LocalDateTime.now());
+        unreadCounter.reset(userId);
+        return "모든 알림이 읽음 처리되었습니다.";
+    }
+
+    /**
+     * 새로운 알림 구독. Last-Event-ID 가 있으면 그 이후의 알림부터 보낸다.
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        List<Alarm> alarms = lastEventId == null ? List.of()
+                : alarmRepository.findMissed(userId, lastEventId, PageRequest.of(0, REPLAY_LIMIT));
+        List<AlarmResponse> missed = alarms.stream()
+                .map(getAlarmResponse(alarms))
+                .collect(Collectors.toList());
+        return alarmEmitters.subscribe(userId, missed);
+    }
+
+    /**
+     * 새로 저장했거나 다시 읽지 않은 상태가 된 알림만 읽지 않은 알림 수에 반영하고, 이 서버에 연결 중인 수신자에게만 전송
+     */
+    public void push(Long eventId, Map<Long, Boolean> targets) {
+        List<Long> unreadUserIds = targets.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        unreadCounter.add(unreadUserIds, 1);
+
+        List<String> eventKeys = targets.keySet().stream()
+                .filter(alarmEmitters::isConnected)
+                .map(targetUserId -> eventId + ":" + targetUserId)
+                .collect(Collectors.toList());
+        if (eventKeys.isEmpty()) return;
+
+        List<Alarm> alarms = alarmRepository.findAllWithFromUserByEventKeyIn(eventKeys);
+        Function<Alarm, AlarmResponse> toResponse = getAlarmResponse(alarms);
+        for (Alarm alarm : alarms) {
+            alarmEmitters.send(alarm.getTargetUser().getId(), toResponse.apply(alarm));
+        }
+    }
+
+    /**
+     * 리뷰 알림의 리뷰와 도서를 한 번에 조회. 삭제된 리뷰의 알림은 source 없이 반환한다.
+     */
+    private Function<Alarm, AlarmResponse> getAlarmResponse(List<Alarm> alarms) {
+        Set<Long> reviewIds = alarms.stream()
+                .filter(AlarmService::isReviewAlarm)
+                .map(Alarm::getSource)
+                .collect(Collectors.toSet());
+
+        Map<Long, Book> books = reviewIds.isEmpty() ? Map.of()
+                : reviewRepository.findAllWithBookByIdIn(reviewIds).stream()
+                .collect(Collectors.toMap(Review::getId, Review::getBook));
+
         return alarm -> {
             Map<String, Object> source = new HashMap<>();
-            switch (alarm.getAlarmType()) {
-                case NEW_FOLLOW_REVIEW:
-                case NEW_LIKE_ON_REVIEW:
-                    Long reviewId = alarm.getSource();
-                    Book book = reviewRepository.findById(reviewId)
-                            .orElseThrow(ReviewNotFoundException::new)
-                            .getBook();
-
-                    source.put("isbn", book.getId());
-                    source.put("title", book.getTitle());
-
-                default:
+            Book book = isReviewAlarm(alarm) ? books.get(alarm.getSource()) : null;
+            if (book != null) {
+                source.put("isbn", book.getId());
+                source.put("title", book.getTitle());
             }
             return AlarmResponse.of(alarm, source);
         };
     }
-}
\ No newline at end of file
+
+    private static boolean isReviewAlarm(Alarm alarm) {
+        return alarm.getAlarmType() == AlarmType.NEW_FOLLOW_REVIEW || alarm.getAlarmType() == AlarmType.NEW_LIKE_ON_REVIEW;
+    }
+}
@@ -0,0 +1,118 @@
+package site.bookmore.bookmore.alarms.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import site.bookmore.bookmore.alarms.dto.AlarmResponse;
+import site.bookmore.bookmore.common.exception.service_unavailable.TooManyConnectionsException;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이 서버에 연결된 사용자별 알림 SSE 연결
+ * 이벤트 id 는 알림에 마지막으로 반영된 outbox 이벤트 id 로, 재연결 시 Last-Event-ID 이후에 저장되거나 갱신된 알림을 다시 보내는 데 사용한다.
+ */
+@Slf4j
+@Component
+public class AlarmEmitters {
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+    private static final int MAX_EMITTERS_PER_USER = 5;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final int maxConnections;
+
+    public AlarmEmitters(@Value("${alarm.sse.max-connections:10000}") int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public SseEmitter subscribe(Long userId, List<AlarmResponse> missed) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new TooManyConnectionsException();
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        // 같은 사용자의 연결이 너무 많으면 가장 오래된 연결부터 닫는다.
+        List<SseEmitter> evicted = new ArrayList<>();
+        emitters.compute(userId, (id, userEmitters) -> {
+            List<SseEmitter> list = userEmitters == null ? new CopyOnWriteArrayList<>() : userEmitters;
+            list.add(emitter);
+            while (list.size() > MAX_EMITTERS_PER_USER) {
+                evicted.add(list.remove(0));
+                connections.decrementAndGet();
+            }
+            return list;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+            for (AlarmResponse alarm : missed) {
+                emitter.send(event(alarm));
+            }
+        } catch (IOException e) {
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    public void send(Long userId, AlarmResponse alarm) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) return;
+        for (SseEmitter emitter : userEmitters) {
+            try {
+                emitter.send(event(alarm));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        }
+    }
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 주석을 보내고, 끊어진 연결을 정리한다.
+    @Scheduled(fixedDelayString = "${alarm.sse.heartbeat-delay:15000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userId, emitter);
+                }
+            }
+        });
+    }
+
+    public int size() {
+        return connections.get();
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            if (userEmitters.remove(emitter)) connections.decrementAndGet();
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder event(AlarmResponse alarm) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name("alarm")
+                .data(alarm);
+        return alarm.getEventId() == null ? event : event.id(String.valueOf(alarm.getEventId()));
+    }
+}
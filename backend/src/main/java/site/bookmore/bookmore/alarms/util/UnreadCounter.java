@@ -0,0 +1,85 @@
+package site.bookmore.bookmore.alarms.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 사용자별 읽지 않은 알림 수
+ * 사용자 id 로 stripe 를 나누어 보관하며, 처음 조회한 사용자만 DB 에서 읽어 캐시한다.
+ * 알림 생성과 읽음 처리 시 값을 바로 갱신하고, 다른 서버에서 생성된 알림이나 놓친 갱신은 주기적으로 DB 값과 맞춘다.
+ */
+@Component
+public class UnreadCounter {
+    private final List<Map<Long, AtomicLong>> stripes;
+    private final int maxUsersPerStripe;
+
+    public UnreadCounter(@Value("${alarm.unread.stripes:16}") int stripes,
+                         @Value("${alarm.unread.max-users:100000}") int maxUsers) {
+        List<Map<Long, AtomicLong>> list = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            list.add(new ConcurrentHashMap<>());
+        }
+        this.stripes = Collections.unmodifiableList(list);
+        this.maxUsersPerStripe = Math.max(1, maxUsers / stripes);
+    }
+
+    // 캐시에 없으면 loader 로 DB 에서 읽어 보관
+    public long get(Long userId, Function<Long, Long> loader) {
+        Map<Long, AtomicLong> stripe = stripe(userId);
+        AtomicLong count = stripe.get(userId);
+        if (count != null) return count.get();
+
+        long loaded = loader.apply(userId);
+        if (stripe.size() >= maxUsersPerStripe) evictOne(stripe);
+        AtomicLong previous = stripe.putIfAbsent(userId, new AtomicLong(loaded));
+        return previous == null ? loaded : previous.get();
+    }
+
+    // 캐시에 있는 사용자만 갱신. 없는 사용자는 다음 조회 시 DB 에서 읽는다.
+    public void add(Collection<Long> userIds, long delta) {
+        for (Long userId : userIds) {
+            AtomicLong count = stripe(userId).get(userId);
+            if (count == null) continue;
+            count.accumulateAndGet(delta, (current, d) -> Math.max(0, current + d));
+        }
+    }
+
+    public void reset(Long userId) {
+        AtomicLong count = stripe(userId).get(userId);
+        if (count != null) count.set(0);
+    }
+
+    public int stripeCount() {
+        return stripes.size();
+    }
+
+    public Set<Long> userIds(int stripe) {
+        return new HashSet<>(stripes.get(stripe).keySet());
+    }
+
+    // DB 에서 센 값으로 교체. 조회 결과에 없는 사용자는 읽지 않은 알림이 없는 것으로 본다.
+    public void reconcile(Collection<Long> userIds, Map<Long, Long> counts) {
+        for (Long userId : userIds) {
+            AtomicLong count = stripe(userId).get(userId);
+            if (count == null) continue;
+            count.set(counts.getOrDefault(userId, 0L));
+        }
+    }
+
+    private Map<Long, AtomicLong> stripe(Long userId) {
+        return stripes.get((int) Math.floorMod(userId, (long) stripes.size()));
+    }
+
+    private static void evictOne(Map<Long, AtomicLong> stripe) {
+        Iterator<Long> it = stripe.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
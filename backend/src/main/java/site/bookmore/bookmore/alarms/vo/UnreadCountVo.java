@@ -0,0 +1,7 @@
+package site.bookmore.bookmore.alarms.vo;
+
+public interface UnreadCountVo {
+    Long getUserId();
+
+    Long getCount();
+}
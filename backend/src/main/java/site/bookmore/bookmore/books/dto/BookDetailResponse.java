@@ -31,6 +31,14 @@ public class BookDetailResponse {
     private String chapter;
     private String introduce;
     private int price;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BookStatsResponse stats;
+
+    public static BookDetailResponse of(Book book, BookStatsResponse stats) {
+        BookDetailResponse response = of(book);
+        response.stats = stats;
+        return response;
+    }
 
     public static BookDetailResponse of(Book book) {
         return BookDetailResponse.builder()
@@ -0,0 +1,36 @@
+package site.bookmore.bookmore.books.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.bookmore.bookmore.books.entity.BookStats;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookStatsResponse {
+    private long reviewCount;
+    private ChartStatResponse professionalism;
+    private ChartStatResponse fun;
+    private ChartStatResponse readability;
+    private ChartStatResponse collectible;
+    private ChartStatResponse difficulty;
+
+    public static BookStatsResponse of(BookStats stats) {
+        long count = stats.getReviewCount();
+        return BookStatsResponse.builder()
+                .reviewCount(count)
+                .professionalism(ChartStatResponse.of(count, stats.getProfessionalismSum(), stats.getProfessionalismSquareSum()))
+                .fun(ChartStatResponse.of(count, stats.getFunSum(), stats.getFunSquareSum()))
+                .readability(ChartStatResponse.of(count, stats.getReadabilitySum(), stats.getReadabilitySquareSum()))
+                .collectible(ChartStatResponse.of(count, stats.getCollectibleSum(), stats.getCollectibleSquareSum()))
+                .difficulty(ChartStatResponse.of(count, stats.getDifficultySum(), stats.getDifficultySquareSum()))
+                .build();
+    }
+
+    public static BookStatsResponse empty(String isbn) {
+        return of(BookStats.builder().id(isbn).build());
+    }
+}
@@ -0,0 +1,27 @@
+package site.bookmore.bookmore.books.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChartStatResponse {
+    private double average;
+    private double standardDeviation;
+
+    public static ChartStatResponse of(long count, long sum, long squareSum) {
+        if (count <= 0) return new ChartStatResponse(0, 0);
+
+        double average = (double) sum / count;
+        double variance = Math.max(0, (double) squareSum / count - average * average);
+
+        return ChartStatResponse.builder()
+                .average(average)
+                .standardDeviation(Math.sqrt(variance))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package site.bookmore.bookmore.books.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 도서별 리뷰 차트 집계
+ * 리뷰 등록, 수정, 삭제 시 원자적 UPSERT 로 누적되며 평균과 표준편차는 합과 제곱합으로 계산한다.
+ */
+@Entity
+@Table(name = "book_stats")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookStats {
+    @Id
+    @Column(name = "book_id")
+    private String id;
+
+    private long reviewCount;
+
+    private long professionalismSum;
+    private long professionalismSquareSum;
+
+    private long funSum;
+    private long funSquareSum;
+
+    private long readabilitySum;
+    private long readabilitySquareSum;
+
+    private long collectibleSum;
+    private long collectibleSquareSum;
+
+    private long difficultySum;
+    private long difficultySquareSum;
+}
@@ -0,0 +1,62 @@
+package site.bookmore.bookmore.books.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.bookmore.bookmore.books.entity.BookStats;
+
+public interface BookStatsRepository extends JpaRepository<BookStats, String> {
+
+    // 동시에 리뷰가 작성되어도 갱신이 유실되지 않도록 DB 에서 증감한다.
+    @Modifying
+    @Query(value = "INSERT INTO book_stats (book_id, review_count, " +
+            "professionalism_sum, professionalism_square_sum, fun_sum, fun_square_sum, " +
+            "readability_sum, readability_square_sum, collectible_sum, collectible_square_sum, " +
+            "difficulty_sum, difficulty_square_sum) " +
+            "VALUES (:isbn, :count, :professionalism, :professionalismSquare, :fun, :funSquare, " +
+            ":readability, :readabilitySquare, :collectible, :collectibleSquare, :difficulty, :difficultySquare) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "review_count = review_count + VALUES(review_count), " +
+            "professionalism_sum = professionalism_sum + VALUES(professionalism_sum), " +
+            "professionalism_square_sum = professionalism_square_sum + VALUES(professionalism_square_sum), " +
+            "fun_sum = fun_sum + VALUES(fun_sum), " +
+            "fun_square_sum = fun_square_sum + VALUES(fun_square_sum), " +
+            "readability_sum = readability_sum + VALUES(readability_sum), " +
+            "readability_square_sum = readability_square_sum + VALUES(readability_square_sum), " +
+            "collectible_sum = collectible_sum + VALUES(collectible_sum), " +
+            "collectible_square_sum = collectible_square_sum + VALUES(collectible_square_sum), " +
+            "difficulty_sum = difficulty_sum + VALUES(difficulty_sum), " +
+            "difficulty_square_sum = difficulty_square_sum + VALUES(difficulty_square_sum)",
+            nativeQuery = true)
+    void upsert(@Param("isbn") String isbn, @Param("count") long count,
+                @Param("professionalism") long professionalism, @Param("professionalismSquare") long professionalismSquare,
+                @Param("fun") long fun, @Param("funSquare") long funSquare,
+                @Param("readability") long readability, @Param("readabilitySquare") long readabilitySquare,
+                @Param("collectible") long collectible, @Param("collectibleSquare") long collectibleSquare,
+                @Param("difficulty") long difficulty, @Param("difficultySquare") long difficultySquare);
+
+    @Modifying
+    @Query(value = "DELETE FROM book_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    // 삭제되지 않았고 차트가 모두 채워진 리뷰만 집계 (증분 갱신과 동일한 기준)
+    @Modifying
+    @Query(value = "INSERT INTO book_stats (book_id, review_count, " +
+            "professionalism_sum, professionalism_square_sum, fun_sum, fun_square_sum, " +
+            "readability_sum, readability_square_sum, collectible_sum, collectible_square_sum, " +
+            "difficulty_sum, difficulty_square_sum) " +
+            "SELECT r.book_id, COUNT(*), " +
+            "SUM(c.professionalism), SUM(c.professionalism * c.professionalism), " +
+            "SUM(c.fun), SUM(c.fun * c.fun), " +
+            "SUM(c.readability), SUM(c.readability * c.readability), " +
+            "SUM(c.collectible), SUM(c.collectible * c.collectible), " +
+            "SUM(c.difficulty), SUM(c.difficulty * c.difficulty) " +
+            "FROM review r JOIN chart c ON r.chart_id = c.id " +
+            "WHERE r.deleted_datetime IS NULL " +
+            "AND c.professionalism IS NOT NULL AND c.fun IS NOT NULL AND c.readability IS NOT NULL " +
+            "AND c.collectible IS NOT NULL AND c.difficulty IS NOT NULL " +
+            "GROUP BY r.book_id",
+            nativeQuery = true)
+    int insertAllFromReviews();
+}
@@ -0,0 +1,21 @@
+package site.bookmore.bookmore.books.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.books.service.BookStatsService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookStatsScheduler {
+    private final BookStatsService bookStatsService;
+
+    @Scheduled(cron = "${schedule.book-stats.delaytime}")
+    public void scheduleRecomputeTask() {
+        log.info("도서 통계 재계산 스케쥴러 시작");
+        bookStatsService.recomputeAll();
+        log.info("도서 통계 재계산 스케쥴러 완료");
+    }
+}
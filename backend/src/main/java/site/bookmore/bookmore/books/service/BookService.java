@@ -12,6 +12,7 @@ import reactor.core.scheduler.Schedulers;
 import site.bookmore.bookmore.books.dto.BookDetailResponse;
 import site.bookmore.bookmore.books.dto.BookResponse;
 import site.bookmore.bookmore.books.dto.BookSearchParams;
+import site.bookmore.bookmore.books.dto.BookStatsResponse;
 import site.bookmore.bookmore.books.entity.Book;
 import site.bookmore.bookmore.books.repository.BookRepository;
 import site.bookmore.bookmore.books.util.api.kakao.KakaoBookSearch;
@@ -29,6 +30,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BookService {
     private final BookRepository bookRepository;
+    private final BookStatsService bookStatsService;
     private final KakaoBookSearch kakaoBookSearch;
     private final KolisBookSearch kolisBookSearch;
     private final NaverBooksearch naverBooksearch;
@@ -47,7 +49,7 @@ public class BookService {
         if (bookOptional.isPresent()) {
             timer.stop();
             log.info("총 응답 시간 : {}ms", timer.getTotalTimeMillis());
-            return BookDetailResponse.of(bookOptional.get());
+            return BookDetailResponse.of(bookOptional.get(), bookStatsService.find(isbn));
         }
 
         log.info("DB 내 도서 정보 없음");
@@ -74,6 +76,6 @@ public class BookService {
 
         timer.stop();
         log.info("총 응답 시간 : {}ms", timer.getTotalTimeMillis());
-        return BookDetailResponse.of(book);
+        return BookDetailResponse.of(book, BookStatsResponse.empty(book.getId()));
     }
 }
@@ -0,0 +1,77 @@
+package site.bookmore.bookmore.books.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.bookmore.bookmore.books.dto.BookStatsResponse;
+import site.bookmore.bookmore.books.repository.BookStatsRepository;
+import site.bookmore.bookmore.reviews.entity.Chart;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookStatsService {
+    private final BookStatsRepository bookStatsRepository;
+
+    public BookStatsResponse find(String isbn) {
+        return bookStatsRepository.findById(isbn)
+                .map(BookStatsResponse::of)
+                .orElseGet(() -> BookStatsResponse.empty(isbn));
+    }
+
+    // 리뷰 등록
+    @Transactional
+    public void add(String isbn, Chart chart) {
+        apply(isbn, chart, 1);
+    }
+
+    // 리뷰 삭제
+    @Transactional
+    public void remove(String isbn, Chart chart) {
+        apply(isbn, chart, -1);
+    }
+
+    // 리뷰 수정 : 이전 차트를 빼고 새로운 차트를 더한다.
+    @Transactional
+    public void replace(String isbn, Chart before, Chart after) {
+        apply(isbn, before, -1);
+        apply(isbn, after, 1);
+    }
+
+    // 집계가 어긋났을 때 리뷰 테이블로부터 전체 재계산
+    @Transactional
+    public int recomputeAll() {
+        bookStatsRepository.deleteAllStats();
+        int books = bookStatsRepository.insertAllFromReviews();
+        log.info("도서 통계 재계산 완료 : {}권", books);
+        return books;
+    }
+
+    private void apply(String isbn, Chart chart, int sign) {
+        if (!isComplete(chart)) return;
+
+        int professionalism = chart.getProfessionalism();
+        int fun = chart.getFun();
+        int readability = chart.getReadability();
+        int collectible = chart.getCollectible();
+        int difficulty = chart.getDifficulty();
+
+        bookStatsRepository.upsert(isbn, sign,
+                sign * professionalism, sign * professionalism * professionalism,
+                sign * fun, sign * fun * fun,
+                sign * readability, sign * readability * readability,
+                sign * collectible, sign * collectible * collectible,
+                sign * difficulty, sign * difficulty * difficulty);
+    }
+
+    // 점수가 모두 입력된 차트만 집계한다.
+    private boolean isComplete(Chart chart) {
+        return chart != null
+                && chart.getProfessionalism() != null
+                && chart.getFun() != null
+                && chart.getReadability() != null
+                && chart.getCollectible() != null
+                && chart.getDifficulty() != null;
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import site.bookmore.bookmore.challenge.dto.ChallengeDetailResponse;
 import site.bookmore.bookmore.challenge.dto.ChallengeRequest;
@@ -15,6 +14,7 @@ import site.bookmore.bookmore.challenge.dto.ChallengeResponse;
 import site.bookmore.bookmore.challenge.service.ChallengeService;
 import site.bookmore.bookmore.common.dto.ResultResponse;
 import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
@@ -30,45 +30,40 @@ public class ChallengeController {
     @Authorized
     @ApiOperation(value = "작성")
     @PostMapping()
-    public ResultResponse<ChallengeResponse> addChallenge(@ApiIgnore Authentication authentication, @RequestBody @Valid ChallengeRequest challengeRequest) {
-        String email = authentication.getName();
-        ChallengeResponse challengeResponse = challengeService.add(email, challengeRequest);
+    public ResultResponse<ChallengeResponse> addChallenge(@ApiIgnore @LoginUserId Long userId, @RequestBody @Valid ChallengeRequest challengeRequest) {
+        ChallengeResponse challengeResponse = challengeService.add(userId, challengeRequest);
         return ResultResponse.success(challengeResponse);
     }
 
     @Authorized
     @ApiOperation(value = "수정")
     @PatchMapping("/{id}")
-    public ResultResponse<ChallengeResponse> modifyChallenge(@ApiIgnore Authentication authentication, @RequestBody @Valid ChallengeRequest challengeRequest, @PathVariable Long id) {
-        String userName = authentication.getName();
-        ChallengeResponse challengeResponse = challengeService.modify(userName, id, challengeRequest);
+    public ResultResponse<ChallengeResponse> modifyChallenge(@ApiIgnore @LoginUserId Long userId, @RequestBody @Valid ChallengeRequest challengeRequest, @PathVariable Long id) {
+        ChallengeResponse challengeResponse = challengeService.modify(userId, id, challengeRequest);
         return ResultResponse.success(challengeResponse);
     }
 
     @ApiOperation(value = "삭제")
     @Authorized
     @DeleteMapping("/{id}")
-    public ResultResponse<ChallengeResponse> deleteChallenge(@ApiIgnore Authentication authentication, @PathVariable Long id) {
-        String userName = authentication.getName();
-        ChallengeResponse challengeResponse = challengeService.delete(userName, id);
+    public ResultResponse<ChallengeResponse> deleteChallenge(@ApiIgnore @LoginUserId Long userId, @PathVariable Long id) {
+        ChallengeResponse challengeResponse = challengeService.delete(userId, id);
         return ResultResponse.success(challengeResponse);
     }
 
     @Authorized
     @ApiOperation(value = "상세 조회")
     @GetMapping("/{id}")
-    public ResultResponse<ChallengeDetailResponse> getChallenge(@ApiIgnore Authentication authentication, @PathVariable Long id) {
-        String userName = authentication.getName();
-        ChallengeDetailResponse challengeDetailResponse = challengeService.get(userName, id);
+    public ResultResponse<ChallengeDetailResponse> getChallenge(@PathVariable Long id) {
+        ChallengeDetailResponse challengeDetailResponse = challengeService.get(id);
         return ResultResponse.success(challengeDetailResponse);
     }
 
     @Authorized
     @ApiOperation(value = "리스트 조회")
     @GetMapping
-    public ResultResponse<Page<ChallengeDetailResponse>> listChallenge(Authentication authentication, @PageableDefault(size = 20, sort = "createdDatetime", direction = Sort.Direction.DESC) Pageable pageable) {
-        String userName = authentication.getName();
-        Page<ChallengeDetailResponse> challengeListResponses = challengeService.list(pageable, userName);
+    public ResultResponse<Page<ChallengeDetailResponse>> listChallenge(@ApiIgnore @LoginUserId Long userId, @PageableDefault(size = 20, sort = "createdDatetime", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<ChallengeDetailResponse> challengeListResponses = challengeService.list(pageable, userId);
         return ResultResponse.success(challengeListResponses);
     }
 }
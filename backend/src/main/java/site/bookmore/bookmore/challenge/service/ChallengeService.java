@@ -13,8 +13,8 @@ import site.bookmore.bookmore.challenge.repository.ChallengeRepository;
 import site.bookmore.bookmore.common.exception.not_found.ReviewNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
 import site.bookmore.bookmore.users.entity.Role;
-import site.bookmore.bookmore.users.entity.User;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.UserCache;
 
 import java.util.Objects;
 
@@ -24,64 +24,55 @@ public class ChallengeService {
 
     private final ChallengeRepository challengeRepository;
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public ChallengeResponse add(String email, ChallengeRequest challengeRequest) {
-        //  토큰으로 로그인한 아이디 비교
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-        Challenge savedChallenge = challengeRequest.toEntity(user);
+    public ChallengeResponse add(Long userId, ChallengeRequest challengeRequest) {
+        // 탈퇴한 사용자의 토큰은 인증 단계에서 거부되므로 id 로 참조만 한다.
+        Challenge savedChallenge = challengeRequest.toEntity(userRepository.getReferenceById(userId));
         challengeRepository.save(savedChallenge);
 
         return ChallengeResponse.of(savedChallenge,"challenge 등록");
     }
 
     @Transactional
-    public ChallengeResponse modify(String email, Long challengeId, ChallengeRequest challengeRequest) {
-        // #1 토큰으로 로그인한 아이디 없을 경우
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-        // #2 수정할 포스트가 없을 경우
+    public ChallengeResponse modify(Long userId, Long challengeId, ChallengeRequest challengeRequest) {
+        // #1 수정할 포스트가 없을 경우
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(ReviewNotFoundException::new);
-        // #3 사용자와 수정할 포스트의 작성자가 다를 경우 + 계정이 ADMIN 이 아닐 경우
-        if (!Objects.equals(challenge.getOwner().getNickname(), user.getNickname()) && !user.getRole().equals(Role.ROLE_ADMIN)) {
-            throw new UserNotFoundException();
-        }
+        // #2 사용자와 수정할 포스트의 작성자가 다를 경우 + 계정이 ADMIN 이 아닐 경우
+        checkOwnerOrAdmin(userId, challenge);
         //JPA 의 영속성 컨텍스트 덕분에 entity 객체의 값만 변경하면 자동으로 변경사항 반영함!
         //따라서 repository.update 를 쓰지 않아도 됨.
         challenge.update(challengeRequest.toEntity());
         return ChallengeResponse.of(challenge,"challenge 수정 완료");
     }
 
-    public ChallengeResponse delete(String email, Long challengeId) {
-        // #1 토큰으로 로그인한 아이디가 없을 경우
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-        // #2 삭제할 포스트가 없을 경우
+    public ChallengeResponse delete(Long userId, Long challengeId) {
+        // #1 삭제할 포스트가 없을 경우
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(ReviewNotFoundException::new);
-        // #3 사용자와 삭제할 포스트의 작성자가 다를 경우
-        if (!Objects.equals(challenge.getOwner().getNickname(), user.getNickname()) && !user.getRole().equals(Role.ROLE_ADMIN)) {
-            throw new UserNotFoundException();
-        }
+        // #2 사용자와 삭제할 포스트의 작성자가 다를 경우
+        checkOwnerOrAdmin(userId, challenge);
 
         challengeRepository.delete(challenge);
         return ChallengeResponse.of(challenge,"challenge 삭제 완료");
     }
 
-    public ChallengeDetailResponse get(String email, Long challengeId) {
-        // #1 토큰으로 로그인한 아이디가 없을 경우
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-        // #2 해당 게시글이 존재하지 않을 경우
+    public ChallengeDetailResponse get(Long challengeId) {
+        // #1 해당 게시글이 존재하지 않을 경우
         Challenge challenge = challengeRepository.findById(challengeId).orElseThrow(ReviewNotFoundException::new);
 
-
         return ChallengeDetailResponse.of(challenge);
     }
 
 
-    public Page<ChallengeDetailResponse> list(Pageable pageable, String email) {
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-        return challengeRepository.findByOwner(pageable,user).map(ChallengeDetailResponse::of);
+    public Page<ChallengeDetailResponse> list(Pageable pageable, Long userId) {
+        return challengeRepository.findByOwner(pageable, userRepository.getReferenceById(userId)).map(ChallengeDetailResponse::of);
+    }
+
+    // 작성자는 id 만 비교하고, 작성자가 아닐 때만 권한 확인을 위해 사용자 정보를 읽는다.
+    private void checkOwnerOrAdmin(Long userId, Challenge challenge) {
+        if (Objects.equals(challenge.getOwner().getId(), userId)) return;
+        if (!userCache.get(userId).getRole().equals(Role.ROLE_ADMIN)) {
+            throw new UserNotFoundException();
+        }
     }
 }
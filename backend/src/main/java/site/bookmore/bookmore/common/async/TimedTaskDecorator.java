@@ -0,0 +1,38 @@
+package site.bookmore.bookmore.common.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업이 큐에서 기다린 시간과 실행 시간을 executor 이름 태그로 기록한다.
+ */
+public class TimedTaskDecorator implements TaskDecorator {
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    public TimedTaskDecorator(MeterRegistry meterRegistry, String executorName) {
+        this.waitTimer = Timer.builder("async.task.wait")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("async.task.execution")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submitted = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+            try {
+                runnable.run();
+            } finally {
+                executionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
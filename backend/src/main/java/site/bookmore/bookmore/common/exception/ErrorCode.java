@@ -29,6 +29,8 @@ public enum ErrorCode {
     FILE_SIZE_EXCEED(BAD_REQUEST, "업로드 가능한 파일 용량을 초과했습니다."),
     RANKS_NOT_FOUND(NOT_FOUND, "해당 유저의 랭킹 정보를 찾을 수 없습니다."),
     ALREADY_DELETED_USER(NOT_FOUND, "이미 탈퇴된 계정입니다."),
+    USER_DELETION_NOT_FOUND(NOT_FOUND, "탈퇴 처리 내역을 찾을 수 없습니다."),
+    TOO_MANY_CONNECTIONS(SERVICE_UNAVAILABLE, "연결 가능한 수를 초과했습니다. 잠시 후 다시 시도해주세요."),
     DATABASE_ERROR(INTERNAL_SERVER_ERROR, "데이터베이스 에러");
 
     private final HttpStatus httpStatus;
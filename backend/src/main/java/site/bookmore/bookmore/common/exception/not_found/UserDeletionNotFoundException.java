@@ -0,0 +1,11 @@
+package site.bookmore.bookmore.common.exception.not_found;
+
+import site.bookmore.bookmore.common.exception.AbstractAppException;
+
+import static site.bookmore.bookmore.common.exception.ErrorCode.USER_DELETION_NOT_FOUND;
+
+public class UserDeletionNotFoundException extends AbstractAppException {
+    public UserDeletionNotFoundException() {
+        super(USER_DELETION_NOT_FOUND);
+    }
+}
@@ -0,0 +1,11 @@
+package site.bookmore.bookmore.common.exception.service_unavailable;
+
+import site.bookmore.bookmore.common.exception.AbstractAppException;
+
+import static site.bookmore.bookmore.common.exception.ErrorCode.TOO_MANY_CONNECTIONS;
+
+public class TooManyConnectionsException extends AbstractAppException {
+    public TooManyConnectionsException() {
+        super(TOO_MANY_CONNECTIONS);
+    }
+}
@@ -0,0 +1,14 @@
+package site.bookmore.bookmore.common.support.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 토큰에 담긴 로그인 사용자 id. 로그인하지 않았으면 null
+ */
+@Target({ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUserId {
+}
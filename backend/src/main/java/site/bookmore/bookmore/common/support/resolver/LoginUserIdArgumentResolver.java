@@ -0,0 +1,31 @@
+package site.bookmore.bookmore.common.support.resolver;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
+import site.bookmore.bookmore.users.entity.User;
+
+/**
+ * JwtProvider 가 principal 에 넣어둔 사용자 id 를 DB 조회 없이 꺼낸다.
+ * 탈퇴한 사용자의 토큰은 인증 단계에서 거부되므로 서비스에서 다시 확인하지 않아도 된다.
+ */
+public class LoginUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUserId.class) && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) return null;
+        return ((User) authentication.getPrincipal()).getId();
+    }
+}
@@ -1,9 +1,102 @@
 package site.bookmore.bookmore.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import site.bookmore.bookmore.common.async.TimedTaskDecorator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 이벤트 종류별로 큐 크기가 제한된 executor 를 둔다.
+ * 큐가 가득 차면 작업을 넘긴 스레드(OutboxRelay)에서 직접 실행해 이벤트를 가져오는 속도를 늦추고, 종료 시에는 남은 작업을 모두 처리한 뒤 내려간다.
+ * 순서가 중요한 leaderboardExecutor 는 직접 실행하면 큐에 남은 작업을 앞지르므로 거절하고, 넘긴 쪽(Leaderboard)에서 처리한다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
+    public static final String ALARM_EXECUTOR = "alarmExecutor";
+    public static final String ALARM_LIST_EXECUTOR = "alarmListExecutor";
+    public static final String LEADERBOARD_EXECUTOR = "leaderboardExecutor";
+
+    private final MeterRegistry meterRegistry;
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    @Value("${async.shutdown-await-seconds:30}")
+    private int shutdownAwaitSeconds;
+
+    // 단건 알림 (팔로우, 좋아요)
+    @Bean(ALARM_EXECUTOR)
+    public ThreadPoolTaskExecutor alarmExecutor(@Value("${async.alarm.core-size:2}") int coreSize,
+                                                @Value("${async.alarm.max-size:4}") int maxSize,
+                                                @Value("${async.alarm.queue-capacity:1000}") int queueCapacity) {
+        return executor("alarm", coreSize, maxSize, queueCapacity, true);
+    }
+
+    // 팔로워 알림 일괄 생성
+    @Bean(ALARM_LIST_EXECUTOR)
+    public ThreadPoolTaskExecutor alarmListExecutor(@Value("${async.alarm-list.core-size:1}") int coreSize,
+                                                    @Value("${async.alarm-list.max-size:2}") int maxSize,
+                                                    @Value("${async.alarm-list.queue-capacity:100}") int queueCapacity) {
+        return executor("alarm-list", coreSize, maxSize, queueCapacity, true);
+    }
+
+    // 랭킹 변경분 SSE 전송. 변경분의 순서를 지키기 위해 스레드는 하나만 두고, 큐가 가득 차면 TaskRejectedException 을 던진다.
+    @Bean(LEADERBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor leaderboardExecutor(@Value("${async.leaderboard.queue-capacity:100}") int queueCapacity) {
+        return executor("leaderboard", 1, 1, queueCapacity, false);
+    }
+
+    // 빈 소멸 단계에서는 DataSource 가 먼저 닫힐 수 있으므로 컨텍스트 종료 이벤트에서 먼저 비운다.
+    @EventListener(ContextClosedEvent.class)
+    public void drain() {
+        for (ThreadPoolTaskExecutor executor : executors) {
+            log.info("{} 종료 대기 : 남은 작업 {}건", executor.getThreadNamePrefix(), executor.getThreadPoolExecutor().getQueue().size());
+            executor.shutdown();
+        }
+    }
+
+    private ThreadPoolTaskExecutor executor(String name, int coreSize, int maxSize, int queueCapacity, boolean callerRuns) {
+        Counter rejected = Counter.builder(callerRuns ? "async.task.caller-runs" : "async.task.rejected")
+                .tag("executor", name)
+                .register(meterRegistry);
+        RejectedExecutionHandler policy = callerRuns ? new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(new TimedTaskDecorator(meterRegistry, name));
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            policy.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownAwaitSeconds);
+        executor.initialize();
+
+        Gauge.builder("async.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("executor", name)
+                .register(meterRegistry);
+        executors.add(executor);
+        return executor;
+    }
 }
@@ -0,0 +1,32 @@
+package site.bookmore.bookmore.feed.controller;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import site.bookmore.bookmore.common.dto.ResultResponse;
+import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
+import site.bookmore.bookmore.feed.dto.FeedResponse;
+import site.bookmore.bookmore.feed.service.FeedService;
+import springfox.documentation.annotations.ApiIgnore;
+
+@RestController
+@Api(tags = "8-피드")
+@RequestMapping("/api/v1/feed")
+@RequiredArgsConstructor
+public class FeedController {
+    private final FeedService feedService;
+
+    @Authorized
+    @ApiOperation(value = "팔로잉 리뷰 피드 조회")
+    @GetMapping
+    public ResultResponse<FeedResponse> read(@RequestParam(required = false) Long cursor,
+                                             @RequestParam(defaultValue = "10") int size,
+                                             @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(feedService.read(userId, cursor, size));
+    }
+}
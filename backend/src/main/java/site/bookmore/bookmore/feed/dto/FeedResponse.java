@@ -0,0 +1,26 @@
+package site.bookmore.bookmore.feed.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
+
+import java.util.Collections;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class FeedResponse {
+    private List<ReviewPageResponse> reviews;
+    // 다음 페이지 요청 시 cursor 로 전달. 마지막 페이지면 null
+    private Long nextCursor;
+
+    public static FeedResponse of(List<ReviewPageResponse> reviews, Long nextCursor) {
+        return new FeedResponse(reviews, nextCursor);
+    }
+
+    public static FeedResponse empty() {
+        return new FeedResponse(Collections.emptyList(), null);
+    }
+}
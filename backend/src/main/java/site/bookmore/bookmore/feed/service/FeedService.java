@@ -0,0 +1,123 @@
+package site.bookmore.bookmore.feed.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.bookmore.bookmore.feed.dto.FeedResponse;
+import site.bookmore.bookmore.feed.util.FeedInbox;
+import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
+import site.bookmore.bookmore.reviews.entity.Review;
+import site.bookmore.bookmore.reviews.repository.ReviewRepository;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.FollowGraph;
+import site.bookmore.bookmore.users.vo.FollowingVo;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로잉 리뷰 피드
+ * 팔로워가 적은 작성자의 리뷰는 작성 시 팔로워의 수신함에 넣고 (fan-out-on-write),
+ * 팔로워가 celebrityThreshold 이상인 작성자의 리뷰는 조회 시 DB 에서 읽어 병합한다 (fan-out-on-read).
+ * 작성 시 수신함에 넣지 않은 작성자는 이후 팔로워 수가 줄어도 조회 시 DB 에서 읽어 리뷰가 빠지지 않게 한다.
+ * 페이지는 리뷰 id 를 cursor 로 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+    private static final int MAX_SIZE = 50;
+
+    private final FollowRepository followRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+    private final FeedInbox feedInbox;
+    private final FollowGraph followGraph;
+
+    @Value("${feed.celebrity-threshold:10000}")
+    private int celebrityThreshold;
+
+    @Transactional(readOnly = true)
+    public FeedResponse read(Long userId, Long cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        List<FollowingVo> followings = followRepository.findFollowingsOf(userId);
+        if (followings.isEmpty()) return FeedResponse.empty();
+
+        List<Long> authorIds = new ArrayList<>();
+        List<Long> celebrityIds = new ArrayList<>();
+        for (FollowingVo following : followings) {
+            if (isCelebrity(following.getFollowerCount()) || feedInbox.isPullAuthor(following.getId())) celebrityIds.add(following.getId());
+            else authorIds.add(following.getId());
+        }
+
+        // 두 출처의 id 를 최신순으로 병합
+        TreeSet<Long> candidates = new TreeSet<>(Comparator.reverseOrder());
+        if (!authorIds.isEmpty()) {
+            candidates.addAll(readInbox(userId, authorIds, cursor, limit));
+        }
+        if (!celebrityIds.isEmpty()) {
+            candidates.addAll(reviewRepository.findFeedIds(celebrityIds, toCursor(cursor), PageRequest.of(0, limit)));
+        }
+        List<Long> ids = candidates.stream().limit(limit).collect(Collectors.toList());
+        if (ids.isEmpty()) return FeedResponse.empty();
+
+        // 수신함에는 언팔로우나 삭제가 반영되지 않으므로 조회 시 걸러낸다.
+        Set<Long> followingIds = followings.stream().map(FollowingVo::getId).collect(Collectors.toSet());
+        Map<Long, Review> reviews = reviewRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        List<ReviewPageResponse> content = ids.stream()
+                .map(reviews::get)
+                .filter(review -> review != null && review.getDeletedDatetime() == null)
+                .filter(review -> followingIds.contains(review.getAuthor().getId()))
+                .map(ReviewPageResponse::of)
+                .collect(Collectors.toList());
+
+        Long nextCursor = ids.size() < limit ? null : ids.get(ids.size() - 1);
+        return FeedResponse.of(content, nextCursor);
+    }
+
+    // 작성자의 팔로워 chunk 를 받아 수신함에 추가. 팔로워가 많은 작성자는 조회 시 병합하므로 건너뛴다.
+    public void fanOut(Long authorId, List<Long> followerIds, Long reviewId) {
+        int followerCount = followGraph.followerCount(authorId).orElseGet(() -> {
+            long stamp = followGraph.stamp(authorId);
+            int count = userRepository.findFollowerCountById(authorId).orElse(0);
+            followGraph.putFollowerCount(authorId, count, stamp);
+            return count;
+        });
+        if (isCelebrity(followerCount)) {
+            feedInbox.markPullAuthor(authorId);
+            return;
+        }
+        feedInbox.push(followerIds, reviewId);
+    }
+
+    private List<Long> readInbox(Long userId, List<Long> authorIds, Long cursor, int size) {
+        Optional<FeedInbox.Window> cached = feedInbox.read(userId, cursor, size);
+        if (cached.isEmpty()) {
+            feedInbox.open(userId);
+            feedInbox.fill(userId, reviewRepository.findFeedIds(authorIds, Long.MAX_VALUE, PageRequest.of(0, feedInbox.getCapacity())));
+            cached = feedInbox.read(userId, cursor, size);
+        }
+        FeedInbox.Window window = cached.orElse(FeedInbox.Window.EMPTY);
+
+        List<Long> ids = new ArrayList<>(window.getIds());
+        if (ids.size() < size && !window.isComplete()) {
+            // 수신함보다 오래된 리뷰는 DB 에서 이어서 조회
+            long olderThan = ids.isEmpty() ? toCursor(cursor) : ids.get(ids.size() - 1);
+            ids.addAll(reviewRepository.findFeedIds(authorIds, olderThan, PageRequest.of(0, size - ids.size())));
+        }
+        return ids;
+    }
+
+    private boolean isCelebrity(Integer followerCount) {
+        return followerCount != null && followerCount >= celebrityThreshold;
+    }
+
+    private static long toCursor(Long cursor) {
+        return cursor == null ? Long.MAX_VALUE : cursor;
+    }
+}
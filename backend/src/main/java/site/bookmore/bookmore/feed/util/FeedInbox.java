@@ -0,0 +1,139 @@
+package site.bookmore.bookmore.feed.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 피드 수신함 (fan-out-on-write)
+ * 팔로잉이 작성한 최근 리뷰 id 를 최대 capacity 개까지 보관하며, 가장 오래된 id 부터 밀려난다.
+ * 수신함은 최근 피드를 조회한 사용자에게만 만들어지고, 그 외 사용자에게 도착한 리뷰는 버린 뒤 다음 조회 시 DB 에서 다시 만든다.
+ * DB 에서 다시 만드는 동안 도착한 리뷰는 open 으로 미리 만든 수신함에 보관했다가 fill 에서 DB 결과와 합친다.
+ */
+@Component
+public class FeedInbox {
+    private final int capacity;
+    private final Map<Long, Inbox> inboxes;
+    // 작성 시 수신함에 넣지 않은 작성자. 팔로워가 많은 작성자만 담기므로 크기를 제한하지 않는다.
+    private final Set<Long> pullAuthors = ConcurrentHashMap.newKeySet();
+
+    public FeedInbox(@Value("${feed.inbox.capacity:200}") int capacity,
+                     @Value("${feed.inbox.max-users:20000}") int maxUsers) {
+        this.capacity = capacity;
+        this.inboxes = Collections.synchronizedMap(new LinkedHashMap<Long, Inbox>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Inbox> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // cursor 보다 작은 id 를 최신순으로 size 개 조회. 수신함이 없으면 empty
+    public Optional<Window> read(Long userId, Long cursor, int size) {
+        Inbox inbox = inboxes.get(userId);
+        if (inbox == null || !inbox.isLoaded()) return Optional.empty();
+        return Optional.of(inbox.read(cursor == null ? Long.MAX_VALUE : cursor, size));
+    }
+
+    // DB 조회 전에 호출하여 조회하는 동안 도착한 리뷰를 받을 수신함을 만든다.
+    public void open(Long userId) {
+        inboxes.computeIfAbsent(userId, id -> new Inbox(capacity));
+    }
+
+    // DB 에서 읽은 최근 리뷰 id (최신순) 를 그 사이 도착한 리뷰와 합쳐 수신함 완성
+    public void fill(Long userId, List<Long> reviewIds) {
+        inboxes.computeIfAbsent(userId, id -> new Inbox(capacity)).fill(reviewIds, reviewIds.size() < capacity);
+    }
+
+    public void push(Collection<Long> userIds, Long reviewId) {
+        for (Long userId : userIds) {
+            Inbox inbox = inboxes.get(userId);
+            if (inbox == null) continue;
+            inbox.push(reviewId);
+        }
+    }
+
+    public void evict(Long userId) {
+        inboxes.remove(userId);
+    }
+
+    // 한 번이라도 수신함에 넣지 않은 작성자는 팔로워 수가 다시 줄어도 조회 시 DB 에서 읽는다.
+    public void markPullAuthor(Long authorId) {
+        pullAuthors.add(authorId);
+    }
+
+    public boolean isPullAuthor(Long authorId) {
+        return pullAuthors.contains(authorId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Window {
+        public static final Window EMPTY = new Window(Collections.emptyList(), false);
+
+        private final List<Long> ids;
+        // 수신함이 cursor 이전의 모든 리뷰를 담고 있어 DB 조회가 필요 없는지 여부
+        private final boolean complete;
+    }
+
+    private static class Inbox {
+        private final long[] ids; // 오름차순
+        private int size;
+        private boolean complete = true;
+        private boolean loaded;
+
+        Inbox(int capacity) {
+            this.ids = new long[capacity];
+        }
+
+        synchronized void fill(List<Long> reviewIds, boolean snapshotComplete) {
+            for (Long reviewId : reviewIds) {
+                push(reviewId);
+            }
+            complete = complete && snapshotComplete;
+            loaded = true;
+        }
+
+        synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        synchronized void push(long reviewId) {
+            int index = Arrays.binarySearch(ids, 0, size, reviewId);
+            if (index >= 0) return;
+            int insertion = -index - 1;
+
+            if (size == ids.length) {
+                // 가장 오래된 리뷰보다 오래된 리뷰는 보관하지 않는다.
+                if (insertion == 0) return;
+                System.arraycopy(ids, 1, ids, 0, insertion - 1);
+                ids[insertion - 1] = reviewId;
+                complete = false;
+                return;
+            }
+
+            System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+            ids[insertion] = reviewId;
+            size++;
+        }
+
+        synchronized Window read(long cursor, int limit) {
+            int end = Arrays.binarySearch(ids, 0, size, cursor);
+            end = end >= 0 ? end : -end - 1;
+
+            List<Long> result = new ArrayList<>(Math.min(limit, end));
+            for (int i = end - 1; i >= 0 && result.size() < limit; i--) {
+                result.add(ids[i]);
+            }
+            return new Window(result, complete);
+        }
+    }
+}
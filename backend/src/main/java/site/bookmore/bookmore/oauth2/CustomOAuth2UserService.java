@@ -13,10 +13,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import site.bookmore.bookmore.common.exception.not_found.AlreadyDeletedUserException;
 import site.bookmore.bookmore.oauth2.util.mapper.UserMapper;
-import site.bookmore.bookmore.users.entity.Ranks;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.RanksRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.service.RanksService;
 
 import java.util.Collections;
 import java.util.Map;
@@ -26,7 +25,7 @@ import java.util.Map;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
-    private final RanksRepository ranksRepository;
+    private final RanksService ranksService;
 
     @Override
     @Transactional
@@ -47,16 +46,10 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         User user = userRepository.findByEmail(oAuth2Attribute.getEmail())
                 .orElseGet(() -> {
                     User saved = UserMapper.of(oAuth2User);
-                    // 랭킹 등록
-                    Ranks findRank = ranksRepository.findTop1ByOrderByRankingDesc().orElse(Ranks.of(0, 1L, null));
-
-                    Integer findPoint = findRank.getPoint();
-                    Long findRanking = findRank.getRanking();
-                    Long ranking = findPoint == 0 ? findRanking : findRanking + 1;
-
                     userRepository.save(saved);
 
-                    ranksRepository.save(Ranks.of(0, ranking, saved));
+                    // 랭킹 등록
+                    ranksService.register(saved);
 
                     return saved;
                 });
@@ -0,0 +1,30 @@
+package site.bookmore.bookmore.observer.event.alarm;
+
+import java.util.Map;
+
+/**
+ * 알림 저장. 커밋 후 연결 중인 수신자에게 전송
+ */
+public class AlarmPush {
+
+    private final Long eventId;
+    // 수신자 id, 읽지 않은 알림 수 증가 여부
+    private final Map<Long, Boolean> targets;
+
+    public AlarmPush(Long eventId, Map<Long, Boolean> targets) {
+        this.eventId = eventId;
+        this.targets = targets;
+    }
+
+    public static AlarmPush of(Long eventId, Map<Long, Boolean> targets) {
+        return new AlarmPush(eventId, targets);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Map<Long, Boolean> getTargets() {
+        return targets;
+    }
+}
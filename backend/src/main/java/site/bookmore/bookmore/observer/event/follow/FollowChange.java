@@ -0,0 +1,27 @@
+package site.bookmore.bookmore.observer.event.follow;
+
+/**
+ * 팔로우 | 언팔로우
+ */
+public class FollowChange {
+
+    private final Long followerId;
+    private final Long followingId;
+
+    public FollowChange(Long followerId, Long followingId) {
+        this.followerId = followerId;
+        this.followingId = followingId;
+    }
+
+    public static FollowChange of(Long followerId, Long followingId) {
+        return new FollowChange(followerId, followingId);
+    }
+
+    public Long getFollowerId() {
+        return followerId;
+    }
+
+    public Long getFollowingId() {
+        return followingId;
+    }
+}
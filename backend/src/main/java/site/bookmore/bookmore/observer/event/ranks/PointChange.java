@@ -0,0 +1,27 @@
+package site.bookmore.bookmore.observer.event.ranks;
+
+/**
+ * 리뷰 작성자의 랭킹 점수 변경 (좋아요 +1 | 취소 -1)
+ */
+public class PointChange {
+
+    private final Long userId;
+    private final int delta;
+
+    public PointChange(Long userId, int delta) {
+        this.userId = userId;
+        this.delta = delta;
+    }
+
+    public static PointChange of(Long userId, int delta) {
+        return new PointChange(userId, delta);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,27 @@
+package site.bookmore.bookmore.observer.event.ranks;
+
+/**
+ * 신규 가입자의 랭킹 등록
+ */
+public class RanksCreate {
+
+    private final Long userId;
+    private final Long ranksId;
+
+    public RanksCreate(Long userId, Long ranksId) {
+        this.userId = userId;
+        this.ranksId = ranksId;
+    }
+
+    public static RanksCreate of(Long userId, Long ranksId) {
+        return new RanksCreate(userId, ranksId);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getRanksId() {
+        return ranksId;
+    }
+}
@@ -0,0 +1,27 @@
+package site.bookmore.bookmore.observer.event.review;
+
+/**
+ * 리뷰 삭제
+ */
+public class ReviewDelete {
+
+    private final String isbn;
+    private final Long reviewId;
+
+    public ReviewDelete(String isbn, Long reviewId) {
+        this.isbn = isbn;
+        this.reviewId = reviewId;
+    }
+
+    public static ReviewDelete of(String isbn, Long reviewId) {
+        return new ReviewDelete(isbn, reviewId);
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+}
@@ -0,0 +1,41 @@
+package site.bookmore.bookmore.observer.event.review;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 등록 | 좋아요 | 좋아요 취소로 인한 인기 리뷰 점수 변경
+ */
+public class ReviewScoreChange {
+
+    private final String isbn;
+    private final Long reviewId;
+    private final int likesCount;
+    private final LocalDateTime createdDatetime;
+
+    public ReviewScoreChange(String isbn, Long reviewId, int likesCount, LocalDateTime createdDatetime) {
+        this.isbn = isbn;
+        this.reviewId = reviewId;
+        this.likesCount = likesCount;
+        this.createdDatetime = createdDatetime;
+    }
+
+    public static ReviewScoreChange of(String isbn, Long reviewId, int likesCount, LocalDateTime createdDatetime) {
+        return new ReviewScoreChange(isbn, reviewId, likesCount, createdDatetime);
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+
+    public int getLikesCount() {
+        return likesCount;
+    }
+
+    public LocalDateTime getCreatedDatetime() {
+        return createdDatetime;
+    }
+}
@@ -0,0 +1,21 @@
+package site.bookmore.bookmore.observer.event.user;
+
+/**
+ * 회원 탈퇴
+ */
+public class UserDelete {
+
+    private final Long userId;
+
+    public UserDelete(Long userId) {
+        this.userId = userId;
+    }
+
+    public static UserDelete of(Long userId) {
+        return new UserDelete(userId);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
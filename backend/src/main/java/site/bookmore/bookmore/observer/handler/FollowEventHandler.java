@@ -0,0 +1,27 @@
+package site.bookmore.bookmore.observer.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.bookmore.bookmore.observer.event.follow.FollowChange;
+import site.bookmore.bookmore.observer.event.user.UserDelete;
+import site.bookmore.bookmore.users.util.FollowGraph;
+
+@Component
+@RequiredArgsConstructor
+public class FollowEventHandler {
+
+    private final FollowGraph followGraph;
+
+    // 커밋 전에 지우면 그 사이 조회가 이전 관계를 다시 채울 수 있으므로 커밋 후에 지운다.
+    @TransactionalEventListener
+    public void changeFollow(FollowChange e) {
+        followGraph.evict(e.getFollowerId(), e.getFollowingId());
+    }
+
+    // 캐시된 팔로워 수가 남아있으면 탈퇴한 사용자도 존재하는 것으로 보이므로 함께 지운다.
+    @TransactionalEventListener
+    public void deleteUser(UserDelete e) {
+        followGraph.evictUser(e.getUserId());
+    }
+}
@@ -0,0 +1,48 @@
+package site.bookmore.bookmore.observer.handler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.bookmore.bookmore.observer.event.ranks.PointChange;
+import site.bookmore.bookmore.observer.event.ranks.RanksCreate;
+import site.bookmore.bookmore.observer.event.user.UserDelete;
+import site.bookmore.bookmore.reviews.repository.ReviewRepository;
+import site.bookmore.bookmore.users.repositroy.RanksRepository;
+import site.bookmore.bookmore.users.util.RankingEngine;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RanksEventHandler {
+
+    private final RankingEngine rankingEngine;
+    private final RanksRepository ranksRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 커밋된 좋아요만 반영
+    @TransactionalEventListener
+    public void changePoint(PointChange e) {
+        if (!rankingEngine.isLoaded()) return;
+        if (rankingEngine.add(e.getUserId(), e.getDelta())) return;
+
+        // 랭킹을 불러온 뒤 가입한 사용자는 DB 의 좋아요 합계로 등록
+        ranksRepository.findByUserIdAndRankingGreaterThan(e.getUserId(), -1L).ifPresent(ranks -> {
+            Integer likeSum = reviewRepository.findSum(e.getUserId());
+            rankingEngine.register(e.getUserId(), ranks.getId(), likeSum == null ? 0 : likeSum);
+            log.info("랭킹 등록 userId : {}", e.getUserId());
+        });
+    }
+
+    @TransactionalEventListener
+    public void createRanks(RanksCreate e) {
+        if (!rankingEngine.isLoaded()) return;
+        rankingEngine.register(e.getUserId(), e.getRanksId(), 0);
+    }
+
+    // 탈퇴가 롤백되면 랭킹에 남아 있어야 하므로 커밋 후에 제거
+    @TransactionalEventListener
+    public void deleteUser(UserDelete e) {
+        rankingEngine.remove(e.getUserId());
+    }
+}
@@ -0,0 +1,26 @@
+package site.bookmore.bookmore.observer.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.bookmore.bookmore.observer.event.review.ReviewDelete;
+import site.bookmore.bookmore.observer.event.review.ReviewScoreChange;
+import site.bookmore.bookmore.reviews.util.HotReviewRanker;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewEventHandler {
+
+    private final HotReviewRanker hotReviewRanker;
+
+    // 롤백된 등록, 삭제, 좋아요가 인기 리뷰 보드에 남지 않도록 커밋 후에 반영
+    @TransactionalEventListener
+    public void changeScore(ReviewScoreChange e) {
+        hotReviewRanker.onLikes(e.getIsbn(), e.getReviewId(), e.getLikesCount(), e.getCreatedDatetime());
+    }
+
+    @TransactionalEventListener
+    public void deleteReview(ReviewDelete e) {
+        hotReviewRanker.onDelete(e.getIsbn(), e.getReviewId());
+    }
+}
@@ -0,0 +1,23 @@
+package site.bookmore.bookmore.observer.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import site.bookmore.bookmore.observer.event.user.UserDelete;
+import site.bookmore.bookmore.security.provider.JwtProvider;
+import site.bookmore.bookmore.users.util.UserCache;
+
+@Component
+@RequiredArgsConstructor
+public class UserEventHandler {
+
+    private final JwtProvider jwtProvider;
+    private final UserCache userCache;
+
+    // 탈퇴가 롤백되면 토큰과 캐시도 계속 유효해야 하므로 커밋 후에 폐기
+    @TransactionalEventListener
+    public void deleteUser(UserDelete e) {
+        jwtProvider.revoke(e.getUserId());
+        userCache.evict(e.getUserId());
+    }
+}
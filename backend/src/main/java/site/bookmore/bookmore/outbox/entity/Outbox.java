@@ -0,0 +1,97 @@
+package site.bookmore.bookmore.outbox.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.bookmore.bookmore.common.entity.BaseEntity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 요청 트랜잭션에서는 이벤트만 기록하고, 팔로워 조회와 알림 생성은 OutboxRelay 가 나누어 처리한다.
+ * targetUserId 는 단건 알림의 수신자이며, 팔로워 전체에게 보내는 이벤트는 비어있다.
+ * lastTargetId 는 처리가 끝난 마지막 팔로워 id 로, 실패 후 재시도 시 이어서 처리하기 위해 사용한다.
+ */
+@Entity
+@Table(name = "outbox", indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Outbox extends BaseEntity {
+    private static final int MAX_BACKOFF_SECONDS = 60 * 60;
+    private static final int ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxType type;
+
+    @Column(nullable = false)
+    private Long sourceId;
+
+    @Column(nullable = false)
+    private Long fromUserId;
+
+    private Long targetUserId;
+
+    @Column(nullable = false)
+    private Long lastTargetId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = ERROR_LENGTH)
+    private String lastError;
+
+    public static Outbox of(OutboxType type, Long sourceId, Long fromUserId) {
+        return of(type, sourceId, fromUserId, null);
+    }
+
+    public static Outbox of(OutboxType type, Long sourceId, Long fromUserId, Long targetUserId) {
+        return Outbox.builder()
+                .type(type)
+                .sourceId(sourceId)
+                .fromUserId(fromUserId)
+                .targetUserId(targetUserId)
+                .lastTargetId(0L)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void advance(Long lastTargetId) {
+        this.lastTargetId = lastTargetId;
+    }
+
+    public void renewLease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void complete() {
+        this.status = OutboxStatus.DONE;
+    }
+
+    // 지수 백오프로 재시도하며, 최대 횟수를 넘으면 FAILED 로 남긴다.
+    public void fail(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= ERROR_LENGTH ? error : error.substring(0, ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoff);
+    }
+}
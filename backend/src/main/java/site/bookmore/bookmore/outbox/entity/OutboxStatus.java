@@ -0,0 +1,5 @@
+package site.bookmore.bookmore.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING, DONE, FAILED
+}
@@ -0,0 +1,17 @@
+package site.bookmore.bookmore.outbox.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxType {
+    // 작성자의 팔로워 전체에게 알림
+    NEW_FOLLOW_REVIEW(AlarmType.NEW_FOLLOW_REVIEW, true),
+    NEW_FOLLOW(AlarmType.NEW_FOLLOW, false),
+    NEW_LIKE_ON_REVIEW(AlarmType.NEW_LIKE_ON_REVIEW, false);
+
+    private final AlarmType alarmType;
+    private final boolean fanOut;
+}
@@ -0,0 +1,36 @@
+package site.bookmore.bookmore.outbox.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository extends JpaRepository<Outbox, Long> {
+
+    // 여러 서버가 같은 이벤트를 가져가지 않도록 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛴다.
+    @Query(value = "select * from outbox where status = 'PENDING' and next_attempt_at <= :now " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<Outbox> findPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 가져올 때 기록한 임대 만료 시각이 그대로일 때만 임대를 연장한다. 그 사이 다른 서버가 다시 가져갔으면 0
+    @Modifying
+    @Query("update Outbox o set o.nextAttemptAt = :leaseUntil " +
+            "where o.id = :id and o.status = site.bookmore.bookmore.outbox.entity.OutboxStatus.PENDING and o.nextAttemptAt = :expected")
+    int lease(@Param("id") Long id, @Param("expected") LocalDateTime expected, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 보관 기간 정리용. 기준 시각 이전에 처리가 끝난 이벤트와 재시도를 포기한 이벤트
+    @Query("select o.id from Outbox o " +
+            "where o.status in (site.bookmore.bookmore.outbox.entity.OutboxStatus.DONE, site.bookmore.bookmore.outbox.entity.OutboxStatus.FAILED) " +
+            "and o.lastModifiedDatetime < :cutoff order by o.id asc")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Outbox o where o.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,169 @@
+package site.bookmore.bookmore.outbox.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.alarms.repository.AlarmBatchRepository;
+import site.bookmore.bookmore.config.AsyncConfig;
+import site.bookmore.bookmore.feed.service.FeedService;
+import site.bookmore.bookmore.observer.event.alarm.AlarmPush;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+import site.bookmore.bookmore.outbox.entity.OutboxType;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 트랜잭션에서 Outbox 에 기록된 이벤트를 읽어 알림을 생성한다.
+ * 팔로워 전체에게 보내는 이벤트는 팔로워를 chunk 단위로 조회하며, chunk 마다 별도 트랜잭션으로 커서를 저장하므로 실패하더라도 처리한 지점부터 재시도한다.
+ * 이벤트는 한 번 이상 전달될 수 있으며, 알림은 이벤트 id 와 수신자 id 로 만든 event_key 로 중복 생성을 막는다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long LEASE_SECONDS = 60;
+
+    private final OutboxRepository outboxRepository;
+    private final FollowRepository followRepository;
+    private final AlarmBatchRepository alarmBatchRepository;
+    private final FeedService feedService;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor alarmExecutor;
+    private final TaskExecutor alarmListExecutor;
+
+    @Value("${outbox.relay.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${outbox.relay.batch-size:20}")
+    private int batchSize;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       FollowRepository followRepository,
+                       AlarmBatchRepository alarmBatchRepository,
+                       FeedService feedService,
+                       ApplicationEventPublisher publisher,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Qualifier(AsyncConfig.ALARM_EXECUTOR) TaskExecutor alarmExecutor,
+                       @Qualifier(AsyncConfig.ALARM_LIST_EXECUTOR) TaskExecutor alarmListExecutor) {
+        this.outboxRepository = outboxRepository;
+        this.followRepository = followRepository;
+        this.alarmBatchRepository = alarmBatchRepository;
+        this.feedService = feedService;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.alarmExecutor = alarmExecutor;
+        this.alarmListExecutor = alarmListExecutor;
+    }
+
+    // 가져온 이벤트는 종류별 executor 에서 처리한다. executor 큐가 가득 차면 relay 스레드가 직접 처리하므로 더 가져오지 않는다.
+    @Scheduled(fixedDelayString = "${outbox.relay.delay:1000}")
+    public void relay() {
+        List<Outbox> outboxes = transactionTemplate.execute(status -> claim());
+        if (outboxes == null) return;
+        for (Outbox outbox : outboxes) {
+            TaskExecutor executor = outbox.getType().isFanOut() ? alarmListExecutor : alarmExecutor;
+            executor.execute(() -> process(outbox));
+        }
+    }
+
+    // 가져온 이벤트는 임대 만료 시각까지 다른 서버가 가져가지 않는다.
+    private List<Outbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Outbox> outboxes = outboxRepository.findPendingForUpdate(now, batchSize);
+        outboxes.forEach(outbox -> outbox.renewLease(leaseUntil(now)));
+        return outboxes;
+    }
+
+    // executor 큐에서 기다리는 동안 임대가 만료되어 다시 가져간 이벤트는 처리하지 않는다.
+    private boolean lease(Outbox claimed) {
+        Integer leased = transactionTemplate.execute(status ->
+                outboxRepository.lease(claimed.getId(), claimed.getNextAttemptAt(), leaseUntil(LocalDateTime.now())));
+        return leased != null && leased == 1;
+    }
+
+    // DB 에 저장된 값과 그대로 비교할 수 있도록 초 단위로 자른다.
+    private static LocalDateTime leaseUntil(LocalDateTime now) {
+        return now.plusSeconds(LEASE_SECONDS).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private void process(Outbox claimed) {
+        Long outboxId = claimed.getId();
+        String type = claimed.getType().name();
+        if (!lease(claimed)) {
+            log.info("outbox {} 임대 만료로 처리 건너뜀", outboxId);
+            return;
+        }
+        try {
+            boolean hasNext = true;
+            while (hasNext) {
+                hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> relayChunk(outboxId)));
+            }
+            meterRegistry.counter("outbox.dispatched", "type", type).increment();
+            if (claimed.getCreatedDatetime() != null) {
+                meterRegistry.timer("outbox.lag", "type", type)
+                        .record(Duration.between(claimed.getCreatedDatetime(), LocalDateTime.now()));
+            }
+        } catch (RuntimeException e) {
+            log.error("outbox {} 처리 실패", outboxId, e);
+            meterRegistry.counter("outbox.failed", "type", type).increment();
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxRepository.findById(outboxId).ifPresent(outbox -> outbox.fail(e.getMessage(), MAX_ATTEMPTS)));
+        }
+    }
+
+    // 다음 chunk 가 남아있으면 true
+    private boolean relayChunk(Long outboxId) {
+        Outbox outbox = outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("outbox not found : " + outboxId));
+        OutboxType type = outbox.getType();
+
+        if (!type.isFanOut()) {
+            Map<Long, Boolean> inserted = alarmBatchRepository.insertAll(outboxId, type.getAlarmType(), outbox.getFromUserId(), outbox.getSourceId(), List.of(outbox.getTargetUserId()));
+            push(outboxId, inserted);
+            outbox.complete();
+            return false;
+        }
+
+        List<Long> followerIds = followRepository.findFollowerIdsAfter(
+                outbox.getFromUserId(), outbox.getLastTargetId(), PageRequest.of(0, chunkSize));
+
+        if (!followerIds.isEmpty()) {
+            Map<Long, Boolean> inserted = alarmBatchRepository.insertAll(outboxId, type.getAlarmType(), outbox.getFromUserId(), outbox.getSourceId(), followerIds);
+            push(outboxId, inserted);
+            feedService.fanOut(outbox.getFromUserId(), followerIds, outbox.getSourceId());
+            outbox.advance(followerIds.get(followerIds.size() - 1));
+        }
+
+        if (followerIds.size() < chunkSize) {
+            outbox.complete();
+            log.info("outbox {} 처리 완료", outboxId);
+            return false;
+        }
+
+        outbox.renewLease(leaseUntil(LocalDateTime.now()));
+        return true;
+    }
+
+    // 다시 전달되어 이미 알림을 받은 수신자에게는 보내지 않는다.
+    private void push(Long outboxId, Map<Long, Boolean> inserted) {
+        if (inserted.isEmpty()) return;
+        publisher.publishEvent(AlarmPush.of(outboxId, inserted));
+    }
+}
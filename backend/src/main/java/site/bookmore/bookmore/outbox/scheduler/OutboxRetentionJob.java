@@ -0,0 +1,51 @@
+package site.bookmore.bookmore.outbox.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 DONE, FAILED 이벤트를 chunk 단위로 삭제한다.
+ * 처리 대기 중인 이벤트는 남기며, FAILED 이벤트는 보관 기간 동안 원인을 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionJob {
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.retention.days:7}")
+    private int retentionDays;
+
+    @Value("${outbox.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${schedule.outbox-retention.delaytime:0 30 17 * * *}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        int rows;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> deleteChunk(cutoff));
+            rows = chunk == null ? 0 : chunk;
+            deleted += rows;
+        } while (rows == chunkSize);
+        log.info("outbox 보관 기간 정리 완료 기준 : {}, 삭제 : {}", cutoff, deleted);
+    }
+
+    private int deleteChunk(LocalDateTime cutoff) {
+        List<Long> ids = outboxRepository.findExpiredIds(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) return 0;
+        outboxRepository.deleteAllByIdIn(ids);
+        return ids.size();
+    }
+}
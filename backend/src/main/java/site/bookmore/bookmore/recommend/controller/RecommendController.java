@@ -0,0 +1,42 @@
+package site.bookmore.bookmore.recommend.controller;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import site.bookmore.bookmore.common.dto.ResultResponse;
+import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
+import site.bookmore.bookmore.recommend.dto.RecommendResponse;
+import site.bookmore.bookmore.recommend.entity.RecommendType;
+import site.bookmore.bookmore.recommend.service.RecommendService;
+import springfox.documentation.annotations.ApiIgnore;
+
+import java.util.List;
+
+@RestController
+@Api(tags = "9-추천")
+@RequestMapping("/api/v1/recommendations")
+@RequiredArgsConstructor
+public class RecommendController {
+    private final RecommendService recommendService;
+
+    @Authorized
+    @ApiOperation(value = "알 수도 있는 사람 조회")
+    @GetMapping("/people")
+    public ResultResponse<List<RecommendResponse>> findPeople(@RequestParam(defaultValue = "10") int size,
+                                                              @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(recommendService.find(userId, RecommendType.PEOPLE, size));
+    }
+
+    @Authorized
+    @ApiOperation(value = "비슷한 책을 읽은 사람 조회")
+    @GetMapping("/readers")
+    public ResultResponse<List<RecommendResponse>> findReaders(@RequestParam(defaultValue = "10") int size,
+                                                               @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(recommendService.find(userId, RecommendType.READERS, size));
+    }
+}
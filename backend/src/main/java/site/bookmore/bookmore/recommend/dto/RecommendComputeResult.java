@@ -0,0 +1,20 @@
+package site.bookmore.bookmore.recommend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecommendComputeResult {
+    private int users;
+    private long followEdges;
+    private long reviewEdges;
+    // 추천이 저장된 사용자 수
+    private long peopleRows;
+    private long readerRows;
+    private long loadMillis;
+    private long peopleMillis;
+    private long readerMillis;
+    // 계산 중 힙 사용량 최대값
+    private long peakHeapBytes;
+}
@@ -0,0 +1,18 @@
+package site.bookmore.bookmore.recommend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecommendResponse {
+    private Long userId;
+    private String nickname;
+    private String profile;
+    // 함께 팔로우하는 사람 수 | 함께 리뷰한 책 수
+    private Integer score;
+}
@@ -0,0 +1,8 @@
+package site.bookmore.bookmore.recommend.entity;
+
+public enum RecommendType {
+    // 내가 팔로우하는 사람들이 팔로우하는 사람
+    PEOPLE,
+    // 같은 책을 리뷰한 사람
+    READERS
+}
@@ -0,0 +1,41 @@
+package site.bookmore.bookmore.recommend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.bookmore.bookmore.recommend.util.RecommendationCodec;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 미리 계산한 추천 상위 K 명. data 형식은 RecommendationCodec 참고
+ * 배치가 JdbcTemplate 으로 직접 쓰고, 조회만 JPA 로 한다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_recommendation_user_type", columnNames = {"user_id", "recommend_type"}))
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class Recommendation {
+    public static final int MAX_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecommendType recommendType;
+
+    @Column(nullable = false, length = MAX_SIZE * RecommendationCodec.CANDIDATE_BYTES)
+    private byte[] data;
+
+    @Column(nullable = false)
+    private LocalDateTime computedDatetime;
+}
@@ -0,0 +1,12 @@
+package site.bookmore.bookmore.recommend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import site.bookmore.bookmore.recommend.entity.RecommendType;
+import site.bookmore.bookmore.recommend.entity.Recommendation;
+
+import java.util.Optional;
+
+public interface RecommendationRepository extends JpaRepository<Recommendation, Long> {
+
+    Optional<Recommendation> findByUserIdAndRecommendType(Long userId, RecommendType recommendType);
+}
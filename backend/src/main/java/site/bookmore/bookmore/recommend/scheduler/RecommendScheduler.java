@@ -0,0 +1,24 @@
+package site.bookmore.bookmore.recommend.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.recommend.dto.RecommendComputeResult;
+import site.bookmore.bookmore.recommend.service.RecommendComputeService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendScheduler {
+    private final RecommendComputeService recommendComputeService;
+
+    // 하루 한 번 팔로우 | 리뷰 기준으로 추천을 다시 계산
+    @Scheduled(cron = "${schedule.recommend.delaytime:0 0 16 * * *}")
+    public void scheduleRecommendTask() {
+        log.info("추천 스케쥴러 시작");
+        RecommendComputeResult result = recommendComputeService.compute();
+        log.info("추천 스케쥴러 완료 people : {}명 ({}ms), readers : {}명 ({}ms)",
+                result.getPeopleRows(), result.getPeopleMillis(), result.getReaderRows(), result.getReaderMillis());
+    }
+}
@@ -0,0 +1,178 @@
+package site.bookmore.bookmore.recommend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StopWatch;
+import site.bookmore.bookmore.recommend.dto.RecommendComputeResult;
+import site.bookmore.bookmore.recommend.entity.RecommendType;
+import site.bookmore.bookmore.recommend.entity.Recommendation;
+import site.bookmore.bookmore.recommend.util.Csr;
+import site.bookmore.bookmore.recommend.util.RecommendationCodec;
+import site.bookmore.bookmore.recommend.util.TwoHopRecommender;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 팔로우 | 리뷰 테이블을 id 순으로 나눠 읽어 CSR 인접 배열을 만들고, 사용자별 추천 상위 K 명을 계산해 저장한다.
+ * 사용자 id 는 정렬된 배열의 index 로 바꿔서 int 하나로 다룬다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendComputeService {
+    private static final String USER_SQL = "SELECT id FROM user WHERE id > ? AND deleted_datetime IS NULL ORDER BY id LIMIT ?";
+    private static final String FOLLOW_SQL = "SELECT id, follower, following FROM follow WHERE id > ? AND deleted_datetime IS NULL ORDER BY id LIMIT ?";
+    private static final String REVIEW_SQL = "SELECT id, author_id, book_id FROM review WHERE id > ? AND deleted_datetime IS NULL ORDER BY id LIMIT ?";
+    private static final String UPSERT_SQL = "INSERT INTO recommendation (user_id, recommend_type, data, computed_datetime) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE data = VALUES(data), computed_datetime = VALUES(computed_datetime)";
+    private static final String DELETE_STALE_SQL = "DELETE FROM recommendation WHERE computed_datetime < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${recommend.size:20}")
+    private int size;
+    @Value("${recommend.max-fanout:200}")
+    private int maxFanout;
+    @Value("${recommend.parallelism:4}")
+    private int parallelism;
+    @Value("${recommend.chunk-size:100000}")
+    private int chunkSize;
+
+    public RecommendComputeResult compute() {
+        resetPeakHeap();
+        Timestamp computedAt = Timestamp.valueOf(LocalDateTime.now());
+        StopWatch stopWatch = new StopWatch("recommend");
+
+        stopWatch.start("load");
+        long[] userIds = loadUserIds();
+        Csr follows = loadEdges(FOLLOW_SQL, userIds.length, rs -> index(userIds, rs.getLong(2)), rs -> index(userIds, rs.getLong(3)));
+        Map<String, Integer> books = new HashMap<>();
+        Csr reads = loadEdges(REVIEW_SQL, userIds.length, rs -> index(userIds, rs.getLong(2)),
+                rs -> books.computeIfAbsent(rs.getString(3), isbn -> books.size()));
+        stopWatch.stop();
+        long loadMillis = stopWatch.getLastTaskTimeMillis();
+
+        int k = Math.min(size, Recommendation.MAX_SIZE);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            stopWatch.start("people");
+            long peopleRows = save(new TwoHopRecommender(follows, follows, follows, userIds.length, k, maxFanout),
+                    RecommendType.PEOPLE, userIds, computedAt, pool);
+            stopWatch.stop();
+            long peopleMillis = stopWatch.getLastTaskTimeMillis();
+
+            stopWatch.start("readers");
+            Csr readers = reads.transpose(books.size());
+            long readerRows = save(new TwoHopRecommender(reads, readers, null, userIds.length, k, maxFanout),
+                    RecommendType.READERS, userIds, computedAt, pool);
+            stopWatch.stop();
+            long readerMillis = stopWatch.getLastTaskTimeMillis();
+
+            // 이번에 추천이 없어진 사용자의 이전 결과
+            jdbcTemplate.update(DELETE_STALE_SQL, computedAt);
+
+            RecommendComputeResult result = new RecommendComputeResult(userIds.length, follows.edges(), reads.edges(),
+                    peopleRows, readerRows, loadMillis, peopleMillis, readerMillis, peakHeap());
+            log.info("추천 계산 users : {}, follow : {}, review : {}, peak heap : {}MB\n{}", userIds.length, follows.edges(), reads.edges(),
+                    result.getPeakHeapBytes() >> 20, stopWatch.prettyPrint());
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long save(TwoHopRecommender recommender, RecommendType type, long[] userIds, Timestamp computedAt, ForkJoinPool pool) {
+        AtomicLong rows = new AtomicLong();
+        recommender.run(pool, results -> {
+            List<Object[]> args = new ArrayList<>(results.size());
+            for (TwoHopRecommender.Result result : results) {
+                long[] candidates = new long[result.getCandidates().length];
+                for (int i = 0; i < candidates.length; i++) {
+                    candidates[i] = userIds[result.getCandidates()[i]];
+                }
+                args.add(new Object[]{userIds[result.getUser()], type.name(),
+                        RecommendationCodec.encode(candidates, result.getScores()), computedAt});
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+            rows.addAndGet(args.size());
+        });
+        return rows.get();
+    }
+
+    private long[] loadUserIds() {
+        long[][] ids = {new long[1024]};
+        int[] count = {0};
+        scan(USER_SQL, rs -> {
+            if (count[0] == ids[0].length) ids[0] = Arrays.copyOf(ids[0], count[0] << 1);
+            ids[0][count[0]++] = rs.getLong(1);
+        });
+        return Arrays.copyOf(ids[0], count[0]);
+    }
+
+    private int index(long[] userIds, long userId) {
+        return Arrays.binarySearch(userIds, userId);
+    }
+
+    // 간선 테이블을 두 번 읽는다. 첫 번째에 차수를 세고 두 번째에 채운다. 탈퇴한 사용자와의 간선은 버린다.
+    private Csr loadEdges(String sql, int nodes, Column source, Column target) {
+        Csr.Builder builder = Csr.builder(nodes);
+        scan(sql, rs -> {
+            int from = source.read(rs);
+            if (from >= 0 && target.read(rs) >= 0) builder.count(from);
+        });
+        builder.allocate();
+        scan(sql, rs -> {
+            int from = source.read(rs);
+            int to = target.read(rs);
+            if (from >= 0 && to >= 0) builder.put(from, to);
+        });
+        return builder.build();
+    }
+
+    // id 오름차순 keyset 페이지로 끝까지 읽는다. 첫 번째 컬럼은 id 여야 한다.
+    private void scan(String sql, RowCallbackHandler handler) {
+        long cursor = 0;
+        while (true) {
+            long[] last = {cursor};
+            int[] rows = {0};
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                last[0] = rs.getLong(1);
+                rows[0]++;
+                handler.processRow(rs);
+            }, cursor, chunkSize);
+            if (rows[0] < chunkSize) return;
+            cursor = last[0];
+        }
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+
+    private interface Column {
+        int read(ResultSet rs) throws SQLException;
+    }
+}
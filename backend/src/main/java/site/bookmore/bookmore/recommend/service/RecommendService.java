@@ -0,0 +1,60 @@
+package site.bookmore.bookmore.recommend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.bookmore.bookmore.recommend.dto.RecommendResponse;
+import site.bookmore.bookmore.recommend.entity.RecommendType;
+import site.bookmore.bookmore.recommend.repository.RecommendationRepository;
+import site.bookmore.bookmore.recommend.util.RecommendationCodec;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendService {
+    private static final int MAX_SIZE = 20;
+
+    private final RecommendationRepository recommendationRepository;
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+
+    // 배치 이후 탈퇴했거나 이미 팔로우한 사용자는 제외한다.
+    @Transactional(readOnly = true)
+    public List<RecommendResponse> find(Long userId, RecommendType type, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        List<RecommendationCodec.Candidate> candidates = recommendationRepository.findByUserIdAndRecommendType(userId, type)
+                .map(recommendation -> RecommendationCodec.decode(recommendation.getData()))
+                .orElse(Collections.emptyList());
+        if (candidates.isEmpty()) return Collections.emptyList();
+
+        Set<Long> followings = new HashSet<>(followRepository.findFollowingIds(userId));
+        List<Long> ids = candidates.stream()
+                .map(RecommendationCodec.Candidate::getUserId)
+                .filter(id -> !followings.contains(id))
+                .collect(Collectors.toList());
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+                .filter(candidate -> candidate.getDeletedDatetime() == null)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return candidates.stream()
+                .filter(candidate -> users.containsKey(candidate.getUserId()))
+                .limit(limit)
+                .map(candidate -> {
+                    User recommended = users.get(candidate.getUserId());
+                    return RecommendResponse.builder()
+                            .userId(recommended.getId())
+                            .nickname(recommended.getNickname())
+                            .profile(recommended.getProfile())
+                            .score(candidate.getScore())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,122 @@
+package site.bookmore.bookmore.recommend.util;
+
+import java.util.Arrays;
+
+/**
+ * 압축 희소 행 (CSR) 인접 배열
+ * 정점 v 의 이웃은 targets[offsets[v] .. offsets[v + 1]) 에 오름차순으로 들어 있다.
+ * 간선 하나에 int 하나만 사용하므로 5천만 간선이 약 200MB 이다.
+ */
+public final class Csr {
+    private final int[] offsets;
+    private final int[] targets;
+
+    private Csr(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    public long edges() {
+        return targets.length;
+    }
+
+    public int start(int v) {
+        return offsets[v];
+    }
+
+    public int end(int v) {
+        return offsets[v + 1];
+    }
+
+    public int target(int i) {
+        return targets[i];
+    }
+
+    public boolean contains(int v, int target) {
+        return Arrays.binarySearch(targets, offsets[v], offsets[v + 1], target) >= 0;
+    }
+
+    // 간선 방향을 뒤집는다. nodes 는 뒤집은 그래프의 정점 수
+    public Csr transpose(int nodes) {
+        Builder builder = new Builder(nodes);
+        for (int target : targets) {
+            builder.count(target);
+        }
+        builder.allocate();
+        for (int v = 0; v < size(); v++) {
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                builder.put(targets[i], v);
+            }
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int nodes) {
+        return new Builder(nodes);
+    }
+
+    /**
+     * 간선을 두 번 훑어서 만든다. 첫 번째는 count 로 차수만 세고, allocate 후 두 번째에 put 으로 채운다.
+     * 두 번 사이에 간선이 늘어나면 넘치는 간선은 버리고, 줄어들거나 중복된 간선은 build 에서 없앤다.
+     */
+    public static class Builder {
+        private final int[] offsets;
+        private int[] fill;
+        private int[] targets;
+
+        private Builder(int nodes) {
+            this.offsets = new int[nodes + 1];
+        }
+
+        public void count(int source) {
+            offsets[source + 1]++;
+        }
+
+        public void allocate() {
+            for (int v = 0; v < offsets.length - 1; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            this.targets = new int[offsets[offsets.length - 1]];
+            this.fill = Arrays.copyOf(offsets, offsets.length - 1);
+        }
+
+        public void put(int source, int target) {
+            if (fill[source] >= offsets[source + 1]) return;
+            targets[fill[source]++] = target;
+        }
+
+        public Csr build() {
+            int nodes = offsets.length - 1;
+            boolean compact = true;
+            for (int v = 0; v < nodes; v++) {
+                Arrays.sort(targets, offsets[v], fill[v]);
+                fill[v] = distinct(offsets[v], fill[v]);
+                compact &= fill[v] == offsets[v + 1];
+            }
+            if (compact) return new Csr(offsets, targets);
+
+            int[] newOffsets = new int[nodes + 1];
+            for (int v = 0; v < nodes; v++) {
+                newOffsets[v + 1] = newOffsets[v] + (fill[v] - offsets[v]);
+            }
+            int[] newTargets = new int[newOffsets[nodes]];
+            for (int v = 0; v < nodes; v++) {
+                System.arraycopy(targets, offsets[v], newTargets, newOffsets[v], fill[v] - offsets[v]);
+            }
+            return new Csr(newOffsets, newTargets);
+        }
+
+        // 정렬된 구간의 중복을 앞으로 당겨 없애고 새 끝 위치를 돌려준다.
+        private int distinct(int from, int to) {
+            int end = from;
+            for (int i = from; i < to; i++) {
+                if (end == from || targets[end - 1] != targets[i]) targets[end++] = targets[i];
+            }
+            return end;
+        }
+    }
+}
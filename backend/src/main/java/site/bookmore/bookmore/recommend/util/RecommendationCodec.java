@@ -0,0 +1,42 @@
+package site.bookmore.bookmore.recommend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추천 후보 목록 형식. 후보마다 [사용자 id (8 bytes)][점수 (4 bytes)] 를 점수 내림차순으로 이어 쓴다.
+ */
+public final class RecommendationCodec {
+    public static final int CANDIDATE_BYTES = Long.BYTES + Integer.BYTES;
+
+    private RecommendationCodec() {
+    }
+
+    public static byte[] encode(long[] userIds, int[] scores) {
+        ByteBuffer buffer = ByteBuffer.allocate(userIds.length * CANDIDATE_BYTES);
+        for (int i = 0; i < userIds.length; i++) {
+            buffer.putLong(userIds[i]).putInt(scores[i]);
+        }
+        return buffer.array();
+    }
+
+    public static List<Candidate> decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        List<Candidate> candidates = new ArrayList<>(data.length / CANDIDATE_BYTES);
+        while (buffer.remaining() >= CANDIDATE_BYTES) {
+            candidates.add(new Candidate(buffer.getLong(), buffer.getInt()));
+        }
+        return candidates;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Candidate {
+        private final Long userId;
+        private final int score;
+    }
+}
@@ -0,0 +1,186 @@
+package site.bookmore.bookmore.recommend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * 두 단계 이웃 (u → m → v) 의 경로 수로 상위 K 명을 고른다.
+ * 알 수도 있는 사람 : first = second = 팔로우 그래프, 이미 팔로우 중인 사용자는 exclude 로 제외
+ * 비슷한 독자 : first = 사용자 → 책, second = 책 → 사용자
+ * 이웃이 maxFanout 보다 많은 중간 정점 (모두가 읽은 책 등) 은 변별력이 없고 비용만 크므로 건너뛰며, u 의 첫 단계 이웃도 maxFanout 개까지만 본다.
+ * 사용자 구간을 fork-join 으로 나누고, 스레드마다 사용자 수 크기의 카운터 배열을 재사용한다.
+ */
+public class TwoHopRecommender {
+    private static final int LEAF_SIZE = 1024;
+
+    private final Csr first;
+    private final Csr second;
+    private final Csr exclude;
+    private final int k;
+    private final int maxFanout;
+    private final ThreadLocal<Accumulator> accumulators;
+
+    public TwoHopRecommender(Csr first, Csr second, Csr exclude, int users, int k, int maxFanout) {
+        this.first = first;
+        this.second = second;
+        this.exclude = exclude;
+        this.k = k;
+        this.maxFanout = maxFanout;
+        this.accumulators = ThreadLocal.withInitial(() -> new Accumulator(users, k));
+    }
+
+    // 구간마다 결과를 sink 로 넘긴다. sink 는 여러 스레드에서 동시에 호출된다.
+    public void run(ForkJoinPool pool, Consumer<List<Result>> sink) {
+        pool.invoke(new Task(0, first.size(), sink));
+    }
+
+    public Result recommend(int user) {
+        Accumulator accumulator = accumulators.get();
+
+        int firstEnd = Math.min(first.end(user), first.start(user) + maxFanout);
+        for (int i = first.start(user); i < firstEnd; i++) {
+            int middle = first.target(i);
+            if (second.end(middle) - second.start(middle) > maxFanout) continue;
+            for (int j = second.start(middle); j < second.end(middle); j++) {
+                accumulator.add(second.target(j));
+            }
+        }
+
+        for (int i = 0; i < accumulator.touched; i++) {
+            int candidate = accumulator.candidates[i];
+            int score = accumulator.counts[candidate];
+            accumulator.counts[candidate] = 0;
+            if (candidate == user || !accumulator.competes(score, candidate)) continue;
+            if (exclude != null && exclude.contains(user, candidate)) continue;
+            accumulator.offer(score, candidate);
+        }
+        accumulator.touched = 0;
+
+        return accumulator.drain(user);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final int user;
+        // 점수 내림차순, 같으면 index 오름차순
+        private final int[] candidates;
+        private final int[] scores;
+    }
+
+    private class Task extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Consumer<List<Result>> sink;
+
+        Task(int from, int to, Consumer<List<Result>> sink) {
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Task(from, middle, sink), new Task(middle, to, sink));
+                return;
+            }
+
+            List<Result> results = new ArrayList<>(to - from);
+            for (int user = from; user < to; user++) {
+                Result result = recommend(user);
+                if (result.getCandidates().length > 0) results.add(result);
+            }
+            if (!results.isEmpty()) sink.accept(results);
+        }
+    }
+
+    // 후보별 경로 수와 상위 K 개 최소 힙. key = 점수 << 32 | (MAX - index) 이므로 점수가 같으면 index 가 작은 쪽이 크다.
+    private static class Accumulator {
+        private final int[] counts;
+        private int[] candidates = new int[1024];
+        private int touched;
+        private final long[] heap;
+        private int size;
+
+        Accumulator(int users, int k) {
+            this.counts = new int[users];
+            this.heap = new long[k];
+        }
+
+        void add(int candidate) {
+            if (counts[candidate]++ > 0) return;
+            if (touched == candidates.length) candidates = Arrays.copyOf(candidates, touched << 1);
+            candidates[touched++] = candidate;
+        }
+
+        // 힙에 들어갈 수 있는지. 제외 여부 확인 (이진 탐색) 전에 걸러낸다.
+        boolean competes(int score, int candidate) {
+            return size < heap.length || key(score, candidate) > heap[0];
+        }
+
+        void offer(int score, int candidate) {
+            long key = key(score, candidate);
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (heap.length > 0 && key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        private long key(int score, int candidate) {
+            return ((long) score << 32) | (Integer.MAX_VALUE - candidate);
+        }
+
+        Result drain(int user) {
+            int[] ids = new int[size];
+            int[] scores = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                long key = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+                ids[i] = Integer.MAX_VALUE - (int) key;
+                scores[i] = (int) (key >>> 32);
+            }
+            return new Result(user, ids, scores);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= heap[i]) return;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = (i << 1) + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) smallest = left;
+                if (right < size && heap[right] < heap[smallest]) smallest = right;
+                if (smallest == i) return;
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
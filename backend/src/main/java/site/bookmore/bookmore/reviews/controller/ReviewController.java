@@ -7,10 +7,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import site.bookmore.bookmore.common.dto.ResultResponse;
 import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
 import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
 import site.bookmore.bookmore.reviews.dto.ReviewRequest;
 import site.bookmore.bookmore.reviews.dto.ReviewResponse;
@@ -18,6 +18,7 @@ import site.bookmore.bookmore.reviews.service.ReviewService;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RestController
 @Api(tags = "4-리뷰")
@@ -30,9 +31,8 @@ public class ReviewController {
     @Authorized
     @ApiOperation(value = "작성")
     @PostMapping("/{isbn}/reviews")
-    public ResultResponse<ReviewResponse> create(@RequestBody @Valid ReviewRequest reviewRequest, @PathVariable String isbn, Authentication authentication) {
-        String email = authentication.getName();
-        Long id = reviewService.create(reviewRequest, isbn, email);
+    public ResultResponse<ReviewResponse> create(@RequestBody @Valid ReviewRequest reviewRequest, @PathVariable String isbn, @ApiIgnore @LoginUserId Long userId) {
+        Long id = reviewService.create(reviewRequest, isbn, userId);
         return ResultResponse.success(new ReviewResponse(id, "리뷰 등록 완료"));
     }
 
@@ -44,13 +44,19 @@ public class ReviewController {
         return ResultResponse.success(reviewPage);
     }
 
+    // 도서 인기 리뷰 조회
+    @ApiOperation(value = "인기 리뷰 조회")
+    @GetMapping("/{isbn}/reviews/best")
+    public ResultResponse<List<ReviewPageResponse>> readBest(@RequestParam(defaultValue = "5") int size, @PathVariable String isbn) {
+        return ResultResponse.success(reviewService.readBest(isbn, size));
+    }
+
     // 도서 리뷰 수정
     @Authorized
     @ApiOperation(value = "수정")
     @PatchMapping("/reviews/{id}")
-    public ResultResponse<ReviewResponse> update(@RequestBody @Valid ReviewRequest reviewRequest, @PathVariable Long id, @ApiIgnore Authentication authentication) {
-        String email = authentication.getName();
-        Long result = reviewService.update(reviewRequest, id, email);
+    public ResultResponse<ReviewResponse> update(@RequestBody @Valid ReviewRequest reviewRequest, @PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        Long result = reviewService.update(reviewRequest, id, userId);
         return ResultResponse.success(new ReviewResponse(result, "리뷰 수정 완료"));
     }
 
@@ -58,9 +64,8 @@ public class ReviewController {
     @Authorized
     @ApiOperation(value = "삭제")
     @DeleteMapping("/reviews/{id}")
-    public ResultResponse<ReviewResponse> delete(@PathVariable Long id, @ApiIgnore Authentication authentication) {
-        String email = authentication.getName();
-        Long result = reviewService.delete(id, email);
+    public ResultResponse<ReviewResponse> delete(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        Long result = reviewService.delete(id, userId);
         return ResultResponse.success(new ReviewResponse(result, "리뷰 삭제 완료"));
     }
 
@@ -68,9 +73,8 @@ public class ReviewController {
     @Authorized
     @ApiOperation(value = "좋아요 | 좋아요 취소")
     @PostMapping("/reviews/{id}/likes")
-    public ResultResponse<String> likes(@PathVariable Long id, @ApiIgnore Authentication authentication) {
-        String email = authentication.getName();
-        boolean result = reviewService.doLikes(email, id);
+    public ResultResponse<String> likes(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        boolean result = reviewService.doLikes(userId, id);
         return ResultResponse.success(result ? "좋아요를 눌렀습니다." : "좋아요가 취소되었습니다.");
     }
 }
\ No newline at end of file
@@ -34,6 +34,17 @@ public class Chart {
         updateDifficulty(chart.getDifficulty());
     }
 
+    // 수정 전 점수를 보관하기 위한 복사본
+    public Chart copy() {
+        return Chart.builder()
+                .professionalism(professionalism)
+                .fun(fun)
+                .readability(readability)
+                .collectible(collectible)
+                .difficulty(difficulty)
+                .build();
+    }
+
     private void updateProfessionalism(Integer professionalism) {
         if (professionalism != null) {
             this.professionalism = professionalism;
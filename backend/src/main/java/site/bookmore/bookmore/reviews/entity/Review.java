@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = @Index(name = "idx_review_book_likes", columnList = "book_id, likes_count"))
 @Getter
 @Builder
 @AllArgsConstructor
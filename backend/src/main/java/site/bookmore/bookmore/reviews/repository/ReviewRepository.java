@@ -7,21 +7,51 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import site.bookmore.bookmore.books.entity.Book;
 import site.bookmore.bookmore.reviews.entity.Review;
+import site.bookmore.bookmore.reviews.vo.HotReviewVo;
 import site.bookmore.bookmore.users.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    Page<Review> findByBookAndDeletedDatetimeIsNull(Pageable pageable, Book book);
+    // 페이징은 id 만 조회하고, 연관 엔티티는 findAllWithDetailsByIdIn 으로 한 번에 가져온다.
+    @Query(value = "select r.id from Review r where r.book = :book and r.deletedDatetime is null",
+            countQuery = "select count(r) from Review r where r.book = :book and r.deletedDatetime is null")
+    Page<Long> findIdsByBook(@Param("book") Book book, Pageable pageable);
 
-    Page<Review> findByAuthorAndDeletedDatetimeIsNull(Pageable pageable, User user);
+    @Query(value = "select r.id from Review r where r.author = :author and r.deletedDatetime is null",
+            countQuery = "select count(r) from Review r where r.author = :author and r.deletedDatetime is null")
+    Page<Long> findIdsByAuthor(@Param("author") User author, Pageable pageable);
+
+    @Query("select distinct r from Review r " +
+            "join fetch r.author " +
+            "join fetch r.book " +
+            "join fetch r.chart " +
+            "left join fetch r.reviewTags rt " +
+            "left join fetch rt.tag " +
+            "where r.id in :ids")
+    List<Review> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 알림 목록용. 삭제된 리뷰는 제외
+    @Query("select r from Review r join fetch r.book where r.id in :ids and r.deletedDatetime is null")
+    List<Review> findAllWithBookByIdIn(@Param("ids") Collection<Long> ids);
 
     Optional<Review> findByIdAndDeletedDatetimeIsNull(Long id);
 
+    // 피드용. cursor 보다 작은 id 를 최신순으로 조회
+    @Query("select r.id from Review r where r.author.id in :authorIds and r.id < :cursor and r.deletedDatetime is null order by r.id desc")
+    List<Long> findFeedIds(@Param("authorIds") Collection<Long> authorIds, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 인기 리뷰 보드 생성용 후보
+    List<HotReviewVo> findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc(String isbn);
+
+    List<HotReviewVo> findTop50ByBookIdAndDeletedDatetimeIsNullOrderByCreatedDatetimeDesc(String isbn);
+
     @Query(value = "SELECT sum (r.likesCount) FROM Review r WHERE r.author.id = :id ")
     Integer findSum(@Param("id") Long id);
 
     @Query("select r from Review r left join fetch r.reviewTags rt left join fetch rt.tag where r.id = :id and r.deletedDatetime is null")
     Optional<Review> findByIdWithTags(Long id);
-}
\ No newline at end of file
+}
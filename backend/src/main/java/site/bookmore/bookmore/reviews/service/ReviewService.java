@@ -3,21 +3,27 @@ package site.bookmore.bookmore.reviews.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import site.bookmore.bookmore.alarms.entity.AlarmType;
 import site.bookmore.bookmore.books.entity.Book;
 import site.bookmore.bookmore.books.repository.BookRepository;
+import site.bookmore.bookmore.books.service.BookStatsService;
 import site.bookmore.bookmore.common.exception.forbidden.InvalidPermissionException;
 import site.bookmore.bookmore.common.exception.not_found.BookNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.ReviewNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.ReviewTagRelationNotFound;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
-import site.bookmore.bookmore.observer.event.alarm.AlarmCreate;
-import site.bookmore.bookmore.observer.event.alarm.AlarmListCreate;
+import site.bookmore.bookmore.observer.event.ranks.PointChange;
+import site.bookmore.bookmore.observer.event.review.ReviewDelete;
+import site.bookmore.bookmore.observer.event.review.ReviewScoreChange;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+import site.bookmore.bookmore.outbox.entity.OutboxType;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
 import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
 import site.bookmore.bookmore.reviews.dto.ReviewRequest;
+import site.bookmore.bookmore.reviews.entity.Chart;
 import site.bookmore.bookmore.reviews.entity.Likes;
 import site.bookmore.bookmore.reviews.entity.Review;
 import site.bookmore.bookmore.reviews.entity.ReviewTag;
@@ -26,15 +32,17 @@ import site.bookmore.bookmore.reviews.repository.LikesRepository;
 import site.bookmore.bookmore.reviews.repository.ReviewRepository;
 import site.bookmore.bookmore.reviews.repository.ReviewTagRepository;
 import site.bookmore.bookmore.reviews.repository.TagRepository;
-import site.bookmore.bookmore.users.entity.Follow;
+import site.bookmore.bookmore.reviews.util.HotReviewRanker;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.FollowRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -42,34 +50,35 @@ import java.util.stream.Collectors;
 public class ReviewService {
 
     private final BookRepository bookRepository;
-    private final FollowRepository followRepository;
+    private final BookStatsService bookStatsService;
+    private final OutboxRepository outboxRepository;
     private final LikesRepository likesRepository;
 
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
     private final ReviewTagRepository reviewTagRepository;
+    private final HotReviewRanker hotReviewRanker;
     private final ApplicationEventPublisher publisher;
 
     // 도서 리뷰 등록
     @Transactional
-    public Long create(ReviewRequest reviewRequest, String isbn, String email) {
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
+    public Long create(ReviewRequest reviewRequest, String isbn, Long userId) {
+        // 탈퇴한 사용자의 토큰은 인증 단계에서 거부되므로 id 로 참조만 한다.
+        User user = userRepository.getReferenceById(userId);
 
         Book book = bookRepository.findById(isbn)
                 .orElseThrow(BookNotFoundException::new);
 
         Review review = createReview(reviewRequest.toEntity(user, book));
+        bookStatsService.add(book.getId(), review.getChart());
+        publisher.publishEvent(ReviewScoreChange.of(book.getId(), review.getId(), 0, review.getCreatedDatetime()));
 
         Set<String> tagsLabel = reviewRequest.getTags();
 
         if (tagsLabel == null || tagsLabel.isEmpty()) {
             // 나의 팔로잉이 리뷰를 등록했을 때의 알림 발생
-            List<Follow> follows = followRepository.findAllByFollowingAndDeletedDatetimeIsNull(user);
-            List<User> followers = follows.stream().map(Follow::getFollower).collect(Collectors.toList());
-
-            publisher.publishEvent(AlarmListCreate.of(AlarmType.NEW_FOLLOW_REVIEW, followers, user, review.getId()));
+            outboxRepository.save(Outbox.of(OutboxType.NEW_FOLLOW_REVIEW, review.getId(), user.getId()));
             return review.getId();
         }
 
@@ -81,10 +90,8 @@ public class ReviewService {
         }
 
         // 나의 팔로잉이 리뷰를 등록했을 때의 알림 발생
-        List<Follow> follows = followRepository.findAllByFollowingAndDeletedDatetimeIsNull(user);
-        List<User> followers = follows.stream().map(Follow::getFollower).collect(Collectors.toList());
-
-        publisher.publishEvent(AlarmListCreate.of(AlarmType.NEW_FOLLOW_REVIEW, followers, user, review.getId()));
+        // 팔로워 조회와 알림 생성은 OutboxRelay 가 트랜잭션 밖에서 나누어 처리한다.
+        outboxRepository.save(Outbox.of(OutboxType.NEW_FOLLOW_REVIEW, review.getId(), user.getId()));
 
         return review.getId();
     }
@@ -95,24 +102,47 @@ public class ReviewService {
         Book book = bookRepository.findById(isbn)
                 .orElseThrow(BookNotFoundException::new);
 
-        return reviewRepository.findByBookAndDeletedDatetimeIsNull(pageable, book).map(ReviewPageResponse::of);
+        return readReviewPage(reviewRepository.findIdsByBook(book, pageable));
+    }
+
+    // 도서 인기 리뷰 조회
+    @Transactional(readOnly = true)
+    public List<ReviewPageResponse> readBest(String isbn, int size) {
+        Book book = bookRepository.findById(isbn)
+                .orElseThrow(BookNotFoundException::new);
+
+        List<Long> ids = hotReviewRanker.top(book.getId(), size);
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        Map<Long, Review> reviews = reviewRepository.findAllWithDetailsByIdIn(ids).stream()
+                .filter(review -> review.getDeletedDatetime() == null)
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        return ids.stream()
+                .filter(reviews::containsKey)
+                .map(id -> ReviewPageResponse.of(reviews.get(id)))
+                .collect(Collectors.toList());
     }
 
     // 도서 리뷰 수정
     @Transactional
-    public Long update(ReviewRequest reviewRequest, Long reviewId, String email) {
+    public Long update(ReviewRequest reviewRequest, Long reviewId, Long userId) {
         Review review = readReviewWithTag(reviewId);
 
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-
-        if (!Objects.equals(review.getAuthor().getEmail(), user.getEmail())) {
+        if (!Objects.equals(review.getAuthor().getId(), userId)) {
             throw new InvalidPermissionException();
         }
 
         Set<String> updateTagsLabel = reviewRequest.getTags();
 
-        review.update(reviewRequest.toEntity());
+        Review updated = reviewRequest.toEntity();
+        if (updated.getChart() != null) {
+            Chart before = review.getChart().copy();
+            review.update(updated);
+            bookStatsService.replace(review.getBook().getId(), before, review.getChart());
+        } else {
+            review.update(updated);
+        }
 
         if (updateTagsLabel == null) return review.getId();
 
@@ -143,27 +173,25 @@ public class ReviewService {
 
     // 도서 리뷰 삭제
     @Transactional
-    public Long delete(Long reviewId, String email) {
+    public Long delete(Long reviewId, Long userId) {
         Review review = reviewRepository.findByIdAndDeletedDatetimeIsNull(reviewId)
                 .orElseThrow(ReviewNotFoundException::new);
 
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-
-        if (!Objects.equals(review.getAuthor().getEmail(), user.getEmail())) {
+        if (!Objects.equals(review.getAuthor().getId(), userId)) {
             throw new InvalidPermissionException();
         }
 
         review.delete();
+        bookStatsService.remove(review.getBook().getId(), review.getChart());
+        publisher.publishEvent(ReviewDelete.of(review.getBook().getId(), review.getId()));
 
         return review.getId();
     }
 
     // 도서 리뷰에 좋아요 | 취소
     @Transactional
-    public boolean doLikes(String email, Long reviewId) {
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
+    public boolean doLikes(Long userId, Long reviewId) {
+        User user = userRepository.getReferenceById(userId);
 
         Review review = reviewRepository.findByIdAndDeletedDatetimeIsNull(reviewId)
                 .orElseThrow(ReviewNotFoundException::new);
@@ -174,10 +202,12 @@ public class ReviewService {
         boolean result = likes.likes();
 
         likesRepository.save(likes);
+        publisher.publishEvent(ReviewScoreChange.of(review.getBook().getId(), review.getId(), review.getLikesCount(), review.getCreatedDatetime()));
+        publisher.publishEvent(PointChange.of(review.getAuthor().getId(), result ? 1 : -1));
 
         // 내가 작성한 리뷰에 좋아요가 달렸을 때의 알림 발생
-        if (likes.isLiked() && !user.equals(review.getAuthor())) {
-            publisher.publishEvent(AlarmCreate.of(AlarmType.NEW_LIKE_ON_REVIEW, review.getAuthor(), user, review.getId()));
+        if (likes.isLiked() && !Objects.equals(userId, review.getAuthor().getId())) {
+            outboxRepository.save(Outbox.of(OutboxType.NEW_LIKE_ON_REVIEW, review.getId(), userId, review.getAuthor().getId()));
         }
 
         return result;
@@ -187,8 +217,26 @@ public class ReviewService {
     public Page<ReviewPageResponse> findByAuthor(Long authorId, Pageable pageable) {
         User author = userRepository.findByIdAndDeletedDatetimeIsNull(authorId)
                 .orElseThrow(UserNotFoundException::new);
-        return reviewRepository.findByAuthorAndDeletedDatetimeIsNull(pageable, author)
-                .map(ReviewPageResponse::of);
+        return readReviewPage(reviewRepository.findIdsByAuthor(author, pageable));
+    }
+
+    // 페이지에 해당하는 리뷰 id 로 작성자, 도서, 차트, 태그를 한 번에 조회하여 N+1 문제를 방지
+    private Page<ReviewPageResponse> readReviewPage(Page<Long> idPage) {
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), idPage.getPageable(), idPage.getTotalElements());
+        }
+
+        // id 조회 이후 삭제된 리뷰는 제외
+        Map<Long, Review> reviews = reviewRepository.findAllWithDetailsByIdIn(idPage.getContent()).stream()
+                .filter(review -> review.getDeletedDatetime() == null)
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        List<ReviewPageResponse> content = idPage.getContent().stream()
+                .filter(reviews::containsKey)
+                .map(id -> ReviewPageResponse.of(reviews.get(id)))
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
     }
 
     private Review createReview(Review review) {
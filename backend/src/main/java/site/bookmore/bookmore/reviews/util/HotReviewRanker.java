@@ -0,0 +1,166 @@
+package site.bookmore.bookmore.reviews.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.reviews.repository.ReviewRepository;
+import site.bookmore.bookmore.reviews.vo.HotReviewVo;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 도서별 인기 리뷰 Top-K
+ * 점수는 좋아요 수를 작성 후 경과 시간으로 감쇠시킨 값 (Hacker News 방식) 이며,
+ * 도서별 보드는 처음 조회될 때 DB 에서 후보를 읽어 만들고 이후에는 좋아요 이벤트로만 갱신한다.
+ * 빈 보드를 먼저 등록한 뒤 DB 를 읽으므로 그 사이에 커밋된 좋아요도 반영되며, 이벤트로 바뀐 리뷰는 DB 에서 읽은 값보다 우선한다.
+ */
+@Slf4j
+@Component
+public class HotReviewRanker {
+    public static final int CAPACITY = 50;
+    private static final int MAX_BOOKS = 10_000;
+    private static final double GRAVITY = 1.8;
+    private static final double HOUR_MILLIS = 60 * 60 * 1000;
+
+    private final ReviewRepository reviewRepository;
+    private final Map<String, Board> boards;
+
+    public HotReviewRanker(ReviewRepository reviewRepository) {
+        this.reviewRepository = reviewRepository;
+        this.boards = Collections.synchronizedMap(new LinkedHashMap<String, Board>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Board> eldest) {
+                return size() > MAX_BOOKS;
+            }
+        });
+    }
+
+    public List<Long> top(String isbn, int size) {
+        return boardOf(isbn).top(Math.max(0, Math.min(size, CAPACITY)), System.currentTimeMillis());
+    }
+
+    // 등록 | 좋아요 | 취소 반영. 아직 만들어지지 않은 보드는 다음 조회 시 DB 에서 읽으므로 무시한다.
+    public void onLikes(String isbn, Long reviewId, int likesCount, LocalDateTime createdDatetime) {
+        Board board = boards.get(isbn);
+        if (board == null) return;
+        board.offer(reviewId, likesCount, toEpochMillis(createdDatetime), System.currentTimeMillis());
+    }
+
+    public void onDelete(String isbn, Long reviewId) {
+        Board board = boards.get(isbn);
+        if (board == null) return;
+        board.remove(reviewId);
+    }
+
+    private Board boardOf(String isbn) {
+        Board board = boards.get(isbn);
+        if (board != null) return board;
+
+        Board created = new Board();
+        Board previous = boards.putIfAbsent(isbn, created);
+        if (previous != null) return previous;
+
+        // 좋아요가 많은 리뷰와 최근 리뷰를 후보로 보드를 채운다.
+        List<HotReviewVo> candidates = new ArrayList<>();
+        try {
+            candidates.addAll(reviewRepository.findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc(isbn));
+            candidates.addAll(reviewRepository.findTop50ByBookIdAndDeletedDatetimeIsNullOrderByCreatedDatetimeDesc(isbn));
+        } catch (RuntimeException e) {
+            // 기다리던 조회가 멈추지 않도록 이벤트로 받은 리뷰만으로 응답하고, 다음 조회에서 다시 만든다.
+            boards.remove(isbn, created);
+            created.load(List.of(), System.currentTimeMillis());
+            throw e;
+        }
+        created.load(candidates, System.currentTimeMillis());
+        log.info("인기 리뷰 보드 생성 isbn : {}, 후보 : {}개", isbn, candidates.size());
+        return created;
+    }
+
+    private static long toEpochMillis(LocalDateTime datetime) {
+        if (datetime == null) return System.currentTimeMillis();
+        return datetime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static double score(int likesCount, long createdMillis, long now) {
+        double ageHours = Math.max(0, now - createdMillis) / HOUR_MILLIS;
+        return likesCount / Math.pow(ageHours + 2, GRAVITY);
+    }
+
+    private static class Board {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        // DB 에서 후보를 읽는 동안 이벤트로 바뀐 리뷰
+        private final Set<Long> changed = new HashSet<>();
+        private boolean loaded;
+
+        synchronized void offer(Long reviewId, int likesCount, long createdMillis, long now) {
+            if (!loaded) changed.add(reviewId);
+            put(reviewId, likesCount, createdMillis, now);
+        }
+
+        synchronized void remove(Long reviewId) {
+            if (!loaded) changed.add(reviewId);
+            entries.remove(reviewId);
+        }
+
+        synchronized void load(List<HotReviewVo> candidates, long now) {
+            for (HotReviewVo candidate : candidates) {
+                if (changed.contains(candidate.getId())) continue;
+                put(candidate.getId(), candidate.getLikesCount(), toEpochMillis(candidate.getCreatedDatetime()), now);
+            }
+            changed.clear();
+            loaded = true;
+            notifyAll();
+        }
+
+        // 다른 요청이 보드를 채우는 중이면 채울 때까지 기다린다.
+        synchronized List<Long> top(int size, long now) {
+            while (!loaded) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return entries.values().stream()
+                    .sorted(Comparator.comparingDouble((Entry e) -> e.score(now)).reversed()
+                            .thenComparing(e -> e.reviewId, Comparator.reverseOrder()))
+                    .limit(size)
+                    .map(e -> e.reviewId)
+                    .collect(Collectors.toList());
+        }
+
+        private void put(Long reviewId, int likesCount, long createdMillis, long now) {
+            Entry entry = entries.get(reviewId);
+            if (entry != null) {
+                entry.likesCount = likesCount;
+                return;
+            }
+
+            if (entries.size() >= CAPACITY) {
+                Entry lowest = Collections.min(entries.values(), Comparator.comparingDouble(e -> e.score(now)));
+                if (lowest.score(now) >= score(likesCount, createdMillis, now)) return;
+                entries.remove(lowest.reviewId);
+            }
+            entries.put(reviewId, new Entry(reviewId, likesCount, createdMillis));
+        }
+    }
+
+    private static class Entry {
+        private final Long reviewId;
+        private final long createdMillis;
+        private int likesCount;
+
+        Entry(Long reviewId, int likesCount, long createdMillis) {
+            this.reviewId = reviewId;
+            this.likesCount = likesCount;
+            this.createdMillis = createdMillis;
+        }
+
+        double score(long now) {
+            return HotReviewRanker.score(likesCount, createdMillis, now);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package site.bookmore.bookmore.reviews.vo;
+
+import java.time.LocalDateTime;
+
+public interface HotReviewVo {
+    Long getId();
+
+    int getLikesCount();
+
+    LocalDateTime getCreatedDatetime();
+}
@@ -15,6 +15,7 @@ import site.bookmore.bookmore.security.entrypoint.CustomAccessDeniedEntryPoint;
 import site.bookmore.bookmore.security.entrypoint.CustomAuthenticationEntryPoint;
 import site.bookmore.bookmore.security.fiter.JwtAuthenticationFilter;
 import site.bookmore.bookmore.security.provider.JwtProvider;
+import site.bookmore.bookmore.users.entity.Role;
 
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -26,11 +27,21 @@ public class WebSecurityConfig {
 
     public static final String[] GET_AUTHENTICATED_REGEX_LIST = {
             "^/api/v1/users/me$",
+            "^/api/v1/users/ranks/my$",
+            "^/api/v1/users/ranks/my/around$",
+            "^/api/v1/users/\\d*/deletion$",
+            "^/api/v1/users/\\d*/ranks/history$",
             "^/api/v1/users/\\d*/follow$",
+            "^/api/v1/users/\\d*/follow/mutual$",
             "^/api/v1/challenges/\\d*$",
             "^/api/v1/challenges$",
             "^/api/v1/alarms$",
             "^/api/v1/alarms/new$",
+            "^/api/v1/alarms/stream$",
+            "^/api/v1/alarms/unread-count$",
+            "^/api/v1/feed$",
+            "^/api/v1/recommendations/people$",
+            "^/api/v1/recommendations/readers$",
     };
 
     public static final String[] POST_AUTHENTICATED_REGEX_LIST = {
@@ -42,6 +53,7 @@ public class WebSecurityConfig {
             "^/api/v1/books/\\w*/reviews$",
             "^/api/v1/books/reviews/\\d*/likes$",
             "^/api/v1/alarms/\\d*/confirm$",
+            "^/api/v1/alarms/confirm$",
     };
 
     public static final String[] PATCH_AUTHENTICATED_REGEX_LIST = {
@@ -65,7 +77,10 @@ public class WebSecurityConfig {
 
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
 
+        // 운영 지표는 관리자만 조회하고, 상태 확인만 공개한다.
         http.authorizeHttpRequests()
+                .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasAuthority(Role.ROLE_ADMIN.name())
                 .regexMatchers(HttpMethod.GET, GET_AUTHENTICATED_REGEX_LIST).authenticated()
                 .regexMatchers(HttpMethod.POST, POST_AUTHENTICATED_REGEX_LIST).authenticated()
                 .regexMatchers(HttpMethod.PATCH, PATCH_AUTHENTICATED_REGEX_LIST).authenticated()
@@ -3,7 +3,6 @@ package site.bookmore.bookmore.security.fiter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import site.bookmore.bookmore.security.provider.JwtProvider;
@@ -35,10 +34,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         token = parseBearer(token);
 
-        if (jwtProvider.validateToken(token)) {
-            Authentication authentication = jwtProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+        jwtProvider.authenticate(token)
+                .ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,77 @@
+package site.bookmore.bookmore.security.provider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증을 마친 토큰의 인증 정보
+ * 토큰 원문 대신 SHA-256 해시를 키로 보관하며, 토큰 만료 시각이 지나면 사용하지 않는다.
+ * 최대 크기에 도달하면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 최대 크기의 90% 가 될 때까지 임의의 항목을 밀어낸다.
+ */
+@Component
+public class AuthenticationCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public AuthenticationCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Authentication get(String token, long now) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.authentication;
+    }
+
+    public void put(String token, Authentication authentication, long expiresAt) {
+        if (entries.size() >= maxSize) evict(System.currentTimeMillis());
+        entries.put(hash(token), new Entry(authentication, expiresAt));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+        private final Authentication authentication;
+        private final long expiresAt;
+
+        Entry(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
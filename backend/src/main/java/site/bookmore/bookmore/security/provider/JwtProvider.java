@@ -13,6 +13,7 @@ import site.bookmore.bookmore.users.entity.Role;
 import site.bookmore.bookmore.users.entity.User;
 
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtProvider {
@@ -22,9 +23,15 @@ public class JwtProvider {
     private final String ID_KEY = "id";
     private final String ROLE_KEY = "role";
 
-    public JwtProvider(@Value("${jwt.secret}") String secret, @Value("${jwt.expiration}") long expiration) {
+    private final AuthenticationCache authenticationCache;
+    private final TokenRevocations tokenRevocations;
+
+    public JwtProvider(@Value("${jwt.secret}") String secret, @Value("${jwt.expiration}") long expiration,
+                       AuthenticationCache authenticationCache, TokenRevocations tokenRevocations) {
         this.SECRET = secret;
         this.EXPIRATION = expiration * 1000;
+        this.authenticationCache = authenticationCache;
+        this.tokenRevocations = tokenRevocations;
     }
 
     public String generateToken(User user) {
@@ -41,23 +48,50 @@ public class JwtProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰의 서명 검증과 파싱을 한 번에 수행한다. 유효하지 않은 토큰이면 empty
+     * 검증을 마친 토큰은 만료 시각까지 캐시하여 다시 파싱하지 않는다. 탈퇴한 사용자의 토큰은 캐시 여부와 관계없이 거부한다.
+     */
+    public Optional<Authentication> authenticate(String token) {
+        long now = System.currentTimeMillis();
+        Authentication cached = authenticationCache.get(token, now);
+        if (cached != null) return notRevoked(cached);
+
+        Claims claims;
         try {
-            Jwts.parser()
+            claims = Jwts.parser()
                     .setSigningKey(SECRET)
-                    .parseClaimsJws(token);
-            return true;
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (io.jsonwebtoken.SignatureException | MalformedJwtException exception) { // 잘못된 jwt signature
+            return Optional.empty();
         } catch (io.jsonwebtoken.ExpiredJwtException exception) { // jwt 만료
+            return Optional.empty();
         } catch (io.jsonwebtoken.UnsupportedJwtException exception) { // 지원하지 않는 jwt
+            return Optional.empty();
         } catch (IllegalArgumentException exception) { // 잘못된 jwt 토큰
+            return Optional.empty();
+        }
+
+        Authentication authentication = getAuthentication(claims, token);
+        if (claims.getExpiration() != null) {
+            authenticationCache.put(token, authentication, claims.getExpiration().getTime());
         }
+        return notRevoked(authentication);
+    }
+
+    // 탈퇴한 사용자의 발급된 토큰을 무효화
+    public void revoke(Long userId) {
+        tokenRevocations.revoke(userId);
+    }
 
-        return false;
+    private Optional<Authentication> notRevoked(Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        if (tokenRevocations.isRevoked(user.getId())) return Optional.empty();
+        return Optional.of(authentication);
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+    private Authentication getAuthentication(Claims claims, String token) {
         Long id = Long.parseLong(claims.get(ID_KEY).toString());
         String email = claims.get(EMAIL_KEY).toString();
         String roleName = claims.get(ROLE_KEY).toString();
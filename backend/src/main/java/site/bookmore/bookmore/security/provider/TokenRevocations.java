@@ -0,0 +1,51 @@
+package site.bookmore.bookmore.security.provider;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴한 사용자의 토큰 무효화
+ * 토큰 유효 기간 안에 탈퇴한 사용자 id 를 보관하며, 다른 서버에서 탈퇴한 사용자도 주기적으로 DB 에서 다시 읽어 반영한다.
+ * 유효 기간보다 먼저 탈퇴한 사용자의 토큰은 이미 만료되었으므로 보관하지 않는다.
+ */
+@Component
+public class TokenRevocations {
+    private static final long PENDING_MILLIS = 60_000;
+
+    private final UserRepository userRepository;
+    private final long expirationSeconds;
+    private volatile Set<Long> revoked = Collections.emptySet();
+    // 이 서버에서 무효화한 사용자 id 와 시각. 탈퇴가 롤백되어 DB 에 반영되지 않으면 PENDING_MILLIS 후 해제
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public TokenRevocations(UserRepository userRepository, @Value("${jwt.expiration}") long expirationSeconds) {
+        this.userRepository = userRepository;
+        this.expirationSeconds = expirationSeconds;
+    }
+
+    public boolean isRevoked(Long userId) {
+        return revoked.contains(userId) || pending.containsKey(userId);
+    }
+
+    // 이 서버에서 탈퇴한 사용자는 다음 갱신을 기다리지 않고 바로 무효화
+    public void revoke(Long userId) {
+        pending.put(userId, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-delay:10000}")
+    public void refresh() {
+        Set<Long> deleted = new HashSet<>(userRepository.findIdsDeletedSince(LocalDateTime.now().minusSeconds(expirationSeconds)));
+        revoked = Collections.unmodifiableSet(deleted);
+        long expired = System.currentTimeMillis() - PENDING_MILLIS;
+        pending.entrySet().removeIf(entry -> deleted.contains(entry.getKey()) || entry.getValue() < expired);
+    }
+}
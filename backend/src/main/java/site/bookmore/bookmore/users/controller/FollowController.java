@@ -5,10 +5,10 @@ import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import site.bookmore.bookmore.common.dto.ResultResponse;
 import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
 import site.bookmore.bookmore.users.dto.FollowerResponse;
 import site.bookmore.bookmore.users.dto.FollowingResponse;
 import site.bookmore.bookmore.users.service.FollowService;
@@ -25,17 +25,15 @@ public class FollowController {
     @Authorized
     @ApiOperation(value = "팔로우")
     @PostMapping("/{id}/follow")
-    public ResultResponse<String> following(@PathVariable Long id, @ApiIgnore Authentication authentication) {
-        String email = authentication.getName();
-        return ResultResponse.success(followService.following(id, email));
+    public ResultResponse<String> following(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(followService.following(id, userId));
     }
 
     @Authorized
     @ApiOperation(value = "언팔로우")
     @DeleteMapping("/{id}/follow")
-    public ResultResponse<String> unfollowing(@PathVariable Long id, @ApiIgnore Authentication authentication) {
-        String email = authentication.getName();
-        return ResultResponse.success(followService.unfollowing(id, email));
+    public ResultResponse<String> unfollowing(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(followService.unfollowing(id, userId));
     }
 
     @ApiOperation(value = "팔로잉 조회")
@@ -53,8 +51,14 @@ public class FollowController {
     @Authorized
     @ApiOperation(value = "팔로우 중 인지 확인")
     @GetMapping("/{id}/follow")
-    public ResultResponse<Boolean> isFollow(@PathVariable Long id, @ApiIgnore Authentication authentication){
-        String email = authentication.getName();
-        return ResultResponse.success(followService.isFollow(id, email));
+    public ResultResponse<Boolean> isFollow(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(followService.isFollow(id, userId));
+    }
+
+    @Authorized
+    @ApiOperation(value = "맞팔로우 중 인지 확인")
+    @GetMapping("/{id}/follow/mutual")
+    public ResultResponse<Boolean> isMutualFollow(@PathVariable Long id, @ApiIgnore @LoginUserId Long userId) {
+        return ResultResponse.success(followService.isMutualFollow(id, userId));
     }
 }
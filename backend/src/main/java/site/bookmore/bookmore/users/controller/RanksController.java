@@ -3,13 +3,24 @@ package site.bookmore.bookmore.users.controller;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import site.bookmore.bookmore.common.dto.ResultResponse;
+import site.bookmore.bookmore.common.support.annotation.Authorized;
+import site.bookmore.bookmore.common.support.annotation.LoginUserId;
+import site.bookmore.bookmore.users.dto.RanksAroundResponse;
+import site.bookmore.bookmore.users.dto.RanksHistoryResponse;
+import site.bookmore.bookmore.users.dto.RanksMoverResponse;
 import site.bookmore.bookmore.users.dto.RanksResponse;
+import site.bookmore.bookmore.users.service.RanksHistoryService;
 import site.bookmore.bookmore.users.service.RanksService;
+import springfox.documentation.annotations.ApiIgnore;
 
 import java.util.List;
 
@@ -19,18 +30,54 @@ import java.util.List;
 @RequestMapping("/api/v1/users")
 public class RanksController {
     private final RanksService ranksService;
+    private final RanksHistoryService ranksHistoryService;
 
     @ApiOperation(value = "랭킹 Top100 조회")
     @GetMapping("/ranks")
-    public ResultResponse<List<RanksResponse>> findTop100Ranks() {
+    public ResponseEntity<byte[]> findTop100Ranks() {
 
-        return ResultResponse.success(ranksService.findTop100Ranks());
+        // 미리 직렬화된 ResultResponse<List<RanksResponse>> 본문
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ranksService.findTop100RanksJson());
     }
 
+    @ApiOperation(value = "랭킹 Top100 변경 구독")
+    @GetMapping(value = "/ranks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTop100Ranks() {
+
+        return ranksService.subscribeTop100Ranks();
+    }
+
+    @Authorized
     @ApiOperation(value = "나의 랭킹 조회")
     @GetMapping("/ranks/my")
-    public ResultResponse<RanksResponse> findMyRanks(Authentication authentication) {
+    public ResultResponse<RanksResponse> findMyRanks(@ApiIgnore @LoginUserId Long userId) {
+
+        return ResultResponse.success(ranksService.findMyRanks(userId));
+    }
+
+    @Authorized
+    @ApiOperation(value = "나의 실시간 랭킹과 앞뒤 순위 조회")
+    @GetMapping("/ranks/my/around")
+    public ResultResponse<RanksAroundResponse> findMyRanksAround(@RequestParam(defaultValue = "5") int size, @ApiIgnore @LoginUserId Long userId) {
+
+        return ResultResponse.success(ranksService.findMyRanksAround(userId, size));
+    }
+
+    @Authorized
+    @ApiOperation(value = "사용자 일별 순위 변화 조회")
+    @GetMapping("/{id}/ranks/history")
+    public ResultResponse<List<RanksHistoryResponse>> findRanksHistory(@PathVariable Long id, @RequestParam(defaultValue = "30") int days) {
+
+        return ResultResponse.success(ranksHistoryService.findHistory(id, days));
+    }
+
+    @ApiOperation(value = "순위 변동이 큰 사용자 조회")
+    @GetMapping("/ranks/movers")
+    public ResultResponse<List<RanksMoverResponse>> findRanksMovers(@RequestParam(defaultValue = "7") int days,
+                                                                    @RequestParam(defaultValue = "10") int size) {
 
-        return ResultResponse.success(ranksService.findMyRanks(authentication.getName()));
+        return ResultResponse.success(ranksHistoryService.findMovers(days, size));
     }
 }
\ No newline at end of file
@@ -59,6 +59,14 @@ public class UserController {
         return ResultResponse.success(userService.delete(email, id));
     }
 
+    @Authorized
+    @ApiOperation(value = "회원 탈퇴 정리 진행 상황 (관리자)")
+    @GetMapping("/{id}/deletion")
+    public ResultResponse<UserDeletionResponse> deletion(@PathVariable Long id, @ApiIgnore Authentication authentication) {
+        String email = authentication.getName();
+        return ResultResponse.success(userService.findDeletion(email, id));
+    }
+
     /**
      * verify
      */
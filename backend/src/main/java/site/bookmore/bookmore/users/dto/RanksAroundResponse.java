@@ -0,0 +1,21 @@
+package site.bookmore.bookmore.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RanksAroundResponse {
+    private RanksResponse me;
+    private int total;
+    // 상위 몇 % 인지
+    private double topPercent;
+    private List<RanksResponse> above;
+    private List<RanksResponse> below;
+}
@@ -0,0 +1,21 @@
+package site.bookmore.bookmore.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RanksDiffResponse {
+    // 새로 들어오거나 점수 | 순위 | 닉네임이 바뀐 항목
+    private List<RanksResponse> changed;
+    // Top100 에서 빠진 랭킹 id
+    private List<Long> removed;
+
+    public boolean isEmpty() {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+}
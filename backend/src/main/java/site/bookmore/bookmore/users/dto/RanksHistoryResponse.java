@@ -0,0 +1,18 @@
+package site.bookmore.bookmore.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RanksHistoryResponse {
+    private LocalDate date;
+    private Integer point;
+    private Long ranking;
+}
@@ -0,0 +1,19 @@
+package site.bookmore.bookmore.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RanksMoverResponse {
+    private Long userId;
+    private String nickName;
+    private Long fromRanking;
+    private Long toRanking;
+    // 양수면 순위 상승
+    private Long change;
+}
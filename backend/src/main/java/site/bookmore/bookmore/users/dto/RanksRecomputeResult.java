@@ -0,0 +1,20 @@
+package site.bookmore.bookmore.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RanksRecomputeResult {
+    private boolean dryRun;
+    private int chunks;
+    // dry-run 이면 변경될 행 수, 아니면 변경된 행 수
+    private long pointRows;
+    private long rankingRows;
+    private long pointMillis;
+    private long rankingMillis;
+
+    public static RanksRecomputeResult empty(boolean dryRun) {
+        return new RanksRecomputeResult(dryRun, 0, 0, 0, 0, 0);
+    }
+}
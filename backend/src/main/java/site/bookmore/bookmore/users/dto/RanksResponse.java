@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import site.bookmore.bookmore.users.entity.Ranks;
+import site.bookmore.bookmore.users.util.RankingEngine;
 
 @Builder
 @Getter
@@ -26,4 +27,13 @@ public class RanksResponse {
         this.ranking = ranks.getRanking();
         this.nickName = ranks.getUser().getNickname();
     }
+
+    public static RanksResponse of(RankingEngine.Rank rank, String nickName) {
+        return RanksResponse.builder()
+                .id(rank.getRanksId())
+                .point(rank.getPoint())
+                .ranking(rank.getRanking())
+                .nickName(nickName)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package site.bookmore.bookmore.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.bookmore.bookmore.users.entity.DeletionPhase;
+import site.bookmore.bookmore.users.entity.UserDeletion;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserDeletionResponse {
+    private Long userId;
+    private DeletionPhase phase;
+    // 단계별 정리한 건수
+    private long followings;
+    private long followers;
+    private long alarms;
+    private boolean done;
+
+    public static UserDeletionResponse of(UserDeletion deletion) {
+        return UserDeletionResponse.builder()
+                .userId(deletion.getUserId())
+                .phase(deletion.getPhase())
+                .followings(deletion.getFollowings())
+                .followers(deletion.getFollowers())
+                .alarms(deletion.getAlarms())
+                .done(deletion.isDone())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package site.bookmore.bookmore.users.entity;
+
+/**
+ * 회원 탈퇴 정리 단계. 선언 순서대로 진행한다.
+ */
+public enum DeletionPhase {
+    FOLLOWINGS, FOLLOWERS, ALARMS, DONE;
+
+    public DeletionPhase next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
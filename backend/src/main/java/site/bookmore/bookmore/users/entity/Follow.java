@@ -9,6 +9,8 @@ import site.bookmore.bookmore.common.entity.BaseEntity;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_follow_following_follower", columnList = "following, follower"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_following", columnNames = {"follower", "following"}))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
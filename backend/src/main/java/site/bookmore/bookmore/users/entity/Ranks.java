@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_ranks_point_ranking", columnList = "point, ranking"))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,48 @@
+package site.bookmore.bookmore.users.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 하루 한 번 저장하는 전체 랭킹 스냅샷. data 형식은 RanksHistoryCodec 참고
+ */
+@Entity
+@Table(name = "ranks_history", uniqueConstraints = @UniqueConstraint(name = "uk_ranks_history_snapshot_date", columnNames = "snapshot_date"))
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class RanksHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private Integer userCount;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false)
+    private byte[] data;
+
+    public void update(Integer userCount, byte[] data) {
+        this.userCount = userCount;
+        this.data = data;
+    }
+
+    public static RanksHistory of(LocalDate snapshotDate, Integer userCount, byte[] data) {
+        return RanksHistory.builder()
+                .snapshotDate(snapshotDate)
+                .userCount(userCount)
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package site.bookmore.bookmore.users.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import site.bookmore.bookmore.common.entity.BaseEntity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 사용자의 팔로우, 알림 정리 작업. UserDeletionWorker 가 chunk 단위로 처리한다.
+ * lastId 는 현재 단계에서 처리가 끝난 마지막 id 로, 실패 후 재시도 시 이어서 처리하기 위해 사용한다.
+ */
+@Entity
+@Table(name = "user_deletion",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_deletion_user", columnNames = "user_id"),
+        indexes = @Index(name = "idx_user_deletion_phase_next_attempt", columnList = "phase, next_attempt_at"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserDeletion extends BaseEntity {
+    private static final int MAX_BACKOFF_SECONDS = 60 * 60;
+    private static final int ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DeletionPhase phase;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    private long followings;
+
+    private long followers;
+
+    private long alarms;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = ERROR_LENGTH)
+    private String lastError;
+
+    public static UserDeletion of(Long userId) {
+        return UserDeletion.builder()
+                .userId(userId)
+                .phase(DeletionPhase.FOLLOWINGS)
+                .lastId(0L)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 현재 단계에서 processed 건을 정리하고 lastId 까지 진행
+    public void advance(int processed, Long lastId) {
+        switch (phase) {
+            case FOLLOWINGS:
+                this.followings += processed;
+                break;
+            case FOLLOWERS:
+                this.followers += processed;
+                break;
+            case ALARMS:
+                this.alarms += processed;
+                break;
+            default:
+                throw new IllegalStateException("user deletion already done : " + id);
+        }
+        this.lastId = lastId;
+    }
+
+    public void nextPhase() {
+        this.phase = phase.next();
+        this.lastId = 0L;
+    }
+
+    public boolean isDone() {
+        return phase == DeletionPhase.DONE;
+    }
+
+    public void renewLease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 탈퇴 정리는 끝까지 진행되어야 하므로 포기하지 않고 지수 백오프로 재시도한다.
+    public void fail(String error) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= ERROR_LENGTH ? error : error.substring(0, ERROR_LENGTH);
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoff);
+    }
+}
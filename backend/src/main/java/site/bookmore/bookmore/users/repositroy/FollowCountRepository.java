@@ -0,0 +1,34 @@
+package site.bookmore.bookmore.users.repositroy;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.bookmore.bookmore.users.entity.FollowCount;
+
+import java.util.Collection;
+
+public interface FollowCountRepository extends JpaRepository<FollowCount, Long> {
+
+    // 사용자 엔티티를 불러오지 않고 DB 에서 바로 증감한다.
+    @Modifying
+    @Query("update FollowCount fc set fc.followerCount = fc.followerCount + :delta " +
+            "where fc.id = (select u.followCount.id from User u where u.id = :userId)")
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update FollowCount fc set fc.followingCount = fc.followingCount + :delta " +
+            "where fc.id = (select u.followCount.id from User u where u.id = :userId)")
+    int addFollowingCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 탈퇴 정리용. 여러 사용자의 카운트를 한 번에 증감한다.
+    @Modifying
+    @Query("update FollowCount fc set fc.followerCount = fc.followerCount + :delta " +
+            "where fc.id in (select u.followCount.id from User u where u.id in :userIds)")
+    int addFollowerCounts(@Param("userIds") Collection<Long> userIds, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update FollowCount fc set fc.followingCount = fc.followingCount + :delta " +
+            "where fc.id in (select u.followCount.id from User u where u.id in :userIds)")
+    int addFollowingCounts(@Param("userIds") Collection<Long> userIds, @Param("delta") int delta);
+}
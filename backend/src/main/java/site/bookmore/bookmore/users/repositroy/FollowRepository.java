@@ -3,16 +3,38 @@ package site.bookmore.bookmore.users.repositroy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.bookmore.bookmore.users.entity.Follow;
 import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.vo.FollowingVo;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowerAndFollowing(User follower, User following);
 
+    @Query("select f.id from Follow f where f.follower.id = :followerId and f.following.id = :followingId")
+    Optional<Long> findIdByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 언팔로우했던 관계를 되살린다. 이미 팔로우 중이면 0
+    @Modifying
+    @Query("update Follow f set f.deletedDatetime = null, f.lastModifiedDatetime = :now " +
+            "where f.id = :id and f.deletedDatetime is not null")
+    int revive(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 팔로우 중인 관계만 언팔로우한다. 팔로우 중이 아니면 0
+    @Modifying
+    @Query("update Follow f set f.deletedDatetime = :now, f.lastModifiedDatetime = :now " +
+            "where f.follower.id = :followerId and f.following.id = :followingId and f.deletedDatetime is null")
+    int softDelete(@Param("followerId") Long followerId, @Param("followingId") Long followingId, @Param("now") LocalDateTime now);
+
     Optional<Follow> findByFollowerAndFollowingAndDeletedDatetimeIsNull(User follower, User following);
 
     Page<Follow> findByFollowerAndDeletedDatetimeIsNull(Pageable pageable, User follower);
@@ -20,11 +42,45 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     Page<Follow> findByFollowingAndDeletedDatetimeIsNull(Pageable pageable, User following);
 
     List<Follow> findAllByFollowingAndDeletedDatetimeIsNull(User following);
-    @Query("select f from Follow f " +
-            "join fetch f.follower follower " +
-            "join fetch f.following following " +
-            "join fetch follower.followCount " +
-            "join fetch  following.followCount " +
-            "where follower.id = :userId or following.id = :userId")
-    List<Follow> findAllFollowOfUser(Long userId);
+
+    // 피드용. 팔로잉 id 와 팔로워 수
+    @Query("select u.id as id, fc.followerCount as followerCount from Follow f " +
+            "join f.following u join u.followCount fc " +
+            "where f.follower.id = :userId and f.deletedDatetime is null and u.deletedDatetime is null")
+    List<FollowingVo> findFollowingsOf(@Param("userId") Long userId);
+
+    // 팔로우 관계 캐시용. 팔로잉 id
+    @Query("select f.following.id from Follow f where f.follower.id = :userId and f.deletedDatetime is null")
+    List<Long> findFollowingIds(@Param("userId") Long userId);
+
+    // 팔로워 id 를 커서 이후부터 오름차순으로 조회
+    @Query("select f.follower.id from Follow f " +
+            "where f.following.id = :userId and f.follower.id > :cursor and f.deletedDatetime is null " +
+            "order by f.follower.id asc")
+    List<Long> findFollowerIdsAfter(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 탈퇴 정리용. 팔로잉 id 를 커서 이후부터 오름차순으로 잠그며 조회
+    // 잠근 행은 같은 트랜잭션의 일괄 삭제 전까지 다른 트랜잭션이 지울 수 없으므로 조회한 id 만큼만 팔로워 수를 줄이면 된다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f.following.id from Follow f " +
+            "where f.follower.id = :userId and f.following.id > :cursor and f.deletedDatetime is null " +
+            "order by f.following.id asc")
+    List<Long> findFollowingIdsForUpdate(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 탈퇴 정리용. 팔로워 id 를 커서 이후부터 오름차순으로 잠그며 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f.follower.id from Follow f " +
+            "where f.following.id = :userId and f.follower.id > :cursor and f.deletedDatetime is null " +
+            "order by f.follower.id asc")
+    List<Long> findFollowerIdsForUpdate(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("update Follow f set f.deletedDatetime = :now, f.lastModifiedDatetime = :now " +
+            "where f.follower.id = :userId and f.following.id in :followingIds and f.deletedDatetime is null")
+    int softDeleteFollowings(@Param("userId") Long userId, @Param("followingIds") Collection<Long> followingIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Follow f set f.deletedDatetime = :now, f.lastModifiedDatetime = :now " +
+            "where f.following.id = :userId and f.follower.id in :followerIds and f.deletedDatetime is null")
+    int softDeleteFollowers(@Param("userId") Long userId, @Param("followerIds") Collection<Long> followerIds, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,24 @@
+package site.bookmore.bookmore.users.repositroy;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import site.bookmore.bookmore.users.entity.RanksHistory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RanksHistoryRepository extends JpaRepository<RanksHistory, Long> {
+
+    Optional<RanksHistory> findBySnapshotDate(LocalDate snapshotDate);
+
+    List<RanksHistory> findAllBySnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(LocalDate snapshotDate);
+
+    Optional<RanksHistory> findTop1ByOrderBySnapshotDateDesc();
+
+    // data 를 읽지 않고 가장 최근 스냅샷 날짜만 조회
+    @Query("select max(h.snapshotDate) from RanksHistory h")
+    Optional<LocalDate> findLatestSnapshotDate();
+
+    Optional<RanksHistory> findTop1BySnapshotDateLessThanEqualOrderBySnapshotDateDesc(LocalDate snapshotDate);
+}
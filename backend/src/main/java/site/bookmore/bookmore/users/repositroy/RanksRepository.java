@@ -1,23 +1,65 @@
 package site.bookmore.bookmore.users.repositroy;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.bookmore.bookmore.users.entity.Ranks;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.vo.RanksNativeVo;
+import site.bookmore.bookmore.users.vo.RanksPointCountVo;
+import site.bookmore.bookmore.users.vo.RanksPointVo;
+import site.bookmore.bookmore.users.vo.RanksRankingVo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RanksRepository extends JpaRepository<Ranks, Long> {
 
-    @Query(value = "SELECT r.id,r.point, (Rank() over(order by r.point desc)) as ranking FROM ranks r WHERE r.ranking > -1", nativeQuery = true)
-    List<RanksNativeVo> findAllRanking();
-
     @Query("select r from Ranks r join fetch r.user where r.ranking <= 100 and r.ranking > -1 order by r.ranking asc")
     List<Ranks> findTop100ByOrderByRankingAsc();
 
-    Optional<Ranks> findTop1ByOrderByRankingDesc();
+    long countByPointGreaterThanAndRankingGreaterThan(Integer point, Long ranking);
 
     Optional<Ranks> findByUser(User user);
+
+    Optional<Ranks> findByUserIdAndRankingGreaterThan(Long userId, Long ranking);
+
+    // 랭킹 엔진 적재용. 탈퇴하지 않은 사용자의 좋아요 합계
+    @Query(value = "SELECT r.id AS id, r.user_id AS userId, COALESCE(SUM(v.likes_count), 0) AS point " +
+            "FROM ranks r LEFT JOIN review v ON v.author_id = r.user_id " +
+            "WHERE r.ranking > -1 GROUP BY r.id, r.user_id", nativeQuery = true)
+    List<RanksPointVo> findAllPoints();
+
+    @Query("select max(r.user.id) from Ranks r")
+    Long findMaxUserId();
+
+    /*
+     * 랭킹 일괄 재계산. user_id 구간 단위로 나누어 실행하여 긴 잠금을 피한다.
+     * 1단계 : 구간 내 사용자의 좋아요 합계를 point 에 반영
+     * 2단계 : 점수별 인원 수를 한 번만 읽어 순위표를 만든 뒤, 구간마다 순위가 바뀐 행만 갱신 (RanksRecomputeService)
+     */
+    String POINT_SUM = "SELECT v.author_id, SUM(v.likes_count) AS point FROM review v " +
+            "WHERE v.author_id BETWEEN :from AND :to GROUP BY v.author_id";
+
+    @Modifying
+    @Query(value = "UPDATE ranks r LEFT JOIN (" + POINT_SUM + ") s ON s.author_id = r.user_id " +
+            "SET r.point = COALESCE(s.point, 0) " +
+            "WHERE r.user_id BETWEEN :from AND :to AND r.ranking > -1", nativeQuery = true)
+    int updatePoints(@Param("from") Long from, @Param("to") Long to);
+
+    @Query(value = "SELECT COUNT(*) FROM ranks r LEFT JOIN (" + POINT_SUM + ") s ON s.author_id = r.user_id " +
+            "WHERE r.user_id BETWEEN :from AND :to AND r.ranking > -1 AND r.point <> COALESCE(s.point, 0)", nativeQuery = true)
+    Long countPointChanges(@Param("from") Long from, @Param("to") Long to);
+
+    @Query(value = "SELECT point AS point, COUNT(*) AS userCount FROM ranks WHERE ranking > -1 GROUP BY point", nativeQuery = true)
+    List<RanksPointCountVo> countUsersByPoint();
+
+    @Query(value = "SELECT id AS id, point AS point, ranking AS ranking FROM ranks " +
+            "WHERE user_id BETWEEN :from AND :to AND ranking > -1", nativeQuery = true)
+    List<RanksRankingVo> findRankingsBetween(@Param("from") Long from, @Param("to") Long to);
+
+    @Modifying
+    @Query("update Ranks r set r.ranking = :ranking where r.id in :ids and r.ranking > -1")
+    int updateRanking(@Param("ranking") Long ranking, @Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
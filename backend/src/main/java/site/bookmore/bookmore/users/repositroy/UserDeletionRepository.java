@@ -0,0 +1,24 @@
+package site.bookmore.bookmore.users.repositroy;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.bookmore.bookmore.users.entity.DeletionPhase;
+import site.bookmore.bookmore.users.entity.UserDeletion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserDeletionRepository extends JpaRepository<UserDeletion, Long> {
+    Optional<UserDeletion> findByUserId(Long userId);
+
+    List<UserDeletion> findTop20ByPhaseNotAndNextAttemptAtLessThanEqualOrderByIdAsc(DeletionPhase phase, LocalDateTime now);
+
+    // 여러 서버에서 같은 작업을 동시에 처리하지 않도록 nextAttemptAt 을 임대 만료 시각으로 선점
+    @Modifying
+    @Query("update UserDeletion d set d.nextAttemptAt = :leaseUntil " +
+            "where d.id = :id and d.phase <> site.bookmore.bookmore.users.entity.DeletionPhase.DONE and d.nextAttemptAt = :expected")
+    int lease(@Param("id") Long id, @Param("expected") LocalDateTime expected, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -3,19 +3,32 @@ package site.bookmore.bookmore.users.repositroy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import site.bookmore.bookmore.users.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByIdAndDeletedDatetimeIsNull(Long id);
 
+    boolean existsByIdAndDeletedDatetimeIsNull(Long id);
+
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndDeletedDatetimeIsNull(String email);
 
     Optional<User> findByNickname(String nickname);
 
     Page<User> findAll(Pageable pageable);
+
+    @Query("select fc.followerCount from User u join u.followCount fc where u.id = :id and u.deletedDatetime is null")
+    Optional<Integer> findFollowerCountById(@Param("id") Long id);
+
     List<User> findAllByDeletedDatetimeIsNull();
+
+    // 토큰 무효화용. 기준 시각 이후 탈퇴한 사용자
+    @Query("select u.id from User u where u.deletedDatetime >= :since")
+    List<Long> findIdsDeletedSince(@Param("since") LocalDateTime since);
 }
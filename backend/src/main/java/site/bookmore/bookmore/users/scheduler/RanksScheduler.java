@@ -2,57 +2,102 @@ package site.bookmore.bookmore.users.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import site.bookmore.bookmore.reviews.repository.ReviewRepository;
-import site.bookmore.bookmore.users.entity.Ranks;
-import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.dto.RanksRecomputeResult;
 import site.bookmore.bookmore.users.repositroy.RanksRepository;
-import site.bookmore.bookmore.users.repositroy.UserRepository;
-import site.bookmore.bookmore.users.vo.RanksNativeVo;
+import site.bookmore.bookmore.users.service.RanksHistoryService;
+import site.bookmore.bookmore.users.service.RanksRecomputeService;
+import site.bookmore.bookmore.users.service.RanksService;
+import site.bookmore.bookmore.users.util.RankingEngine;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RanksScheduler {
-    private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
+    private static final int CHECKPOINT_BATCH_SIZE = 1000;
+
     private final RanksRepository ranksRepository;
+    private final RanksRecomputeService ranksRecomputeService;
+    private final RanksService ranksService;
+    private final RanksHistoryService ranksHistoryService;
+    private final RankingEngine rankingEngine;
+    private final JdbcTemplate jdbcTemplate;
 
-    @Scheduled(cron = "${schedule.ranking.delaytime}")
-    @Transactional
-    public void scheduleRankTask() {
-        log.info("랭킹 스케쥴러 시작");
-        List<User> users = userRepository.findAllByDeletedDatetimeIsNull();
+    @Value("${schedule.ranking.dry-run:false}")
+    private boolean dryRun;
 
-        // 유저 좋아요 수 정산
-        for (User user : users) {
-            Integer likeSum = reviewRepository.findSum(user.getId());
-            if (likeSum == null) {
-                likeSum = 0;
-            }
-            log.info("id : {}", user.getId());
-            log.info("likeSum : {}", likeSum);
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRanking() {
+        rankingEngine.beginLoad();
+        rankingEngine.load(ranksRepository.findAllPoints());
+        log.info("랭킹 적재 완료 : {}명", rankingEngine.size());
+        ranksService.refreshLeaderboard();
+    }
+
+    // Top100 이 바뀌었으면 스냅샷 교체
+    @Scheduled(fixedDelayString = "${schedule.ranking.leaderboard-delay:5000}")
+    public void refreshLeaderboard() {
+        if (!rankingEngine.isLoaded()) return;
+        if (ranksService.refreshLeaderboard()) log.info("랭킹 Top100 갱신");
+    }
+
+    // 점수가 바뀐 사용자의 점수만 DB 에 기록
+    // 한 사용자의 점수가 바뀌면 사이에 있는 모든 사용자의 순위가 밀리므로, 순위는 메모리 랭킹에서 조회하고 DB 값은 하루 한 번 다시 계산한다.
+    // 메모리 랭킹은 이 서버가 받은 좋아요만 알고 있으므로 메모리 점수 대신 DB 의 좋아요 합계를 기록한다.
+    @Scheduled(fixedDelayString = "${schedule.ranking.checkpoint-delay:60000}")
+    public void checkpoint() {
+        List<Long> userIds = new ArrayList<>(rankingEngine.drainDirty());
+        if (userIds.isEmpty()) return;
 
-            Optional<Ranks> ranksOptional = ranksRepository.findByUser(user);
-            if (ranksOptional.isPresent()) ranksOptional.get().updatePoint(likeSum);
+        for (int from = 0; from < userIds.size(); from += CHECKPOINT_BATCH_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHECKPOINT_BATCH_SIZE, userIds.size()));
+            try {
+                jdbcTemplate.update(checkpointSql(chunk.size()), checkpointArgs(chunk));
+            } catch (RuntimeException e) {
+                rankingEngine.markDirty(userIds.subList(from, userIds.size()));
+                log.error("랭킹 체크포인트 실패 : {}명 다음 체크포인트에서 다시 기록", userIds.size() - from, e);
+                return;
+            }
         }
+        log.info("랭킹 체크포인트 : {}명", userIds.size());
+    }
 
-        // ranking 가져오기
-        List<RanksNativeVo> rankList = ranksRepository.findAllRanking();
+    // 탈퇴 처리된 (ranking = -1) 랭킹은 되살리지 않는다.
+    private static String checkpointSql(int size) {
+        String in = String.join(", ", Collections.nCopies(size, "?"));
+        return "UPDATE ranks r LEFT JOIN (SELECT v.author_id, SUM(v.likes_count) AS point FROM review v " +
+                "WHERE v.author_id IN (" + in + ") GROUP BY v.author_id) s ON s.author_id = r.user_id " +
+                "SET r.point = COALESCE(s.point, 0) WHERE r.user_id IN (" + in + ") AND r.ranking > -1";
+    }
 
-        // ranking 업데이트
-        for (RanksNativeVo ranksNativeVo : rankList) {
-            Long ranking = ranksNativeVo.getRanking();
-            log.info("ranking : {}", ranking);
-            ranksRepository.findById(ranksNativeVo.getId())
-                    .ifPresent(ranks -> ranks.updateRanking(ranking));
+    private static Object[] checkpointArgs(List<Long> userIds) {
+        Object[] args = new Object[userIds.size() * 2];
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i] = userIds.get(i);
+            args[userIds.size() + i] = userIds.get(i);
         }
+        return args;
+    }
 
-        log.info("랭킹 스케쥴러 완료");
+    // 하루 한 번 DB 기준으로 점수와 순위를 다시 계산하고 메모리 랭킹을 다시 적재한 뒤 이력 스냅샷 저장
+    @Scheduled(cron = "${schedule.ranking.delaytime}")
+    public void scheduleRankTask() {
+        log.info("랭킹 스케쥴러 시작");
+        RanksRecomputeResult result = ranksRecomputeService.recompute(dryRun);
+        if (!result.isDryRun()) {
+            loadRanking();
+            ranksHistoryService.snapshot(LocalDate.now());
+        }
+        log.info("랭킹 스케쥴러 완료 point : {}ms, ranking : {}ms", result.getPointMillis(), result.getRankingMillis());
     }
 }
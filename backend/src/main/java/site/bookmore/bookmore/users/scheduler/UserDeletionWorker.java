@@ -0,0 +1,129 @@
+package site.bookmore.bookmore.users.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+import site.bookmore.bookmore.observer.event.follow.FollowChange;
+import site.bookmore.bookmore.users.entity.DeletionPhase;
+import site.bookmore.bookmore.users.entity.UserDeletion;
+import site.bookmore.bookmore.users.repositroy.FollowCountRepository;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserDeletionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 탈퇴한 사용자의 팔로잉, 팔로워, 보낸 알림을 chunk 단위로 정리한다.
+ * chunk 마다 정리와 진행 상황 저장을 한 트랜잭션으로 처리하므로 중간에 실패하더라도 처리한 지점부터 이어서 진행한다.
+ * 탈퇴한 사용자는 팔로우, 언팔로우 대상이 될 수 없으므로 정리 중에 관계가 바뀌지 않는다.
+ * 팔로우 행은 잠그며 조회하므로 임대가 만료된 다른 서버가 같은 chunk 를 처리해도 팔로우 수는 한 번만 줄어든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDeletionWorker {
+    private static final long LEASE_SECONDS = 60;
+
+    private final UserDeletionRepository userDeletionRepository;
+    private final FollowRepository followRepository;
+    private final FollowCountRepository followCountRepository;
+    private final AlarmRepository alarmRepository;
+    private final ApplicationEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.deletion.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(fixedDelayString = "${user.deletion.delay:1000}")
+    public void work() {
+        List<UserDeletion> deletions = userDeletionRepository.findTop20ByPhaseNotAndNextAttemptAtLessThanEqualOrderByIdAsc(DeletionPhase.DONE, LocalDateTime.now());
+        for (UserDeletion deletion : deletions) {
+            if (!lease(deletion)) continue;
+            process(deletion.getId());
+        }
+    }
+
+    private boolean lease(UserDeletion deletion) {
+        Integer leased = transactionTemplate.execute(status ->
+                userDeletionRepository.lease(deletion.getId(), deletion.getNextAttemptAt(), LocalDateTime.now().plusSeconds(LEASE_SECONDS)));
+        return leased != null && leased == 1;
+    }
+
+    private void process(Long deletionId) {
+        try {
+            boolean hasNext = true;
+            while (hasNext) {
+                hasNext = Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteChunk(deletionId)));
+            }
+        } catch (RuntimeException e) {
+            log.error("회원 탈퇴 정리 {} 실패", deletionId, e);
+            transactionTemplate.executeWithoutResult(status ->
+                    userDeletionRepository.findById(deletionId).ifPresent(deletion -> deletion.fail(e.getMessage())));
+        }
+    }
+
+    // 정리할 chunk 가 남아있으면 true
+    private boolean deleteChunk(Long deletionId) {
+        UserDeletion deletion = userDeletionRepository.findById(deletionId)
+                .orElseThrow(() -> new IllegalStateException("user deletion not found : " + deletionId));
+
+        List<Long> ids = cleanUp(deletion);
+        if (ids.isEmpty()) {
+            deletion.nextPhase();
+        } else {
+            deletion.advance(ids.size(), ids.get(ids.size() - 1));
+            if (ids.size() < chunkSize) deletion.nextPhase();
+        }
+
+        if (deletion.isDone()) {
+            log.info("회원 탈퇴 정리 완료 userId : {}, 팔로잉 : {}, 팔로워 : {}, 알림 : {}",
+                    deletion.getUserId(), deletion.getFollowings(), deletion.getFollowers(), deletion.getAlarms());
+            return false;
+        }
+
+        deletion.renewLease(LocalDateTime.now().plusSeconds(LEASE_SECONDS));
+        return true;
+    }
+
+    // 현재 단계에서 정리한 대상 id 를 오름차순으로 반환
+    private List<Long> cleanUp(UserDeletion deletion) {
+        Long userId = deletion.getUserId();
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (deletion.getPhase()) {
+            case FOLLOWINGS: {
+                List<Long> followingIds = followRepository.findFollowingIdsForUpdate(userId, deletion.getLastId(), chunk);
+                if (followingIds.isEmpty()) return followingIds;
+                followRepository.softDeleteFollowings(userId, followingIds, now);
+                followCountRepository.addFollowerCounts(followingIds, -1);
+                followingIds.forEach(followingId -> publisher.publishEvent(FollowChange.of(userId, followingId)));
+                return followingIds;
+            }
+            case FOLLOWERS: {
+                List<Long> followerIds = followRepository.findFollowerIdsForUpdate(userId, deletion.getLastId(), chunk);
+                if (followerIds.isEmpty()) return followerIds;
+                followRepository.softDeleteFollowers(userId, followerIds, now);
+                followCountRepository.addFollowingCounts(followerIds, -1);
+                followerIds.forEach(followerId -> publisher.publishEvent(FollowChange.of(followerId, userId)));
+                return followerIds;
+            }
+            case ALARMS: {
+                List<Long> alarmIds = alarmRepository.findIdsByFromUserAfter(userId, AlarmType.NEW_FOLLOW, deletion.getLastId(), chunk);
+                if (alarmIds.isEmpty()) return alarmIds;
+                alarmRepository.softDeleteAllByIdIn(alarmIds, now);
+                return alarmIds;
+            }
+            default:
+                return List.of();
+        }
+    }
+}
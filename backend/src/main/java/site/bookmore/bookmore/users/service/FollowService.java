@@ -3,96 +3,99 @@ package site.bookmore.bookmore.users.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import site.bookmore.bookmore.alarms.entity.AlarmType;
 import site.bookmore.bookmore.common.exception.bad_request.FollowNotMeException;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateFollowException;
 import site.bookmore.bookmore.common.exception.not_found.FollowNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
-import site.bookmore.bookmore.observer.event.alarm.AlarmCreate;
+import site.bookmore.bookmore.feed.util.FeedInbox;
+import site.bookmore.bookmore.observer.event.follow.FollowChange;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+import site.bookmore.bookmore.outbox.entity.OutboxType;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
 import site.bookmore.bookmore.users.dto.FollowerResponse;
 import site.bookmore.bookmore.users.dto.FollowingResponse;
 import site.bookmore.bookmore.users.entity.Follow;
 import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.FollowCountRepository;
 import site.bookmore.bookmore.users.repositroy.FollowRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.FollowGraph;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
+import java.util.OptionalInt;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FollowService {
     private final FollowRepository followRepository;
+    private final FollowCountRepository followCountRepository;
     private final UserRepository userRepository;
+    private final OutboxRepository outboxRepository;
+    private final FeedInbox feedInbox;
+    private final FollowGraph followGraph;
     private final ApplicationEventPublisher publisher;
 
     @Transactional
-    public String following(Long id, String email) {
+    public String following(Long id, Long userId) {
 
-        //나
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-
-        //팔로우할 유저
-        User targetUser = userRepository.findByIdAndDeletedDatetimeIsNull(id)
-                .orElseThrow(UserNotFoundException::new);
+        //나. 탈퇴한 사용자의 토큰은 인증 단계에서 거부되므로 id 로 참조만 한다.
+        User user = userRepository.getReferenceById(userId);
 
         //자기 자신을 팔로우한 경우
-        if (Objects.equals(user.getId(), id)) {
+        if (Objects.equals(userId, id)) {
             throw new FollowNotMeException();
         }
 
-        //이미 팔로우 한 경우(이전에 언팔도 한 적 없음)
-        followRepository.findByFollowerAndFollowingAndDeletedDatetimeIsNull(user, targetUser)
-                .ifPresent(follow -> {
-                    throw new DuplicateFollowException();
-                });
+        //팔로우할 유저
+        if (!userRepository.existsByIdAndDeletedDatetimeIsNull(id)) {
+            throw new UserNotFoundException();
+        }
+        User targetUser = userRepository.getReferenceById(id);
 
-        //이전에 언팔한 경우에 다시 팔로우 하는 경우
-        Follow follow = followRepository.findByFollowerAndFollowing(user, targetUser)
-                .orElse(Follow.builder()
-                        .following(targetUser)
-                        .follower(user)
-                        .build());
+        Long followId = followRepository.findIdByFollowerIdAndFollowingId(user.getId(), id)
+                .map(existing -> {
+                    //이전에 언팔한 경우에 다시 팔로우 하는 경우. 되살릴 관계가 없으면 이미 팔로우 중
+                    if (followRepository.revive(existing, LocalDateTime.now()) == 0) {
+                        throw new DuplicateFollowException();
+                    }
+                    return existing;
+                })
+                .orElseGet(() -> create(user, targetUser));
 
-        follow.undelete();
-        followRepository.save(follow);
+        addFollowCount(user.getId(), id, 1);
 
-        user.getFollowCount().plusFollowingCount();
-        targetUser.getFollowCount().plusFollowerCount();
+        // 새 팔로잉의 이전 리뷰가 포함되도록 다음 피드 조회 시 수신함을 다시 만든다.
+        feedInbox.evict(user.getId());
 
-        publisher.publishEvent(AlarmCreate.of(AlarmType.NEW_FOLLOW, follow.getFollowing(), user, follow.getId()));
+        publisher.publishEvent(FollowChange.of(user.getId(), id));
+        outboxRepository.save(Outbox.of(OutboxType.NEW_FOLLOW, followId, user.getId(), id));
 
         return String.format("%s 님을 팔로우 하셨습니다.", id);
     }
 
     @Transactional
-    public String unfollowing(Long id, String email) {
-        //나
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email)
-                .orElseThrow(UserNotFoundException::new);
-
-        //팔로우할 유저
-        User targetUser = userRepository.findByIdAndDeletedDatetimeIsNull(id)
-                .orElseThrow(UserNotFoundException::new);
-
-        //팔로우 하지 않은 사람을 언팔로우 하는 경우
-        Follow targetFollow = followRepository.findByFollowerAndFollowing(user, targetUser)
-                .orElseThrow(FollowNotFoundException::new);
+    public String unfollowing(Long id, Long userId) {
+        //언팔로우할 유저
+        if (!userRepository.existsByIdAndDeletedDatetimeIsNull(id)) {
+            throw new UserNotFoundException();
+        }
 
-        //언팔로우를 이미 한 경우
-        if (targetFollow.getDeletedDatetime() != null) {
+        //팔로우 하지 않은 사람을 언팔로우 하거나 이미 언팔로우 한 경우
+        if (followRepository.softDelete(userId, id, LocalDateTime.now()) == 0) {
             throw new FollowNotFoundException();
         }
 
-        targetFollow.delete();
+        addFollowCount(userId, id, -1);
 
-        user.getFollowCount().minusFollowingCount();
-        targetUser.getFollowCount().minusFollowerCount();
+        publisher.publishEvent(FollowChange.of(userId, id));
 
         return String.format("%s 님을 언팔로우 하셨습니다.", id);
     }
@@ -109,15 +112,61 @@ public class FollowService {
         return followRepository.findByFollowingAndDeletedDatetimeIsNull(pageable, user).map(FollowerResponse::new);
     }
 
-    public Boolean isFollow(Long id, String email){
-        //나
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(UserNotFoundException::new);
-
+    public Boolean isFollow(Long id, Long userId) {
         //팔로우할 유저
-        User targetUser = userRepository.findById(id)
-                .orElseThrow(UserNotFoundException::new);
+        existsUser(id);
+
+        return follows(userId, id);
+    }
+
+    // 서로 팔로우 중인지
+    public Boolean isMutualFollow(Long id, Long userId) {
+        existsUser(id);
+
+        return follows(userId, id) && follows(id, userId);
+    }
+
+    // (follower, following) 유니크 제약으로 동시에 같은 팔로우가 들어오면 하나만 성공한다.
+    private Long create(User user, User targetUser) {
+        try {
+            return followRepository.saveAndFlush(Follow.builder()
+                    .following(targetUser)
+                    .follower(user)
+                    .build()).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateFollowException();
+        }
+    }
+
+    // 맞팔로우가 동시에 일어나도 교착되지 않도록 항상 id 가 작은 사용자의 행부터 갱신한다.
+    private void addFollowCount(Long followerId, Long followingId, int delta) {
+        if (followerId < followingId) {
+            followCountRepository.addFollowingCount(followerId, delta);
+            followCountRepository.addFollowerCount(followingId, delta);
+        } else {
+            followCountRepository.addFollowerCount(followingId, delta);
+            followCountRepository.addFollowingCount(followerId, delta);
+        }
+    }
+
+    // 팔로잉 목록 캐시로 확인하고, 없으면 DB 에서 채운다.
+    private boolean follows(Long followerId, Long followingId) {
+        return followGraph.follows(followerId, followingId).orElseGet(() -> {
+            long stamp = followGraph.stamp(followerId);
+            List<Long> followingIds = followRepository.findFollowingIds(followerId);
+            followGraph.fill(followerId, followingIds, stamp);
+            return followingIds.contains(followingId);
+        });
+    }
+
+    // 사용자가 없으면 예외, 있으면 팔로워 수
+    private int existsUser(Long id) {
+        OptionalInt cached = followGraph.followerCount(id);
+        if (cached.isPresent()) return cached.getAsInt();
 
-        return followRepository.findByFollowerAndFollowingAndDeletedDatetimeIsNull(user, targetUser).isPresent();
+        long stamp = followGraph.stamp(id);
+        int count = userRepository.findFollowerCountById(id).orElseThrow(UserNotFoundException::new);
+        followGraph.putFollowerCount(id, count, stamp);
+        return count;
     }
 }
@@ -0,0 +1,168 @@
+package site.bookmore.bookmore.users.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
+import site.bookmore.bookmore.users.dto.RanksHistoryResponse;
+import site.bookmore.bookmore.users.dto.RanksMoverResponse;
+import site.bookmore.bookmore.users.entity.RanksHistory;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.RanksHistoryRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.RankingEngine;
+import site.bookmore.bookmore.users.util.RanksHistoryCache;
+import site.bookmore.bookmore.users.util.RanksHistoryCodec;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RanksHistoryService {
+    private static final int MAX_DAYS = 90;
+    private static final int MAX_MOVERS_SIZE = 100;
+    // 변동폭이 작을수록, 같으면 사용자 id 가 클수록 앞
+    private static final Comparator<Mover> BY_DISTANCE = Comparator.comparingLong(Mover::distance)
+            .thenComparing(Comparator.comparingLong(Mover::getUserId).reversed());
+
+    private final RanksHistoryRepository ranksHistoryRepository;
+    private final UserRepository userRepository;
+    private final RankingEngine rankingEngine;
+    private final RanksHistoryCache ranksHistoryCache;
+
+    // 메모리 랭킹의 현재 상태를 date 의 스냅샷으로 저장. 같은 날짜에 다시 호출하면 덮어쓴다.
+    @Transactional
+    public RanksHistory snapshot(LocalDate date) {
+        RankingEngine.Columns columns = rankingEngine.columns();
+        byte[] data = RanksHistoryCodec.encode(columns.getUserIds(), columns.getRankings(), columns.getPoints());
+        int userCount = columns.getUserIds().length;
+
+        RanksHistory history = ranksHistoryRepository.findBySnapshotDate(date)
+                .orElseGet(() -> RanksHistory.of(date, userCount, data));
+        history.update(userCount, data);
+        log.info("랭킹 스냅샷 저장 {} : {}명, {}bytes", date, userCount, data.length);
+        RanksHistory saved = ranksHistoryRepository.save(history);
+        ranksHistoryCache.clear();
+        return saved;
+    }
+
+    // 최근 days 일 동안의 사용자 순위.
+    // 스냅샷을 푸는 비용이 크므로 사용자마다 최대 기간을 한 번 풀어 캐시하고, 새 스냅샷이 저장될 때까지 재사용한다.
+    @Transactional(readOnly = true)
+    public List<RanksHistoryResponse> findHistory(Long userId, int days) {
+        userRepository.findByIdAndDeletedDatetimeIsNull(userId).orElseThrow(UserNotFoundException::new);
+        LocalDate from = LocalDate.now().minusDays(Math.max(0, Math.min(days, MAX_DAYS)));
+
+        Optional<LocalDate> latest = ranksHistoryRepository.findLatestSnapshotDate();
+        if (latest.isEmpty()) return Collections.emptyList();
+
+        List<RanksHistoryResponse> history = ranksHistoryCache.get(userId, latest.get()).orElseGet(() -> {
+            List<RanksHistoryResponse> decoded = decodeHistory(userId, LocalDate.now().minusDays(MAX_DAYS));
+            ranksHistoryCache.put(userId, latest.get(), decoded);
+            return decoded;
+        });
+        return history.stream()
+                .filter(response -> !response.getDate().isBefore(from))
+                .collect(Collectors.toList());
+    }
+
+    // 스냅샷마다 사용자 id 를 지나칠 때까지만 읽는다.
+    private List<RanksHistoryResponse> decodeHistory(Long userId, LocalDate from) {
+        List<RanksHistoryResponse> result = new ArrayList<>();
+        for (RanksHistory history : ranksHistoryRepository.findAllBySnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(from)) {
+            try (RanksHistoryCodec.Reader reader = RanksHistoryCodec.reader(history.getData())) {
+                while (reader.next() && reader.userId() <= userId) {
+                    if (reader.userId() != userId) continue;
+                    result.add(RanksHistoryResponse.builder()
+                            .date(history.getSnapshotDate())
+                            .point(reader.point())
+                            .ranking(reader.ranking())
+                            .build());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // 가장 최근 스냅샷과 days 일 전 스냅샷 사이에 순위가 가장 많이 변한 사용자.
+    // 두 스냅샷 모두 사용자 id 오름차순이므로 한 번씩만 읽으면서 병합하고, 상위 size 명만 힙에 남긴다.
+    @Transactional(readOnly = true)
+    public List<RanksMoverResponse> findMovers(int days, int size) {
+        int limit = Math.max(0, Math.min(size, MAX_MOVERS_SIZE));
+        Optional<RanksHistory> latest = ranksHistoryRepository.findTop1ByOrderBySnapshotDateDesc();
+        if (latest.isEmpty() || limit == 0) return Collections.emptyList();
+
+        LocalDate baseDate = latest.get().getSnapshotDate().minusDays(Math.max(1, Math.min(days, MAX_DAYS)));
+        Optional<RanksHistory> base = ranksHistoryRepository.findTop1BySnapshotDateLessThanEqualOrderBySnapshotDateDesc(baseDate);
+        if (base.isEmpty()) return Collections.emptyList();
+
+        List<Mover> movers = movers(base.get().getData(), latest.get().getData(), limit);
+        Map<Long, String> nicknames = userRepository.findAllById(movers.stream().map(Mover::getUserId).collect(Collectors.toList()))
+                .stream()
+                .filter(user -> user.getDeletedDatetime() == null)
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        return movers.stream()
+                .filter(mover -> nicknames.containsKey(mover.userId))
+                .map(mover -> RanksMoverResponse.builder()
+                        .userId(mover.userId)
+                        .nickName(nicknames.get(mover.userId))
+                        .fromRanking(mover.from)
+                        .toRanking(mover.to)
+                        .change(mover.from - mover.to)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    static List<Mover> movers(byte[] before, byte[] after, int limit) {
+        PriorityQueue<Mover> heap = new PriorityQueue<>(BY_DISTANCE);
+        try (RanksHistoryCodec.Reader left = RanksHistoryCodec.reader(before);
+             RanksHistoryCodec.Reader right = RanksHistoryCodec.reader(after)) {
+            boolean hasLeft = left.next();
+            boolean hasRight = right.next();
+            while (hasLeft && hasRight) {
+                if (left.userId() < right.userId()) {
+                    hasLeft = left.next();
+                } else if (left.userId() > right.userId()) {
+                    hasRight = right.next();
+                } else {
+                    if (left.ranking() != right.ranking()) {
+                        heap.offer(new Mover(left.userId(), left.ranking(), right.ranking()));
+                        if (heap.size() > limit) heap.poll();
+                    }
+                    hasLeft = left.next();
+                    hasRight = right.next();
+                }
+            }
+        }
+
+        List<Mover> result = new ArrayList<>(heap);
+        result.sort(BY_DISTANCE.reversed());
+        return result;
+    }
+
+    static class Mover {
+        private final long userId;
+        private final long from;
+        private final long to;
+
+        Mover(long userId, long from, long to) {
+            this.userId = userId;
+            this.from = from;
+            this.to = to;
+        }
+
+        long getUserId() {
+            return userId;
+        }
+
+        long distance() {
+            return Math.abs(from - to);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package site.bookmore.bookmore.users.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StopWatch;
+import site.bookmore.bookmore.users.dto.RanksRecomputeResult;
+import site.bookmore.bookmore.users.repositroy.RanksRepository;
+import site.bookmore.bookmore.users.vo.RanksPointCountVo;
+import site.bookmore.bookmore.users.vo.RanksRankingVo;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * 좋아요 합계와 순위를 DB 에서 일괄 재계산한다.
+ * user_id 구간마다 별도 트랜잭션으로 실행하며, dry-run 이면 변경될 행 수만 센다.
+ * 순위는 점수별 인원 수를 실행마다 한 번만 읽어 만든 순위표로 계산하므로, 구간마다 전체 테이블을 다시 읽지 않고 모든 구간에 같은 기준이 적용된다.
+ * dry-run 의 순위 변경 수는 현재 저장된 점수를 기준으로 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RanksRecomputeService {
+    private final RanksRepository ranksRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${schedule.ranking.chunk-size:10000}")
+    private int chunkSize;
+
+    public RanksRecomputeResult recompute(boolean dryRun) {
+        Long maxUserId = ranksRepository.findMaxUserId();
+        if (maxUserId == null) return RanksRecomputeResult.empty(dryRun);
+
+        StopWatch stopWatch = new StopWatch("ranks-recompute" + (dryRun ? "-dry-run" : ""));
+
+        stopWatch.start("point");
+        long pointRows = forEachChunk(maxUserId, dryRun
+                ? (from, to) -> ranksRepository.countPointChanges(from, to)
+                : (from, to) -> (long) ranksRepository.updatePoints(from, to));
+        stopWatch.stop();
+        long pointMillis = stopWatch.getLastTaskTimeMillis();
+
+        stopWatch.start("ranking");
+        NavigableMap<Integer, Long> atOrAbove = rankingTable();
+        long rankingRows = forEachChunk(maxUserId, (from, to) -> applyRankings(from, to, atOrAbove, dryRun));
+        stopWatch.stop();
+        long rankingMillis = stopWatch.getLastTaskTimeMillis();
+
+        log.info("랭킹 재계산 point : {}행, ranking : {}행\n{}", pointRows, rankingRows, stopWatch.prettyPrint());
+        return new RanksRecomputeResult(dryRun, chunkCount(maxUserId), pointRows, rankingRows, pointMillis, rankingMillis);
+    }
+
+    // 점수 → 그 점수 이상인 사용자 수
+    private NavigableMap<Integer, Long> rankingTable() {
+        List<RanksPointCountVo> counts = new ArrayList<>(ranksRepository.countUsersByPoint());
+        counts.sort(Comparator.comparing((RanksPointCountVo count) -> pointOf(count.getPoint())).reversed());
+
+        NavigableMap<Integer, Long> atOrAbove = new TreeMap<>();
+        long sum = 0;
+        for (RanksPointCountVo count : counts) {
+            sum += count.getUserCount();
+            atOrAbove.merge(pointOf(count.getPoint()), sum, Math::max);
+        }
+        return atOrAbove;
+    }
+
+    // 구간 내에서 순위가 바뀐 행만 같은 순위끼리 묶어 갱신하고, 바뀐 행 수를 반환
+    private long applyRankings(Long from, Long to, NavigableMap<Integer, Long> atOrAbove, boolean dryRun) {
+        Map<Long, List<Long>> changed = new HashMap<>();
+        for (RanksRankingVo row : ranksRepository.findRankingsBetween(from, to)) {
+            // 순위 = 나보다 점수가 높은 사람 수 + 1
+            Map.Entry<Integer, Long> higher = atOrAbove.higherEntry(pointOf(row.getPoint()));
+            long ranking = 1 + (higher == null ? 0 : higher.getValue());
+            if (!Objects.equals(row.getRanking(), ranking)) {
+                changed.computeIfAbsent(ranking, k -> new ArrayList<>()).add(row.getId());
+            }
+        }
+        if (!dryRun) changed.forEach(ranksRepository::updateRanking);
+        return changed.values().stream().mapToLong(List::size).sum();
+    }
+
+    private static int pointOf(Integer point) {
+        return point == null ? 0 : point;
+    }
+
+    private long forEachChunk(long maxUserId, BiFunction<Long, Long, Long> chunk) {
+        long rows = 0;
+        for (long from = 1; from <= maxUserId; from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, maxUserId);
+            long start = from;
+            Long affected = transactionTemplate.execute(status -> chunk.apply(start, to));
+            rows += affected == null ? 0 : affected;
+        }
+        return rows;
+    }
+
+    private int chunkCount(long maxUserId) {
+        return (int) ((maxUserId + chunkSize - 1) / chunkSize);
+    }
+}
@@ -3,16 +3,27 @@ package site.bookmore.bookmore.users.service;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import site.bookmore.bookmore.common.exception.not_found.RanksNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
 import site.bookmore.bookmore.common.exception.unauthorized.UserNotLoggedInException;
+import site.bookmore.bookmore.observer.event.ranks.RanksCreate;
+import site.bookmore.bookmore.users.dto.RanksAroundResponse;
 import site.bookmore.bookmore.users.dto.RanksResponse;
 import site.bookmore.bookmore.users.entity.Ranks;
 import site.bookmore.bookmore.users.entity.User;
 import site.bookmore.bookmore.users.repositroy.RanksRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.Leaderboard;
+import site.bookmore.bookmore.users.util.RankingEngine;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,19 +31,95 @@ import java.util.stream.Collectors;
 @Slf4j
 @Builder
 public class RanksService {
+    private static final int TOP_SIZE = 100;
+    private static final int MAX_AROUND_SIZE = 50;
+
     private final RanksRepository ranksRepository;
     private final UserRepository userRepository;
+    private final RankingEngine rankingEngine;
+    private final Leaderboard leaderboard;
+    private final ApplicationEventPublisher publisher;
+
+    // 신규 가입자는 점수 0 인 사용자들과 같은 마지막 순위로 등록하므로 기존 순위를 조회하거나 바꾸지 않는다.
+    @Transactional
+    public Ranks register(User user) {
+        long ranking = rankingEngine.isLoaded()
+                ? rankingEngine.tailRank()
+                : ranksRepository.countByPointGreaterThanAndRankingGreaterThan(0, -1L) + 1;
+
+        Ranks ranks = ranksRepository.save(Ranks.of(0, ranking, user));
+        publisher.publishEvent(RanksCreate.of(user.getId(), ranks.getId()));
+        return ranks;
+    }
 
     public List<RanksResponse> findTop100Ranks() {
+        // 랭킹을 불러오기 전에는 마지막으로 저장된 순위를 사용
+        if (!rankingEngine.isLoaded()) {
+            return ranksRepository.findTop100ByOrderByRankingAsc().stream().map(ranks -> new RanksResponse(ranks))
+                    .collect(Collectors.toList());
+        }
+
+        List<RankingEngine.Rank> top = rankingEngine.top(TOP_SIZE);
+        Map<Long, User> users = userRepository.findAllById(top.stream().map(RankingEngine.Rank::getUserId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        return ranksRepository.findTop100ByOrderByRankingAsc().stream().map(ranks -> new RanksResponse(ranks))
+        return top.stream()
+                .filter(rank -> users.containsKey(rank.getUserId()))
+                .map(rank -> RanksResponse.of(rank, users.get(rank.getUserId()).getNickname()))
                 .collect(Collectors.toList());
     }
 
-    public RanksResponse findMyRanks(String email) {
+    // 직렬화된 Top100 응답 본문. 스냅샷이 없으면 만든다.
+    public byte[] findTop100RanksJson() {
+        return leaderboard.json().orElseGet(() -> {
+            refreshLeaderboard();
+            return leaderboard.json().orElseThrow();
+        });
+    }
+
+    public boolean refreshLeaderboard() {
+        return leaderboard.publish(findTop100Ranks());
+    }
+
+    public SseEmitter subscribeTop100Ranks() {
+        return leaderboard.subscribe();
+    }
+
+    public RanksResponse findMyRanks(Long userId) {
+
+        User user = userRepository.findByIdAndDeletedDatetimeIsNull(userId).orElseThrow(UserNotFoundException::new);
+        return rankingEngine.find(user.getId())
+                .map(rank -> RanksResponse.of(rank, user.getNickname()))
+                .orElseGet(() -> {
+                    Ranks ranks = ranksRepository.findByUser(user).orElseThrow(UserNotLoggedInException::new);
+                    return new RanksResponse(ranks);
+                });
+    }
+
+    public RanksAroundResponse findMyRanksAround(Long userId, int size) {
+        User user = userRepository.findByIdAndDeletedDatetimeIsNull(userId).orElseThrow(UserNotFoundException::new);
+        RankingEngine.Around around = rankingEngine.around(user.getId(), Math.max(0, Math.min(size, MAX_AROUND_SIZE)))
+                .orElseThrow(RanksNotFoundException::new);
 
-        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email).orElseThrow(UserNotFoundException::new);
-        Ranks ranks = ranksRepository.findByUser(user).orElseThrow(UserNotLoggedInException::new);
-        return new RanksResponse(ranks);
+        List<Long> userIds = new ArrayList<>();
+        around.getAbove().forEach(rank -> userIds.add(rank.getUserId()));
+        around.getBelow().forEach(rank -> userIds.add(rank.getUserId()));
+        Map<Long, String> nicknames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        return RanksAroundResponse.builder()
+                .me(RanksResponse.of(around.getMe(), user.getNickname()))
+                .total(around.getTotal())
+                .topPercent(around.getTopPercent())
+                .above(toResponses(around.getAbove(), nicknames))
+                .below(toResponses(around.getBelow(), nicknames))
+                .build();
+    }
+
+    private List<RanksResponse> toResponses(List<RankingEngine.Rank> ranks, Map<Long, String> nicknames) {
+        return ranks.stream()
+                .map(rank -> RanksResponse.of(rank, nicknames.get(rank.getUserId())))
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
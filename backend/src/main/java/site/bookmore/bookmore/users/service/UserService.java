@@ -1,6 +1,7 @@
 package site.bookmore.bookmore.users.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -8,32 +9,31 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import site.bookmore.bookmore.alarms.entity.Alarm;
-import site.bookmore.bookmore.alarms.repository.AlarmRepository;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateEmailException;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateNicknameException;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateProfileException;
+import site.bookmore.bookmore.common.exception.forbidden.InvalidPermissionException;
 import site.bookmore.bookmore.common.exception.not_found.AlreadyDeletedUserException;
 import site.bookmore.bookmore.common.exception.not_found.RanksNotFoundException;
+import site.bookmore.bookmore.common.exception.not_found.UserDeletionNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
 import site.bookmore.bookmore.common.exception.unauthorized.InvalidPasswordException;
 import site.bookmore.bookmore.common.exception.unauthorized.InvalidTokenException;
+import site.bookmore.bookmore.observer.event.user.UserDelete;
 import site.bookmore.bookmore.s3.AwsS3Uploader;
 import site.bookmore.bookmore.security.provider.JwtProvider;
 import site.bookmore.bookmore.users.dto.*;
-import site.bookmore.bookmore.users.entity.Follow;
 import site.bookmore.bookmore.users.entity.Ranks;
 import site.bookmore.bookmore.users.entity.Role;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.entity.UserDeletion;
 import site.bookmore.bookmore.users.repositroy.RanksRepository;
+import site.bookmore.bookmore.users.repositroy.UserDeletionRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Objects;
 
-import static site.bookmore.bookmore.alarms.entity.AlarmType.NEW_FOLLOW;
 import static site.bookmore.bookmore.users.entity.User.DEFAULT_PROFILE_IMG_PATH;
 
 
@@ -45,9 +45,10 @@ public class UserService implements UserDetailsService {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final RanksRepository ranksRepository;
-    private final FollowRepository followRepository;
+    private final UserDeletionRepository userDeletionRepository;
     private final AwsS3Uploader awsS3Uploader;
-    private final AlarmRepository alarmRepository;
+    private final RanksService ranksService;
+    private final ApplicationEventPublisher publisher;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -67,19 +68,12 @@ public class UserService implements UserDetailsService {
         });
         String encoded = passwordEncoder.encode(userJoinRequest.getPassword());
 
-
-        // 회원 가입시 랭크 등록
-        Ranks lastRank = ranksRepository.findTop1ByOrderByRankingDesc().orElse(Ranks.of(0, 1L, null));
-
-        Integer findPoint = lastRank.getPoint();
-        Long findRanking = lastRank.getRanking();
-        Long ranking = findPoint == 0 ? findRanking : findRanking + 1;
-
         User user = userJoinRequest.toEntity(encoded);
 
         userRepository.save(user);
 
-        ranksRepository.save(Ranks.of(0, ranking, user));
+        // 회원 가입시 랭크 등록
+        ranksService.register(user);
 
         return UserJoinResponse.of(user);
     }
@@ -153,30 +147,17 @@ public class UserService implements UserDetailsService {
 
         if (!user.getId().equals(userId) && user.getRole() != Role.ROLE_ADMIN) throw new InvalidTokenException();
 
-        // 팔로우 정리
-        List<Follow> follows = followRepository.findAllFollowOfUser(user.getId());
-        for (Follow follow : follows) {
-            User follower = follow.getFollower();
-            User following = follow.getFollowing();
-            if (follower.equals(user)) following.getFollowCount().minusFollowerCount(); // 삭제되는 유저가 팔로워인 경우
-            else follower.getFollowCount().minusFollowingCount(); // 삭제되는 유저가 팔로잉인 경우
-            follow.delete();
-        }
-
         // 랭킹 삭제 처리
         Ranks rank = ranksRepository.findByUser(user).orElseThrow(RanksNotFoundException::new);
         rank.delete();
 
-        // 알림 삭제 처리
-        List<Alarm> alarms = alarmRepository.findByFromUser(user);
-        for (Alarm alarm : alarms) {
-            if (alarm.getAlarmType().equals(NEW_FOLLOW)) {
-                alarm.delete();
-            }
-        }
+        // 팔로우, 알림 정리는 UserDeletionWorker 가 나누어 처리
+        userDeletionRepository.save(UserDeletion.of(user.getId()));
 
         user.deactivate();
         user.delete();
+        // 랭킹 엔진 제거와 토큰 폐기는 롤백되지 않으므로 커밋 후 이벤트 처리기에서 수행
+        publisher.publishEvent(UserDelete.of(user.getId()));
 
         return UserResponse.of(user, "회원 탈퇴 완료.");
     }
@@ -187,6 +168,18 @@ public class UserService implements UserDetailsService {
         return delete(email, user.getId());
     }
 
+    /**
+     * 회원 탈퇴 정리 진행 상황 (탈퇴한 사용자는 로그인할 수 없으므로 관리자만 조회)
+     */
+    public UserDeletionResponse findDeletion(String email, Long userId) {
+        User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email).orElseThrow(UserNotFoundException::new);
+
+        if (user.getRole() != Role.ROLE_ADMIN) throw new InvalidPermissionException();
+
+        UserDeletion deletion = userDeletionRepository.findByUserId(userId).orElseThrow(UserDeletionNotFoundException::new);
+        return UserDeletionResponse.of(deletion);
+    }
+
     public UserJoinResponse verify(String email) {
         User user = userRepository.findByEmailAndDeletedDatetimeIsNull(email).orElseThrow(UserNotFoundException::new);
         return UserJoinResponse.of(user);
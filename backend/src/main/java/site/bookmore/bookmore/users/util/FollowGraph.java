@@ -0,0 +1,106 @@
+package site.bookmore.bookmore.users.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 팔로우 관계 캐시
+ * 사용자별 팔로잉 id 를 정렬된 long[] 로 보관하여 팔로우 여부를 O(log N) 로 확인하고, 팔로워 수도 함께 보관한다.
+ * 처음 조회할 때 DB 에서 채우고, 팔로우 | 언팔로우 | 회원 탈퇴가 커밋되면 관련 사용자를 지운다.
+ * 팔로잉 목록은 전체 id 개수가 max-edges 를 넘지 않도록 가장 오래 조회되지 않은 사용자부터 밀려난다.
+ * DB 조회와 채우기 사이에 지워진 사용자의 이전 값이 다시 채워지지 않도록, 조회 전에 읽은 stamp 가 그대로일 때만 채운다.
+ * stamp 는 사용자 id 를 나눈 구역별 세대 번호로, 지울 때마다 증가한다.
+ */
+@Component
+public class FollowGraph {
+    private static final int STRIPES = 4096;
+
+    private final long maxEdges;
+    private final LinkedHashMap<Long, long[]> followings = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Integer> followerCounts;
+    private final long[] stamps = new long[STRIPES];
+    private long edges;
+
+    public FollowGraph(@Value("${follow.graph.max-edges:5000000}") long maxEdges,
+                       @Value("${follow.graph.max-users:100000}") int maxUsers) {
+        this.maxEdges = maxEdges;
+        this.followerCounts = Collections.synchronizedMap(new LinkedHashMap<Long, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    // followerId 가 followingId 를 팔로우 중인지. 팔로잉 목록이 없으면 empty
+    public synchronized Optional<Boolean> follows(Long followerId, Long followingId) {
+        long[] ids = followings.get(followerId);
+        if (ids == null) return Optional.empty();
+        return Optional.of(Arrays.binarySearch(ids, followingId) >= 0);
+    }
+
+    // DB 조회 전에 읽어 두었다가 fill, putFollowerCount 에 넘긴다.
+    public synchronized long stamp(Long userId) {
+        return stamps[stripe(userId)];
+    }
+
+    // DB 에서 읽은 팔로잉 id 로 목록 생성. 한 명이 예산을 넘거나 조회 이후 지워졌으면 보관하지 않는다.
+    public synchronized void fill(Long userId, Collection<Long> followingIds, long stamp) {
+        if (stamps[stripe(userId)] != stamp) return;
+        if (followingIds.size() > maxEdges) return;
+
+        long[] ids = new long[followingIds.size()];
+        int i = 0;
+        for (Long id : followingIds) {
+            ids[i++] = id;
+        }
+        Arrays.sort(ids);
+
+        long[] previous = followings.put(userId, ids);
+        if (previous != null) edges -= previous.length;
+        edges += ids.length;
+
+        Iterator<Map.Entry<Long, long[]>> eldest = followings.entrySet().iterator();
+        while (edges > maxEdges && eldest.hasNext()) {
+            Map.Entry<Long, long[]> entry = eldest.next();
+            if (entry.getKey().equals(userId)) continue;
+            edges -= entry.getValue().length;
+            eldest.remove();
+        }
+    }
+
+    public OptionalInt followerCount(Long userId) {
+        Integer count = followerCounts.get(userId);
+        return count == null ? OptionalInt.empty() : OptionalInt.of(count);
+    }
+
+    // 조회 이후 지워졌으면 보관하지 않는다.
+    public synchronized void putFollowerCount(Long userId, int count, long stamp) {
+        if (stamps[stripe(userId)] != stamp) return;
+        followerCounts.put(userId, count);
+    }
+
+    // 팔로우 관계가 바뀐 두 사용자의 팔로잉 목록과 팔로워 수를 지운다.
+    public synchronized void evict(Long followerId, Long followingId) {
+        stamps[stripe(followerId)]++;
+        stamps[stripe(followingId)]++;
+        long[] previous = followings.remove(followerId);
+        if (previous != null) edges -= previous.length;
+        followerCounts.remove(followingId);
+    }
+
+    // 탈퇴한 사용자의 팔로잉 목록과 팔로워 수를 지운다.
+    public void evictUser(Long userId) {
+        evict(userId, userId);
+    }
+
+    public synchronized long edges() {
+        return edges;
+    }
+
+    private static int stripe(Long userId) {
+        return Long.hashCode(userId) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,176 @@
+package site.bookmore.bookmore.users.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import site.bookmore.bookmore.common.dto.ResultResponse;
+import site.bookmore.bookmore.common.exception.service_unavailable.TooManyConnectionsException;
+import site.bookmore.bookmore.config.AsyncConfig;
+import site.bookmore.bookmore.users.dto.RanksDiffResponse;
+import site.bookmore.bookmore.users.dto.RanksResponse;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 랭킹 Top100 스냅샷
+ * 응답 본문 (JSON) 을 미리 직렬화해 두고 순위가 바뀔 때만 통째로 교체한다.
+ * 구독 중인 클라이언트에는 이전 스냅샷과의 차이만 SSE 로 전송한다.
+ * 전송은 leaderboardExecutor 에서 하므로 느린 클라이언트가 스냅샷 교체나 새 구독을 막지 않는다.
+ * executor 큐가 가득 차면 큐에 남은 전송을 모두 버리고, 모든 구독자에게 현재 스냅샷을 다시 보낸다.
+ */
+@Slf4j
+@Component
+public class Leaderboard {
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+    private static final int MAX_EMITTERS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor leaderboardExecutor;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    // 큐가 가득 찰 때마다 증가. 이전 세대에 넘긴 전송은 실행하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean resync = new AtomicBoolean();
+
+    public Leaderboard(ObjectMapper objectMapper,
+                       @Qualifier(AsyncConfig.LEADERBOARD_EXECUTOR) TaskExecutor leaderboardExecutor) {
+        this.objectMapper = objectMapper;
+        this.leaderboardExecutor = leaderboardExecutor;
+    }
+
+    public Optional<byte[]> json() {
+        Snapshot current = snapshot.get();
+        return current == null ? Optional.empty() : Optional.of(current.json);
+    }
+
+    // 이전 스냅샷과 달라졌을 때만 교체. 교체했으면 true
+    // 변경분이 스냅샷 순서대로 전송되도록 잠금 안에서 전송 작업을 넘기고, 전송 자체는 잠금 밖에서 한다.
+    public synchronized boolean publish(List<RanksResponse> ranks) {
+        Snapshot previous = snapshot.get();
+        RanksDiffResponse diff = diff(previous == null ? Collections.emptyList() : previous.ranks, ranks);
+        if (previous != null && diff.isEmpty()) return false;
+
+        snapshot.set(new Snapshot(List.copyOf(ranks), serialize(ResultResponse.success(ranks))));
+        if (previous != null) {
+            List<SseEmitter> targets = List.copyOf(emitters);
+            enqueue(() -> send(targets, "diff", diff));
+        }
+        return true;
+    }
+
+    public SseEmitter subscribe() {
+        if (connections.incrementAndGet() > MAX_EMITTERS) {
+            connections.decrementAndGet();
+            throw new TooManyConnectionsException();
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        emitter.onCompletion(() -> remove(emitter));
+        emitter.onTimeout(() -> remove(emitter));
+        emitter.onError(e -> remove(emitter));
+        emitters.add(emitter);
+
+        // 연결 직후 현재 스냅샷 전송. 변경분과 같은 스레드에서 보내므로 스냅샷 뒤에는 그 이후의 변경분만 도착한다.
+        enqueue(() -> send(List.of(emitter), "snapshot", currentRanks()));
+        return emitter;
+    }
+
+    // 큐가 가득 차서 거절되면 세대를 바꿔 대기 중인 전송을 무효화한다. 큐에서 처음 실행되는 작업이 전체 스냅샷을 다시 보낸다.
+    private void enqueue(Runnable task) {
+        long current = generation.get();
+        try {
+            leaderboardExecutor.execute(() -> {
+                if (generation.get() == current) {
+                    task.run();
+                } else {
+                    resend();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("랭킹 전송 큐가 가득 차 대기 중인 변경분을 버리고 스냅샷을 다시 보냅니다.");
+            generation.incrementAndGet();
+            resync.set(true);
+            try {
+                leaderboardExecutor.execute(this::resend);
+            } catch (TaskRejectedException ignored) {
+                // 큐에 남은 이전 세대 작업이 다시 보낸다.
+            }
+        }
+    }
+
+    private void resend() {
+        if (resync.compareAndSet(true, false)) {
+            send(List.copyOf(emitters), "snapshot", currentRanks());
+        }
+    }
+
+    private List<RanksResponse> currentRanks() {
+        Snapshot current = snapshot.get();
+        return current == null ? Collections.emptyList() : current.ranks;
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    private void send(List<SseEmitter> targets, String name, Object data) {
+        for (SseEmitter emitter : targets) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            } catch (IOException | IllegalStateException e) {
+                remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void remove(SseEmitter emitter) {
+        if (emitters.remove(emitter)) connections.decrementAndGet();
+    }
+
+    static RanksDiffResponse diff(List<RanksResponse> before, List<RanksResponse> after) {
+        Map<Long, RanksResponse> previous = new HashMap<>();
+        before.forEach(rank -> previous.put(rank.getId(), rank));
+
+        List<RanksResponse> changed = new ArrayList<>();
+        for (RanksResponse rank : after) {
+            RanksResponse old = previous.remove(rank.getId());
+            if (old == null || !Objects.equals(old.getPoint(), rank.getPoint())
+                    || !Objects.equals(old.getRanking(), rank.getRanking())
+                    || !Objects.equals(old.getNickName(), rank.getNickName())) {
+                changed.add(rank);
+            }
+        }
+        return new RanksDiffResponse(changed, new ArrayList<>(previous.keySet()));
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("랭킹 직렬화 실패", e);
+        }
+    }
+
+    private static class Snapshot {
+        private final List<RanksResponse> ranks;
+        private final byte[] json;
+
+        Snapshot(List<RanksResponse> ranks, byte[] json) {
+            this.ranks = ranks;
+            this.json = json;
+        }
+    }
+}
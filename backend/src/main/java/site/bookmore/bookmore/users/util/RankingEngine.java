@@ -0,0 +1,387 @@
+package site.bookmore.bookmore.users.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.users.vo.RanksPointVo;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 랭킹
+ * 점수별 인원 수를 Fenwick tree 로 관리하여 순위 (나보다 점수가 높은 사람 수 + 1) 를 O(log P) 로 계산하고,
+ * 점수 → 사용자 id 정렬 맵으로 상위 K 명과 특정 사용자의 앞뒤 K 명을 O(log N + K) 로 조회한다.
+ * 같은 점수 안에서는 사용자 id 오름차순으로 나열한다.
+ * 좋아요 | 취소 이벤트로 점수를 갱신하며, 변경된 사용자는 RanksScheduler 가 주기적으로 DB 의 좋아요 합계로 다시 기록한다.
+ * 다시 적재할 때는 beginLoad 이후의 변경을 모아 두었다가 load 에서 DB 의 좋아요 합계로 만든 새 랭킹에 다시 반영한다.
+ */
+@Component
+public class RankingEngine {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    private Map<Long, Entry> entries = new HashMap<>();
+    private NavigableMap<Integer, NavigableSet<Long>> buckets = new TreeMap<>();
+    private PointTree tree = new PointTree(INITIAL_CAPACITY);
+    private volatile boolean loaded;
+    // beginLoad 이후의 변경. 적재 중이 아니면 null
+    private List<Change> journal;
+
+    // DB 에서 점수를 읽기 전에 호출. 이후 변경을 모은다.
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB 에서 읽은 점수로 전체를 다시 만든다. beginLoad 이후 모은 변경은 새 랭킹에 다시 반영한다.
+    // 아직 기록되지 않은 사용자는 ranks.point 가 오래된 값이므로 계속 기록 대상으로 남긴다.
+    public void load(Collection<? extends RanksPointVo> rows) {
+        Map<Long, Entry> newEntries = new HashMap<>(rows.size() * 2);
+        NavigableMap<Integer, NavigableSet<Long>> newBuckets = new TreeMap<>();
+        int maxPoint = 0;
+        for (RanksPointVo row : rows) {
+            int point = row.getPoint() == null ? 0 : Math.max(0, row.getPoint());
+            newEntries.put(row.getUserId(), new Entry(row.getId(), point));
+            newBuckets.computeIfAbsent(point, k -> new TreeSet<>()).add(row.getUserId());
+            maxPoint = Math.max(maxPoint, point);
+        }
+        PointTree newTree = new PointTree(Math.max(INITIAL_CAPACITY, Integer.highestOneBit(maxPoint) << 1));
+        newBuckets.forEach((point, users) -> newTree.add(point, users.size()));
+
+        lock.writeLock().lock();
+        try {
+            this.entries = newEntries;
+            this.buckets = newBuckets;
+            this.tree = newTree;
+            if (journal != null) {
+                journal.forEach(this::apply);
+                journal = null;
+            }
+            this.loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 점수 반영. 랭킹에 없는 사용자면 false
+    public boolean add(Long userId, int delta) {
+        return record(new Change(Change.Kind.ADD, userId, null, delta));
+    }
+
+    public void register(Long userId, Long ranksId, int point) {
+        record(new Change(Change.Kind.REGISTER, userId, ranksId, point));
+    }
+
+    public void remove(Long userId) {
+        record(new Change(Change.Kind.REMOVE, userId, null, 0));
+    }
+
+    public Optional<Rank> find(Long userId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) return Optional.empty();
+            return Optional.of(new Rank(userId, entry.ranksId, entry.point, rankOf(entry.point)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Rank> top(int size) {
+        lock.readLock().lock();
+        try {
+            List<Rank> result = new ArrayList<>(Math.min(size, entries.size()));
+            long ranking = 1;
+            for (Map.Entry<Integer, NavigableSet<Long>> bucket : buckets.descendingMap().entrySet()) {
+                for (Long userId : bucket.getValue()) {
+                    if (result.size() >= size) return result;
+                    result.add(new Rank(userId, entries.get(userId).ranksId, bucket.getKey(), ranking));
+                }
+                ranking += bucket.getValue().size();
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자의 순위와 바로 위 | 아래 size 명. 하나의 읽기 잠금 안에서 계산하므로 갱신 도중의 상태는 보이지 않는다.
+    public Optional<Around> around(Long userId, int size) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            if (entry == null) return Optional.empty();
+
+            Rank me = new Rank(userId, entry.ranksId, entry.point, rankOf(entry.point));
+
+            List<Rank> above = new ArrayList<>(size);
+            Iterator<Long> sameAbove = buckets.get(entry.point).headSet(userId, false).descendingIterator();
+            collect(above, sameAbove, entry.point, size);
+            for (Map.Entry<Integer, NavigableSet<Long>> bucket = buckets.higherEntry(entry.point);
+                 bucket != null && above.size() < size; bucket = buckets.higherEntry(bucket.getKey())) {
+                collect(above, bucket.getValue().descendingIterator(), bucket.getKey(), size);
+            }
+            Collections.reverse(above);
+
+            List<Rank> below = new ArrayList<>(size);
+            collect(below, buckets.get(entry.point).tailSet(userId, false).iterator(), entry.point, size);
+            for (Map.Entry<Integer, NavigableSet<Long>> bucket = buckets.lowerEntry(entry.point);
+                 bucket != null && below.size() < size; bucket = buckets.lowerEntry(bucket.getKey())) {
+                collect(below, bucket.getValue().iterator(), bucket.getKey(), size);
+            }
+
+            return Optional.of(new Around(me, entries.size(), above, below));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수가 0 인 사용자의 순위 (점수가 있는 사용자 수 + 1). 신규 가입자는 모두 이 순위를 공유한다.
+    public long tailRank() {
+        lock.readLock().lock();
+        try {
+            return rankOf(0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 마지막 호출 이후 점수가 바뀐 사용자 id
+    public Set<Long> drainDirty() {
+        Set<Long> drained = new HashSet<>(dirty);
+        dirty.removeAll(drained);
+        return drained;
+    }
+
+    // 기록에 실패한 사용자를 다음 체크포인트에서 다시 기록
+    public void markDirty(Collection<Long> userIds) {
+        dirty.addAll(userIds);
+    }
+
+    // 전체 사용자의 점수와 순위를 사용자 id 오름차순으로. 이력 스냅샷용
+    public Columns columns() {
+        lock.readLock().lock();
+        try {
+            long[] userIds = new long[entries.size()];
+            int i = 0;
+            for (Long userId : entries.keySet()) {
+                userIds[i++] = userId;
+            }
+            Arrays.sort(userIds);
+
+            long[] rankings = new long[userIds.length];
+            int[] points = new int[userIds.length];
+            for (i = 0; i < userIds.length; i++) {
+                points[i] = entries.get(userIds[i]).point;
+                rankings[i] = rankOf(points[i]);
+            }
+            return new Columns(userIds, rankings, points);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean record(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) journal.add(change);
+            return apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean apply(Change change) {
+        Long userId = change.userId;
+        switch (change.kind) {
+            case ADD: {
+                Entry entry = entries.get(userId);
+                if (entry == null) return false;
+                detach(userId, entry.point);
+                entry.point = Math.max(0, entry.point + change.value);
+                attach(userId, entry.point);
+                dirty.add(userId);
+                return true;
+            }
+            case REGISTER: {
+                Entry previous = entries.get(userId);
+                if (previous != null) detach(userId, previous.point);
+                int value = Math.max(0, change.value);
+                entries.put(userId, new Entry(change.ranksId, value));
+                attach(userId, value);
+                dirty.add(userId);
+                return true;
+            }
+            default: {
+                Entry entry = entries.remove(userId);
+                if (entry == null) return false;
+                detach(userId, entry.point);
+                dirty.remove(userId);
+                return true;
+            }
+        }
+    }
+
+    private long rankOf(int point) {
+        return tree.total() - tree.prefix(point) + 1;
+    }
+
+    private void collect(List<Rank> result, Iterator<Long> userIds, int point, int size) {
+        long ranking = rankOf(point);
+        while (userIds.hasNext() && result.size() < size) {
+            Long userId = userIds.next();
+            result.add(new Rank(userId, entries.get(userId).ranksId, point, ranking));
+        }
+    }
+
+    private void attach(Long userId, int point) {
+        buckets.computeIfAbsent(point, k -> new TreeSet<>()).add(userId);
+        tree.add(point, 1);
+    }
+
+    private void detach(Long userId, int point) {
+        NavigableSet<Long> users = buckets.get(point);
+        if (users == null || !users.remove(userId)) return;
+        if (users.isEmpty()) buckets.remove(point);
+        tree.add(point, -1);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Rank {
+        private final Long userId;
+        private final Long ranksId;
+        private final int point;
+        private final long ranking;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Around {
+        private final Rank me;
+        private final int total;
+        // 순위 오름차순
+        private final List<Rank> above;
+        private final List<Rank> below;
+
+        // 상위 몇 % 인지
+        public double getTopPercent() {
+            return total == 0 ? 0 : me.getRanking() * 100.0 / total;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Columns {
+        private final long[] userIds;
+        private final long[] rankings;
+        private final int[] points;
+    }
+
+    private static class Change {
+        enum Kind { ADD, REGISTER, REMOVE }
+
+        private final Kind kind;
+        private final Long userId;
+        private final Long ranksId;
+        // ADD 는 변경량, REGISTER 는 점수
+        private final int value;
+
+        Change(Kind kind, Long userId, Long ranksId, int value) {
+            this.kind = kind;
+            this.userId = userId;
+            this.ranksId = ranksId;
+            this.value = value;
+        }
+    }
+
+    private static class Entry {
+        private final Long ranksId;
+        private int point;
+
+        Entry(Long ranksId, int point) {
+            this.ranksId = ranksId;
+            this.point = point;
+        }
+    }
+
+    // 점수 p 인 사용자 수를 index p 에 누적하는 Fenwick tree. 범위를 넘는 점수가 들어오면 두 배로 늘린다.
+    private static class PointTree {
+        private long[] tree;
+        private long total;
+
+        PointTree(int capacity) {
+            this.tree = new long[capacity + 1];
+        }
+
+        void add(int point, long delta) {
+            if (point + 1 >= tree.length) grow(point);
+            total += delta;
+            for (int i = point + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        // 점수가 point 이하인 사용자 수
+        long prefix(int point) {
+            long sum = 0;
+            for (int i = Math.min(point + 1, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        long total() {
+            return total;
+        }
+
+        private void grow(int point) {
+            int capacity = tree.length - 1;
+            while (capacity <= point) capacity <<= 1;
+
+            // 기존 누적값을 개별 값으로 되돌린 뒤 다시 쌓는다.
+            long[] counts = new long[tree.length];
+            for (int i = 1; i < tree.length; i++) {
+                counts[i] = prefixAt(i) - prefixAt(i - 1);
+            }
+            long[] grown = new long[capacity + 1];
+            for (int i = 1; i < counts.length; i++) {
+                if (counts[i] == 0) continue;
+                for (int j = i; j < grown.length; j += j & -j) {
+                    grown[j] += counts[i];
+                }
+            }
+            this.tree = grown;
+        }
+
+        private long prefixAt(int index) {
+            long sum = 0;
+            for (int i = index; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
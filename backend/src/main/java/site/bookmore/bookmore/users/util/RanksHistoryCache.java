@@ -0,0 +1,57 @@
+package site.bookmore.bookmore.users.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.users.dto.RanksHistoryResponse;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 일별 순위 캐시
+ * 스냅샷은 하루 한 번 저장되므로, 가장 최근 스냅샷 날짜가 같은 동안에는 한 번 풀어 둔 사용자의 순위를 그대로 사용한다.
+ * 가장 오래 조회되지 않은 사용자부터 max-users 를 넘지 않도록 밀려난다.
+ */
+@Component
+public class RanksHistoryCache {
+    private final Map<Long, Entry> entries;
+
+    public RanksHistoryCache(@Value("${ranks.history.cache.max-users:1000}") int maxUsers) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    // latest 스냅샷까지 반영된 순위만 반환
+    public Optional<List<RanksHistoryResponse>> get(Long userId, LocalDate latest) {
+        Entry entry = entries.get(userId);
+        if (entry == null || !entry.latest.equals(latest)) return Optional.empty();
+        return Optional.of(entry.history);
+    }
+
+    public void put(Long userId, LocalDate latest, List<RanksHistoryResponse> history) {
+        entries.put(userId, new Entry(latest, List.copyOf(history)));
+    }
+
+    // 같은 날짜의 스냅샷을 다시 저장하면 날짜만으로는 구분할 수 없으므로 모두 지운다.
+    public void clear() {
+        entries.clear();
+    }
+
+    private static class Entry {
+        private final LocalDate latest;
+        private final List<RanksHistoryResponse> history;
+
+        Entry(LocalDate latest, List<RanksHistoryResponse> history) {
+            this.latest = latest;
+            this.history = history;
+        }
+    }
+}
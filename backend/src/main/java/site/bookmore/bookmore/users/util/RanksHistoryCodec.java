@@ -0,0 +1,111 @@
+package site.bookmore.bookmore.users.util;
+
+import java.io.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 랭킹 스냅샷 압축 형식
+ * [사용자 수] 다음에 사용자 id 오름차순으로 [이전 사용자 id 와의 차이][순위][점수] 를 varint 로 이어 쓰고 deflate 로 압축한다.
+ * 사용자 id 순으로 정렬되어 있으므로 두 스냅샷을 한 번씩만 읽으면서 비교할 수 있다.
+ */
+public final class RanksHistoryCodec {
+
+    private RanksHistoryCodec() {
+    }
+
+    // userIds 는 오름차순이어야 한다.
+    public static byte[] encode(long[] userIds, long[] rankings, int[] points) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (OutputStream out = new BufferedOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            writeVarLong(out, userIds.length);
+            long previous = 0;
+            for (int i = 0; i < userIds.length; i++) {
+                writeVarLong(out, userIds[i] - previous);
+                writeVarLong(out, rankings[i]);
+                writeVarLong(out, points[i]);
+                previous = userIds[i];
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Reader reader(byte[] data) {
+        return new Reader(data);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * 사용자 id 오름차순으로 한 행씩 읽는다.
+     */
+    public static class Reader implements Closeable {
+        private final InputStream in;
+        private long remaining;
+        private long userId;
+        private long ranking;
+        private int point;
+
+        private Reader(byte[] data) {
+            this.in = new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(data)));
+            this.remaining = readVarLong();
+        }
+
+        public boolean next() {
+            if (remaining == 0) return false;
+            remaining--;
+            userId += readVarLong();
+            ranking = readVarLong();
+            point = (int) readVarLong();
+            return true;
+        }
+
+        public long userId() {
+            return userId;
+        }
+
+        public long ranking() {
+            return ranking;
+        }
+
+        public int point() {
+            return point;
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private long readVarLong() {
+            try {
+                long value = 0;
+                for (int shift = 0; shift < 64; shift += 7) {
+                    int b = in.read();
+                    if (b < 0) throw new EOFException("잘린 랭킹 스냅샷");
+                    value |= (long) (b & 0x7F) << shift;
+                    if ((b & 0x80) == 0) return value;
+                }
+                throw new IOException("잘못된 varint");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
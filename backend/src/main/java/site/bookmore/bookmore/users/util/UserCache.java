@@ -0,0 +1,54 @@
+package site.bookmore.bookmore.users.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한 확인처럼 로그인 사용자의 정보가 필요할 때 쓰는 짧은 TTL 캐시
+ * 트랜잭션 밖에서 읽은 엔티티이므로 조회용으로만 사용하고, 연관관계에는 UserRepository.getReferenceById 를 사용한다.
+ * 정보가 바뀌어도 ttl 동안은 이전 값이 보일 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+    private final UserRepository userRepository;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${user.cache.ttl-millis:30000}")
+    private long ttlMillis;
+
+    @Value("${user.cache.max-size:10000}")
+    private int maxSize;
+
+    public User get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt > now) return entry.user;
+
+        User user = userRepository.findByIdAndDeletedDatetimeIsNull(userId).orElseThrow(UserNotFoundException::new);
+        if (entries.size() >= maxSize) entries.values().removeIf(e -> e.expiresAt <= now);
+        if (entries.size() < maxSize) entries.put(userId, new Entry(user, now + ttlMillis));
+        return user;
+    }
+
+    public void evict(Long userId) {
+        entries.remove(userId);
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package site.bookmore.bookmore.users.vo;
+
+public interface FollowingVo {
+    Long getId();
+
+    Integer getFollowerCount();
+}
@@ -0,0 +1,9 @@
+package site.bookmore.bookmore.users.vo;
+
+public interface RanksPointVo {
+    Long getId();
+
+    Long getUserId();
+
+    Integer getPoint();
+}
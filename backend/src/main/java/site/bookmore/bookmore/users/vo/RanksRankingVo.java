@@ -1,11 +1,9 @@
 package site.bookmore.bookmore.users.vo;
 
-public interface RanksNativeVo {
+public interface RanksRankingVo {
     Long getId();
 
     Integer getPoint();
 
     Long getRanking();
-    
-    String getNickname();
 }
@@ -10,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -26,6 +27,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -57,19 +59,19 @@ class AlarmControllerTest {
 
     @Test
     @DisplayName("모든 알림 조회")
-    @WithMockUser(username = "user2")
     void alarm_following_list() throws Exception {
         Page<AlarmResponse> responsePage = new PageImpl<>(List.of(response));
-        given(alarmService.findByFollowingReview(any(Pageable.class), eq("user2"))).willReturn(responsePage);
+        given(alarmService.findByFollowingReview(any(Pageable.class), eq(2L))).willReturn(responsePage);
 
         mockMvc.perform(get("/api/v1/alarms")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(user, null, List.of())))
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$..['id']").exists())
                 .andExpect(jsonPath("$..['alarmType']").exists())
                 .andExpect(jsonPath("$..['fromUserNickname']").exists());
 
-        verify(alarmService).findByFollowingReview(any(Pageable.class), eq("user2"));
+        verify(alarmService).findByFollowingReview(any(Pageable.class), eq(2L));
     }
 
     @Test
@@ -83,12 +85,12 @@ class AlarmControllerTest {
 
     @Test
     @DisplayName("새로운 알림 조회")
-    @WithMockUser(username = "user2")
     void get_new_alarm() throws Exception {
         Page<AlarmResponse> responsePage = new PageImpl<>(List.of(response));
-        given(alarmService.getNewAlarms(any(Pageable.class), eq("user2"))).willReturn(responsePage);
+        given(alarmService.getNewAlarms(any(Pageable.class), eq(2L))).willReturn(responsePage);
 
         mockMvc.perform(get("/api/v1/alarms/new")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(user, null, List.of())))
                         .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$..['id']").exists())
@@ -96,7 +98,7 @@ class AlarmControllerTest {
                 .andExpect(jsonPath("$..['confirmed']").exists())
                 .andExpect(jsonPath("$..['fromUserNickname']").exists());
 
-        verify(alarmService).getNewAlarms(any(Pageable.class), eq("user2"));
+        verify(alarmService).getNewAlarms(any(Pageable.class), eq(2L));
     }
 
     @Test
@@ -113,4 +115,30 @@ class AlarmControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
                 .andExpect(jsonPath("$.result").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 조회")
+    void count_unread() throws Exception {
+        given(alarmService.countUnread(2L)).willReturn(3L);
+
+        mockMvc.perform(get("/api/v1/alarms/unread-count")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(user, null, List.of())))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value(3));
+    }
+
+    @Test
+    @DisplayName("모든 알림 읽음 처리")
+    void confirm_all() throws Exception {
+        given(alarmService.confirmAll(2L)).willReturn("모든 알림이 읽음 처리되었습니다.");
+
+        mockMvc.perform(post("/api/v1/alarms/confirm")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(user, null, List.of())))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("SUCCESS"));
+
+        verify(alarmService).confirmAll(2L);
+    }
+}
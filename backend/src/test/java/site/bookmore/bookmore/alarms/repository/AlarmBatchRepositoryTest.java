@@ -0,0 +1,258 @@
+package site.bookmore.bookmore.alarms.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import site.bookmore.bookmore.alarms.entity.Alarm;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+import site.bookmore.bookmore.config.AuditingConfig;
+import site.bookmore.bookmore.users.entity.User;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DataJpaTest
+@Import({AuditingConfig.class, AlarmBatchRepository.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:alarm-batch;MODE=MySQL;NON_KEYWORDS=USER",
+        "alarm.batch.chunk-size=2"
+})
+class AlarmBatchRepositoryTest {
+
+    @Autowired
+    private AlarmBatchRepository alarmBatchRepository;
+    @Autowired
+    private AlarmRepository alarmRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private final List<User> followers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        author = user("author");
+        entityManager.persist(author);
+        for (int i = 0; i < 5; i++) {
+            User follower = user("follower" + i);
+            entityManager.persist(follower);
+            followers.add(follower);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("chunk 크기로 나누어 팔로워 수만큼 알림 저장")
+    void insert_all_in_chunks() {
+        List<Long> followerIds = new ArrayList<>();
+        followers.forEach(follower -> followerIds.add(follower.getId()));
+
+        Map<Long, Boolean> inserted = alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, author.getId(), 10L, followerIds);
+
+        assertThat(inserted.keySet()).containsExactlyElementsOf(followerIds);
+        assertThat(inserted.values()).containsOnly(true);
+        for (User follower : followers) {
+            Page<Alarm> alarms = alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(follower.getId(), PageRequest.of(0, 10));
+            assertThat(alarms.getContent()).hasSize(1);
+            Alarm alarm = alarms.getContent().get(0);
+            assertThat(alarm.getAlarmType()).isEqualTo(AlarmType.NEW_FOLLOW_REVIEW);
+            assertThat(alarm.getFromUser().getId()).isEqualTo(author.getId());
+            assertThat(alarm.getSource()).isEqualTo(10L);
+            assertThat(alarm.isConfirmed()).isFalse();
+            assertThat(alarm.getCreatedDatetime()).isNotNull();
+            assertThat(alarm.getEventKey()).isEqualTo("1:" + follower.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이벤트가 다시 전달되어도 알림은 한 번만 저장")
+    void insert_all_idempotent() {
+        List<Long> followerIds = new ArrayList<>();
+        followers.forEach(follower -> followerIds.add(follower.getId()));
+
+        alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, author.getId(), 10L, followerIds.subList(0, 3));
+        Map<Long, Boolean> inserted = alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, author.getId(), 10L, followerIds);
+
+        assertThat(alarmRepository.count()).isEqualTo(5);
+        assertThat(inserted.keySet()).containsExactlyElementsOf(followerIds.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("같은 리뷰의 좋아요 알림은 한 행으로 묶어 보낸 사람 수와 최근 보낸 사람만 갱신")
+    void insert_all_coalesce() {
+        for (int i = 0; i < 3; i++) {
+            alarmBatchRepository.insertAll(10L + i, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(i).getId(), 7L, List.of(author.getId()));
+        }
+        Map<Long, Boolean> redelivered = alarmBatchRepository.insertAll(12L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(2).getId(), 7L, List.of(author.getId()));
+
+        assertThat(redelivered).isEmpty();
+        List<Alarm> alarms = alarmRepository.findAll();
+        assertThat(alarms).hasSize(1);
+        Alarm alarm = alarms.get(0);
+        assertThat(alarm.getActorCount()).isEqualTo(3);
+        assertThat(alarm.getRecentActorIds(5)).containsExactly(followers.get(2).getId(), followers.get(1).getId(), followers.get(0).getId());
+        assertThat(alarm.getEventKey()).isEqualTo("12:" + author.getId());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 묶음 행에 합쳐지면 읽지 않은 알림 수를 늘리지 않고, 읽은 행에 합쳐지면 늘림")
+    void insert_all_coalesce_unread() {
+        Map<Long, Boolean> first = alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        Map<Long, Boolean> merged = alarmBatchRepository.insertAll(11L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+        jdbcTemplate.update("UPDATE alarm SET confirmed = true");
+        Map<Long, Boolean> flipped = alarmBatchRepository.insertAll(12L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(2).getId(), 7L, List.of(author.getId()));
+
+        assertThat(first).containsExactly(entry(author.getId(), true));
+        assertThat(merged).containsExactly(entry(author.getId(), false));
+        assertThat(flipped).containsExactly(entry(author.getId(), true));
+        assertThat(alarmRepository.findAll().get(0).isConfirmed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제한 묶음 행에 새 좋아요가 오면 다시 읽지 않은 알림으로 보임")
+    void insert_all_coalesce_deleted() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        jdbcTemplate.update("UPDATE alarm SET deleted_datetime = ?", Timestamp.valueOf(LocalDateTime.now()));
+
+        Map<Long, Boolean> revived = alarmBatchRepository.insertAll(11L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+
+        assertThat(revived).containsExactly(entry(author.getId(), true));
+        Page<Alarm> alarms = alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(author.getId(), PageRequest.of(0, 10));
+        assertThat(alarms.getContent()).hasSize(1);
+        assertThat(alarms.getContent().get(0).getActorCount()).isEqualTo(1);
+        assertThat(alarms.getContent().get(0).getRecentActorIds(5)).containsExactly(followers.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("같은 이벤트가 다시 전달되면 삭제한 묶음 행을 되살리지 않음")
+    void insert_all_coalesce_deleted_redelivered() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        jdbcTemplate.update("UPDATE alarm SET deleted_datetime = ?", Timestamp.valueOf(LocalDateTime.now()));
+
+        Map<Long, Boolean> redelivered = alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+
+        assertThat(redelivered).isEmpty();
+        assertThat(alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(author.getId(), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("묶음 행에 합쳐지면 목록 맨 위로 올라옴")
+    void insert_all_coalesce_moves_to_top() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(20L, AlarmType.NEW_FOLLOW_REVIEW, followers.get(3).getId(), 8L, List.of(author.getId()));
+        jdbcTemplate.update("UPDATE alarm SET created_datetime = ? WHERE alarm_type = 'NEW_LIKE_ON_REVIEW'", Timestamp.valueOf(LocalDateTime.now().minusMinutes(10)));
+        jdbcTemplate.update("UPDATE alarm SET created_datetime = ? WHERE alarm_type = 'NEW_FOLLOW_REVIEW'", Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)));
+
+        alarmBatchRepository.insertAll(11L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+
+        Page<Alarm> alarms = alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(author.getId(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDatetime")));
+        assertThat(alarms.getContent()).extracting(Alarm::getAlarmType)
+                .containsExactly(AlarmType.NEW_LIKE_ON_REVIEW, AlarmType.NEW_FOLLOW_REVIEW);
+    }
+
+    @Test
+    @DisplayName("최근 보낸 사람은 중복을 뺀 뒤 limit 개 반환")
+    void recent_actor_ids_distinct_before_limit() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(11L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(12L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+
+        Alarm alarm = alarmRepository.findAll().get(0);
+
+        assertThat(alarm.getRecentActorIds(2)).containsExactly(followers.get(1).getId(), followers.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("묶음 행은 같은 사람이 다시 보내도 보낸 사람 수를 늘리지 않음")
+    void insert_all_coalesce_distinct_actors() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(11L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(12L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+
+        Alarm alarm = alarmRepository.findAll().get(0);
+
+        assertThat(alarm.getActorCount()).isEqualTo(2);
+        assertThat(alarm.getRecentActorIds(5)).containsExactly(followers.get(1).getId(), followers.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("묶음 행이 갱신되면 재연결 시 마지막으로 받은 이벤트 이후의 알림으로 다시 조회")
+    void find_missed_merged() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(11L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(1).getId(), 7L, List.of(author.getId()));
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+
+        List<Alarm> missed = alarmRepository.findMissed(author.getId(), 10L, PageRequest.of(0, 10));
+
+        assertThat(missed).hasSize(1);
+        assertThat(missed.get(0).getEventId()).isEqualTo(11L);
+        assertThat(alarmRepository.findMissed(author.getId(), 11L, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최근 보낸 사람이 길이 제한에서 잘렸으면 잘린 마지막 id 는 버림")
+    void recent_actor_ids_drop_truncated() {
+        alarmBatchRepository.insertAll(10L, AlarmType.NEW_LIKE_ON_REVIEW, followers.get(0).getId(), 7L, List.of(author.getId()));
+        String truncated = "12345678,".repeat(14).substring(0, Alarm.RECENT_ACTORS_LENGTH);
+        jdbcTemplate.update("UPDATE alarm SET recent_actors = ?", truncated);
+
+        Alarm alarm = alarmRepository.findAll().get(0);
+
+        assertThat(alarm.getRecentActorIds(20)).containsExactly(12345678L);
+    }
+
+    @Test
+    @DisplayName("요약 모드에서는 같은 사람이 보낸 하루치 알림을 한 행으로 묶음")
+    void insert_all_digest() {
+        AlarmBatchRepository digest = new AlarmBatchRepository(jdbcTemplate, 2, Set.of(), Set.of(AlarmType.NEW_FOLLOW_REVIEW), 60);
+        List<Long> followerIds = new ArrayList<>();
+        followers.forEach(follower -> followerIds.add(follower.getId()));
+
+        digest.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, author.getId(), 10L, followerIds);
+        digest.insertAll(2L, AlarmType.NEW_FOLLOW_REVIEW, author.getId(), 11L, followerIds);
+
+        assertThat(alarmRepository.count()).isEqualTo(5);
+        for (Alarm alarm : alarmRepository.findAll()) {
+            assertThat(alarm.getActorCount()).isEqualTo(2);
+            assertThat(alarm.getSource()).isEqualTo(11L);
+        }
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 저장하지 않음")
+    void insert_all_empty() {
+        assertThat(alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, author.getId(), 10L, List.of())).isEmpty();
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password")
+                .nickname(name)
+                .birth(LocalDate.of(2000, 1, 1))
+                .build();
+    }
+}
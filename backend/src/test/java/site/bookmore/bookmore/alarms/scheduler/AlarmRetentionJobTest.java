@@ -0,0 +1,60 @@
+package site.bookmore.bookmore.alarms.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AlarmRetentionJobTest {
+    private final AlarmRepository alarmRepository = Mockito.mock(AlarmRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+    private final AlarmRetentionJob alarmRetentionJob = new AlarmRetentionJob(alarmRepository, transactionTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(alarmRetentionJob, "retentionDays", 90);
+        ReflectionTestUtils.setField(alarmRetentionJob, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 알림을 chunk 단위로 남지 않을 때까지 삭제")
+    void purge_in_chunks() {
+        given(alarmRepository.findExpiredIds(any(), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+
+        alarmRetentionJob.purge();
+
+        verify(alarmRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(alarmRepository).deleteAllByIdIn(List.of(3L));
+        verify(alarmRepository, times(2)).findExpiredIds(Mockito.argThat(cutoff ->
+                cutoff.isBefore(LocalDateTime.now().minusDays(89))), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("삭제할 알림이 없으면 삭제하지 않음")
+    void purge_nothing() {
+        given(alarmRepository.findExpiredIds(any(), any(Pageable.class))).willReturn(List.of());
+
+        alarmRetentionJob.purge();
+
+        verify(alarmRepository, never()).deleteAllByIdIn(anyCollection());
+        assertThat(Mockito.mockingDetails(alarmRepository).getInvocations()).hasSize(1);
+    }
+}
@@ -15,6 +15,8 @@ import site.bookmore.bookmore.alarms.dto.AlarmResponse;
 import site.bookmore.bookmore.alarms.entity.Alarm;
 import site.bookmore.bookmore.alarms.entity.AlarmType;
 import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+import site.bookmore.bookmore.alarms.util.AlarmEmitters;
+import site.bookmore.bookmore.alarms.util.UnreadCounter;
 import site.bookmore.bookmore.books.entity.Book;
 import site.bookmore.bookmore.common.exception.ErrorCode;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateConfirmedException;
@@ -22,15 +24,21 @@ import site.bookmore.bookmore.common.exception.forbidden.InvalidPermissionExcept
 import site.bookmore.bookmore.reviews.entity.Review;
 import site.bookmore.bookmore.reviews.repository.ReviewRepository;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.UserRepository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -39,9 +47,11 @@ class AlarmServiceTest {
     @Mock
     private AlarmRepository alarmRepository;
     @Mock
-    private UserRepository userRepository;
-    @Mock
     private ReviewRepository reviewRepository;
+    @Mock
+    private AlarmEmitters alarmEmitters;
+    @Mock
+    private UnreadCounter unreadCounter;
 
     @InjectMocks
     AlarmService alarmService;
@@ -68,13 +78,28 @@ class AlarmServiceTest {
 
         Page<Alarm> alarmPage = new PageImpl<>(List.of(alarm1, alarm2));
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail())).thenReturn(Optional.of(user));
-        when(alarmRepository.findByTargetUserAndDeletedDatetimeIsNull(user, pageable)).thenReturn(alarmPage);
-        when(reviewRepository.findById(review.getId())).thenReturn(Optional.of(review));
+        when(alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(user.getId(), pageable)).thenReturn(alarmPage);
+        when(reviewRepository.findAllWithBookByIdIn(Set.of(review.getId()))).thenReturn(List.of(review));
 
-        Page<AlarmResponse> responses = alarmService.findByFollowingReview(pageable, user.getEmail());
+        Page<AlarmResponse> responses = alarmService.findByFollowingReview(pageable, user.getId());
 
         assertThat(responses.getTotalElements()).isEqualTo(2);
+        assertThat(responses.getContent().get(1).getSource()).containsEntry("isbn", "10001").containsEntry("title", "title1");
+        verify(reviewRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("삭제된 리뷰의 알림은 도서 정보 없이 조회")
+    void findAllMyAlarm_deleted_review() {
+        Page<Alarm> alarmPage = new PageImpl<>(List.of(alarm1, alarm2));
+
+        when(alarmRepository.findByTargetUserIdAndDeletedDatetimeIsNull(user.getId(), pageable)).thenReturn(alarmPage);
+        when(reviewRepository.findAllWithBookByIdIn(Set.of(1L))).thenReturn(List.of());
+
+        Page<AlarmResponse> responses = alarmService.findByFollowingReview(pageable, user.getId());
+
+        assertThat(responses.getTotalElements()).isEqualTo(2);
+        assertThat(responses.getContent().get(1).getSource()).isEmpty();
     }
 
     @Test
@@ -86,12 +111,11 @@ class AlarmServiceTest {
 
         Page<Alarm> alarmPage = new PageImpl<>(List.of(alarm1, alarm2));
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(alarmRepository.findByTargetUserAndConfirmedIsFalseAndDeletedDatetimeIsNull(user, pageable)).thenReturn(alarmPage);
-        when(reviewRepository.findById(review.getId())).thenReturn(Optional.of(review));
+        when(alarmRepository.findByTargetUserIdAndConfirmedIsFalseAndDeletedDatetimeIsNull(user.getId(), pageable)).thenReturn(alarmPage);
+        when(reviewRepository.findAllWithBookByIdIn(Set.of(review.getId()))).thenReturn(List.of(review));
 
 
-        Page<AlarmResponse> responses = alarmService.getNewAlarms(pageable, user.getEmail());
+        Page<AlarmResponse> responses = alarmService.getNewAlarms(pageable, user.getId());
 
         assertThat(responses.getTotalElements()).isEqualTo(2);
     }
@@ -99,22 +123,30 @@ class AlarmServiceTest {
     @Test
     @DisplayName("알람 확인")
     void doConfirm() {
-        when(userRepository.findByEmail(targetUser.getEmail())).thenReturn(Optional.of(targetUser));
         when(alarmRepository.findById(alarm1.getId())).thenReturn(Optional.of(alarm1));
 
         alarm2.isConfirmed();
-        assertThat(alarmService.doConfirm(targetUser.getEmail(), alarm1.getId())).isEqualTo("알림이 읽음 처리되었습니다.");
+        assertThat(alarmService.doConfirm(targetUser.getId(), alarm1.getId())).isEqualTo("알림이 읽음 처리되었습니다.");
+        verify(unreadCounter).add(List.of(2L), -1);
+    }
+
+    @Test
+    @DisplayName("모든 알림 읽음 처리는 한 번의 update 로 처리하고 읽지 않은 알림 수 초기화")
+    void confirmAll() {
+        assertThat(alarmService.confirmAll(2L)).isEqualTo("모든 알림이 읽음 처리되었습니다.");
+
+        verify(alarmRepository).confirmAllByTargetUserId(eq(2L), any());
+        verify(unreadCounter).reset(2L);
     }
 
     @Test
     @DisplayName("알람 확인 실패 - 이미 확인된 알림")
     void doConfirm_fail() {
 
-        when(userRepository.findByEmail(targetUser.getEmail())).thenReturn(Optional.of(targetUser));
         when(alarmRepository.findById(alarm2.getId())).thenReturn(Optional.of(alarm2));
 
         DuplicateConfirmedException exception = Assertions.assertThrows(DuplicateConfirmedException.class, () -> {
-            alarmService.doConfirm(targetUser.getEmail(), alarm2.getId());
+            alarmService.doConfirm(targetUser.getId(), alarm2.getId());
         });
 
         assertEquals(ErrorCode.DUPLICATED_CONFIRMED, exception.getErrorCode());
@@ -124,13 +156,36 @@ class AlarmServiceTest {
     @DisplayName("알람 확인 실패 - 권한 없음")
     void doConfirm_fail2() {
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(alarmRepository.findById(alarm1.getId())).thenReturn(Optional.of(alarm1));
 
         InvalidPermissionException exception = Assertions.assertThrows(InvalidPermissionException.class, () -> {
-            alarmService.doConfirm(user.getEmail(), alarm1.getId());
+            alarmService.doConfirm(user.getId(), alarm1.getId());
         });
 
         assertEquals(ErrorCode.INVALID_PERMISSION, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("연결 중인 수신자에게만 알림 전송")
+    void push() {
+        when(alarmEmitters.isConnected(2L)).thenReturn(true);
+        when(alarmEmitters.isConnected(3L)).thenReturn(false);
+        when(alarmRepository.findAllWithFromUserByEventKeyIn(List.of("5:2"))).thenReturn(List.of(alarm1));
+
+        alarmService.push(5L, Map.of(2L, true, 3L, false));
+
+        verify(unreadCounter).add(List.of(2L), 1);
+        verify(alarmEmitters).send(eq(2L), any(AlarmResponse.class));
+        verify(alarmEmitters, never()).send(eq(3L), any(AlarmResponse.class));
+    }
+
+    @Test
+    @DisplayName("재연결 시 마지막으로 받은 알림 이후의 알림을 다시 전송")
+    void subscribe_replay() {
+        when(alarmRepository.findMissed(eq(2L), eq(0L), any(Pageable.class))).thenReturn(List.of(alarm1));
+
+        alarmService.subscribe(targetUser.getId(), 0L);
+
+        verify(alarmEmitters).subscribe(eq(2L), argThat(missed -> missed.size() == 1 && missed.get(0).getId() == 1L));
+    }
+}
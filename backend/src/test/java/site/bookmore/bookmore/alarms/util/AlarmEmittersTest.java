@@ -0,0 +1,37 @@
+package site.bookmore.bookmore.alarms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.bookmore.bookmore.common.exception.service_unavailable.TooManyConnectionsException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AlarmEmittersTest {
+
+    @Test
+    @DisplayName("서버당 최대 연결 수를 넘으면 구독 실패")
+    void subscribe_max_connections() {
+        AlarmEmitters alarmEmitters = new AlarmEmitters(2);
+        alarmEmitters.subscribe(1L, List.of());
+        alarmEmitters.subscribe(2L, List.of());
+
+        assertThrows(TooManyConnectionsException.class, () -> alarmEmitters.subscribe(3L, List.of()));
+        assertThat(alarmEmitters.size()).isEqualTo(2);
+        assertThat(alarmEmitters.isConnected(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자당 연결 수를 넘으면 가장 오래된 연결을 닫음")
+    void subscribe_max_per_user() {
+        AlarmEmitters alarmEmitters = new AlarmEmitters(100);
+        for (int i = 0; i < 7; i++) {
+            alarmEmitters.subscribe(1L, List.of());
+        }
+
+        assertThat(alarmEmitters.isConnected(1L)).isTrue();
+        assertThat(alarmEmitters.size()).isEqualTo(5);
+    }
+}
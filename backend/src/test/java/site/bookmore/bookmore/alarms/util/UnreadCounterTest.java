@@ -0,0 +1,43 @@
+package site.bookmore.bookmore.alarms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnreadCounterTest {
+    private final UnreadCounter unreadCounter = new UnreadCounter(4, 100);
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB 에서 읽고 이후에는 캐시된 값을 갱신")
+    void get_and_add() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(unreadCounter.get(1L, userId -> { loads.incrementAndGet(); return 3L; })).isEqualTo(3);
+        unreadCounter.add(List.of(1L, 2L), 1);
+        unreadCounter.add(List.of(1L), -1);
+        unreadCounter.add(List.of(1L), -1);
+
+        assertThat(unreadCounter.get(1L, userId -> { loads.incrementAndGet(); return 0L; })).isEqualTo(2);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(unreadCounter.userIds(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("0 아래로 내려가지 않고, 보정 시 DB 값으로 교체")
+    void reset_and_reconcile() {
+        unreadCounter.get(5L, userId -> 1L);
+        unreadCounter.add(List.of(5L), -3);
+        assertThat(unreadCounter.get(5L, userId -> 9L)).isZero();
+
+        unreadCounter.get(9L, userId -> 4L);
+        unreadCounter.reconcile(List.of(5L, 9L), Map.of(5L, 7L));
+
+        assertThat(unreadCounter.get(5L, userId -> 0L)).isEqualTo(7);
+        assertThat(unreadCounter.get(9L, userId -> 0L)).isZero();
+    }
+}
@@ -35,7 +35,8 @@ class BookServiceTest {
     private final KakaoBookSearch kakaoBookSearch = Mockito.mock(KakaoBookSearch.class);
     private final KolisBookSearch kolisBookSearch = Mockito.mock(KolisBookSearch.class);
     private final NaverBooksearch naverBooksearch = Mockito.mock(NaverBooksearch.class);
-    private final BookService bookService = new BookService(bookRepository, kakaoBookSearch, kolisBookSearch, naverBooksearch);
+    private final BookStatsService bookStatsService = Mockito.mock(BookStatsService.class);
+    private final BookService bookService = new BookService(bookRepository, bookStatsService, kakaoBookSearch, kolisBookSearch, naverBooksearch);
 
     @Test
     void search() {
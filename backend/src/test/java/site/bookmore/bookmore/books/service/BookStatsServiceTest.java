@@ -0,0 +1,75 @@
+package site.bookmore.bookmore.books.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import site.bookmore.bookmore.books.dto.BookStatsResponse;
+import site.bookmore.bookmore.books.entity.BookStats;
+import site.bookmore.bookmore.books.repository.BookStatsRepository;
+import site.bookmore.bookmore.reviews.entity.Chart;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BookStatsServiceTest {
+    private final BookStatsRepository bookStatsRepository = Mockito.mock(BookStatsRepository.class);
+    private final BookStatsService bookStatsService = new BookStatsService(bookStatsRepository);
+
+    private final Chart chart = Chart.builder()
+            .professionalism(1).fun(2).readability(3).collectible(4).difficulty(5)
+            .build();
+
+    @Test
+    @DisplayName("리뷰 등록 시 합과 제곱합 증가")
+    void add() {
+        bookStatsService.add("10001", chart);
+
+        verify(bookStatsRepository).upsert("10001", 1, 1, 1, 2, 4, 3, 9, 4, 16, 5, 25);
+    }
+
+    @Test
+    @DisplayName("리뷰 수정 시 이전 점수 차감 후 새로운 점수 반영")
+    void replace() {
+        Chart after = Chart.builder()
+                .professionalism(5).fun(5).readability(5).collectible(5).difficulty(5)
+                .build();
+
+        bookStatsService.replace("10001", chart, after);
+
+        verify(bookStatsRepository).upsert("10001", -1, -1, -1, -2, -4, -3, -9, -4, -16, -5, -25);
+        verify(bookStatsRepository).upsert("10001", 1, 5, 25, 5, 25, 5, 25, 5, 25, 5, 25);
+    }
+
+    @Test
+    @DisplayName("점수가 비어있는 차트는 집계하지 않음")
+    void add_incomplete_chart() {
+        bookStatsService.add("10001", Chart.builder().fun(3).build());
+
+        verify(bookStatsRepository, never()).upsert(anyString(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("평균과 표준편차 계산")
+    void find() {
+        BookStats stats = BookStats.builder()
+                .id("10001")
+                .reviewCount(2)
+                .professionalismSum(6).professionalismSquareSum(20) // 2, 4
+                .build();
+        given(bookStatsRepository.findById("10001")).willReturn(Optional.of(stats));
+
+        BookStatsResponse response = bookStatsService.find("10001");
+
+        assertThat(response.getReviewCount()).isEqualTo(2);
+        assertThat(response.getProfessionalism().getAverage()).isEqualTo(3.0);
+        assertThat(response.getProfessionalism().getStandardDeviation()).isCloseTo(1.0, within(1e-9));
+    }
+}
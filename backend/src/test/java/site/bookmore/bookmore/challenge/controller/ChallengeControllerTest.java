@@ -27,7 +27,6 @@ import site.bookmore.bookmore.common.exception.unauthorized.InvalidPasswordExcep
 import java.time.LocalDate;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,7 +54,7 @@ class ChallengeControllerTest {
     @WithMockUser
     public void notNullTest() throws Exception {
         ChallengeRequest challengeRequest = new ChallengeRequest("", "description", LocalDate.of(2023, 10, 11), 0);
-        when(challengeService.add(anyString(), any(ChallengeRequest.class))).thenReturn(new ChallengeResponse("message", 1L));
+        when(challengeService.add(any(), any(ChallengeRequest.class))).thenReturn(new ChallengeResponse("message", 1L));
 
         mockMvc.perform(post("/api/v1/challenges")
                 .with(csrf())
@@ -77,7 +76,7 @@ class ChallengeControllerTest {
                 .progress(0)
                 .deadline(LocalDate.of(2023, 5, 30))
                 .build();
-        when(challengeService.add(anyString(), any(ChallengeRequest.class))).thenReturn(new ChallengeResponse("message", 1L));
+        when(challengeService.add(any(), any(ChallengeRequest.class))).thenReturn(new ChallengeResponse("message", 1L));
 
         mockMvc.perform(post("/api/v1/challenges")
                 .with(csrf())
@@ -91,7 +90,7 @@ class ChallengeControllerTest {
     @WithAnonymousUser
     public void Test2() throws Exception {
         ChallengeRequest challengeRequest = ChallengeRequest.builder().title("title").description("description").build();
-        when(challengeService.add(anyString(), any(ChallengeRequest.class))).thenThrow(new InvalidPermissionException());
+        when(challengeService.add(any(), any(ChallengeRequest.class))).thenThrow(new InvalidPermissionException());
 
         mockMvc.perform(post("/api/v1/challenges")
                 .with(csrf())
@@ -290,7 +289,7 @@ class ChallengeControllerTest {
                 .deadline("2222-01-01")
                 .build();
 
-        given(challengeService.get(any(), any())).willReturn(challengeDetailResponse);
+        given(challengeService.get(any())).willReturn(challengeDetailResponse);
 
         mockMvc.perform(get("/api/v1/challenges/3")
                         .with(csrf())
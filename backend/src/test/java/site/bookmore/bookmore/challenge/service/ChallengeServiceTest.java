@@ -18,17 +18,19 @@ import site.bookmore.bookmore.common.exception.ErrorCode;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
 import site.bookmore.bookmore.users.entity.User;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.UserCache;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ChallengeServiceTest {
@@ -37,6 +39,7 @@ class ChallengeServiceTest {
 
     ChallengeRepository challengeRepository = mock(ChallengeRepository.class);
     UserRepository userRepository = mock(UserRepository.class);
+    UserCache userCache = mock(UserCache.class);
 
     @InjectMocks
     Pageable pageable = PageRequest.of(0, 20);
@@ -62,7 +65,7 @@ class ChallengeServiceTest {
 
     @BeforeEach
     void setUp() {
-        challengeService = new ChallengeService(challengeRepository, userRepository);
+        challengeService = new ChallengeService(challengeRepository, userRepository, userCache);
     }
 
 
@@ -77,28 +80,25 @@ class ChallengeServiceTest {
         Challenge mockChallenge = mock(Challenge.class);
         User mockUser = mock(User.class);
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(anyString()))
-                .thenReturn(of(mockUser));
+        when(userRepository.getReferenceById(anyLong()))
+                .thenReturn(mockUser);
 
         when(challengeRepository.save(any()))
                 .thenReturn(mockChallenge);
 
-        Assertions.assertDoesNotThrow(() -> challengeService.add("userName", challengeRequest));
+        Assertions.assertDoesNotThrow(() -> challengeService.add(1L, challengeRequest));
     }
 
     @Test
-    @DisplayName("challenge 등록 실패 (존재하는 회원이 없는 경우)")
-    void challengeWriteError() {
-        ChallengeRequest challengeRequest = ChallengeRequest.builder()
-                .title("title")
-                .description("description")
-                .deadline(LocalDate.of(2023, 01, 20))
-                .build();
-        //db에서 회원이 없다면 UserNotFoundException
-        when(userRepository.findByEmail(anyString()))
-                .thenReturn(Optional.empty());
+    @DisplayName("challenge 수정 실패 (작성자가 아닌 사용자가 탈퇴한 경우)")
+    void challengeModifyError() {
+        //캐시와 db에서 회원이 없다면 UserNotFoundException
+        when(challengeRepository.findById(challenge.getId()))
+                .thenReturn(of(challenge));
+        when(userCache.get(3L))
+                .thenThrow(new UserNotFoundException());
 
-        UserNotFoundException userNotFoundException = Assertions.assertThrows(UserNotFoundException.class, () -> challengeService.add("test@test.com", challengeRequest));
+        UserNotFoundException userNotFoundException = Assertions.assertThrows(UserNotFoundException.class, () -> challengeService.modify(3L, challenge.getId(), challengeRequest));
 
         assertThat(userNotFoundException.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(userNotFoundException.getErrorCode().getMessage());
@@ -109,15 +109,14 @@ class ChallengeServiceTest {
     @DisplayName("challenge 수정 성공")
     void challenge_modifySuccess() {
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(mockUser.getEmail()))
-                .thenReturn(of(mockUser));
-
         when(challengeRepository.findById(challenge.getId()))
                 .thenReturn(of(challenge));
 
         challenge.update(challengeRequest.toEntity());
 
-        Assertions.assertDoesNotThrow(() -> challengeService.modify(mockUser.getEmail(), challenge.getId(), challengeRequest));
+        Assertions.assertDoesNotThrow(() -> challengeService.modify(mockUser.getId(), challenge.getId(), challengeRequest));
+        // 작성자 본인이면 사용자 정보를 읽지 않는다.
+        verify(userCache, never()).get(anyLong());
     }
 
     @Test
@@ -137,15 +136,15 @@ class ChallengeServiceTest {
                 .deadline(LocalDate.of(2023, 01, 20))
                 .build();
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(mockUser.getEmail()))
-                .thenReturn(of(mockUser));
+        when(userCache.get(mockUser.getId()))
+                .thenReturn(mockUser);
         when(challengeRepository.findById(challenge.getId()))
                 .thenReturn(of(challenge));
         when(challengeRepository.findById(challenge2.getId()))
                 .thenReturn(of(challenge2));
 
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            challengeService.modify(mockUser.getEmail(), challenge2.getId(), challengeRequest);
+            challengeService.modify(mockUser.getId(), challenge2.getId(), challengeRequest);
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
@@ -154,12 +153,10 @@ class ChallengeServiceTest {
     @Test
     @DisplayName("challenge 삭제 성공")
     void challenge_deleteSuccess() {
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(mockUser.getEmail()))
-                .thenReturn(of(mockUser));
         when(challengeRepository.findById(challenge.getId()))
                 .thenReturn(of(challenge));
 
-        Assertions.assertDoesNotThrow(() -> challengeService.delete(mockUser.getEmail(), challenge.getId()));
+        Assertions.assertDoesNotThrow(() -> challengeService.delete(mockUser.getId(), challenge.getId()));
     }
 
     @Test
@@ -179,8 +176,8 @@ class ChallengeServiceTest {
                 .deadline(LocalDate.of(2023, 01, 20))
                 .build();
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(mockUser.getEmail()))
-                .thenReturn(of(mockUser));
+        when(userCache.get(mockUser.getId()))
+                .thenReturn(mockUser);
 
         when(challengeRepository.findById(challenge.getId()))
                 .thenReturn(of(challenge));
@@ -188,7 +185,7 @@ class ChallengeServiceTest {
                 .thenReturn(of(challenge2));
 
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            challengeService.delete(mockUser.getEmail(), challenge2.getId());
+            challengeService.delete(mockUser.getId(), challenge2.getId());
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
@@ -206,12 +203,10 @@ class ChallengeServiceTest {
                 .deadline(LocalDate.of(2023, 01, 20))
                 .build();
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(mockUser.getEmail()))
-                .thenReturn(of(mockUser));
         when(challengeRepository.findById(challenge2.getId()))
                 .thenReturn(of(challenge2));
 
-        ChallengeDetailResponse cdr = challengeService.get(mockUser.getEmail(), challenge2.getId());
+        ChallengeDetailResponse cdr = challengeService.get(challenge2.getId());
 
         assertThat(cdr.getId()).isEqualTo(1L);
     }
@@ -239,12 +234,12 @@ class ChallengeServiceTest {
 
         Page<Challenge> challenges = new PageImpl<>(List.of(challenge2, challenge3));
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(mockUser.getEmail()))
-                .thenReturn(of(mockUser));
+        when(userRepository.getReferenceById(mockUser.getId()))
+                .thenReturn(mockUser);
         when(challengeRepository.findByOwner(pageable, mockUser))
                 .thenReturn(challenges);
 
-        Page<ChallengeDetailResponse> responses = challengeService.list(pageable, mockUser.getEmail());
+        Page<ChallengeDetailResponse> responses = challengeService.list(pageable, mockUser.getId());
 
         assertThat(responses.getTotalElements()).isEqualTo(2);
 
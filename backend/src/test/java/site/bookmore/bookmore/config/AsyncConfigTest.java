@@ -0,0 +1,96 @@
+package site.bookmore.bookmore.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncConfigTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncConfig asyncConfig = new AsyncConfig(meterRegistry);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 발행한 스레드에서 직접 실행")
+    void caller_runs_when_queue_full() throws InterruptedException {
+        ReflectionTestUtils.setField(asyncConfig, "shutdownAwaitSeconds", 5);
+        executor = asyncConfig.alarmExecutor(1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        executor.execute(() -> await(release)); // 작업 중
+        executor.execute(() -> { });            // 큐 대기
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+        release.countDown();
+
+        assertThat(ranOn.get()).isEqualTo(Thread.currentThread());
+        assertThat(meterRegistry.get("async.task.caller-runs").tag("executor", "alarm").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("랭킹 전송 executor 는 큐가 가득 차면 직접 실행하지 않고 거절")
+    void leaderboard_rejects_when_queue_full() {
+        ReflectionTestUtils.setField(asyncConfig, "shutdownAwaitSeconds", 5);
+        executor = asyncConfig.leaderboardExecutor(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.execute(() -> await(release)); // 작업 중
+        executor.execute(() -> { });            // 큐 대기
+
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        release.countDown();
+        assertThat(meterRegistry.get("async.task.rejected").tag("executor", "leaderboard").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 작업을 모두 처리하고 대기 시간과 실행 시간 기록")
+    void drain_on_shutdown() {
+        ReflectionTestUtils.setField(asyncConfig, "shutdownAwaitSeconds", 5);
+        executor = asyncConfig.alarmListExecutor(1, 1, 10);
+        AtomicInteger done = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                sleep(20);
+                done.incrementAndGet();
+            });
+        }
+        asyncConfig.drain();
+
+        assertThat(done.get()).isEqualTo(5);
+        assertThat(meterRegistry.get("async.task.execution").tag("executor", "alarm-list").timer().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("async.task.wait").tag("executor", "alarm-list").timer().count()).isEqualTo(5);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package site.bookmore.bookmore.feed.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import site.bookmore.bookmore.books.entity.Book;
+import site.bookmore.bookmore.feed.dto.FeedResponse;
+import site.bookmore.bookmore.feed.util.FeedInbox;
+import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
+import site.bookmore.bookmore.reviews.entity.Chart;
+import site.bookmore.bookmore.reviews.entity.Review;
+import site.bookmore.bookmore.reviews.repository.ReviewRepository;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.FollowGraph;
+import site.bookmore.bookmore.users.vo.FollowingVo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class FeedServiceTest {
+    private final FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+    private final ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+    private final FeedInbox feedInbox = new FeedInbox(200, 100);
+    private final FeedService feedService = new FeedService(followRepository, reviewRepository, userRepository, feedInbox, new FollowGraph(1000, 1000));
+
+    private final User reader = User.builder().id(1L).email("reader").build();
+    private final User author = User.builder().id(2L).email("author").build();
+    private final User celebrity = User.builder().id(3L).email("celebrity").build();
+    private final Book book = Book.builder().id("isbn").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedService, "celebrityThreshold", 10_000);
+        given(followRepository.findFollowingsOf(1L)).willReturn(List.of(following(2L, 10), following(3L, 20_000)));
+    }
+
+    @Test
+    @DisplayName("수신함의 리뷰와 팔로워가 많은 작성자의 리뷰를 최신순으로 병합")
+    void read_merge() {
+        given(reviewRepository.findFeedIds(List.of(2L), Long.MAX_VALUE, PageRequest.of(0, 200))).willReturn(List.of(9L, 5L));
+        given(reviewRepository.findFeedIds(List.of(3L), Long.MAX_VALUE, PageRequest.of(0, 2))).willReturn(List.of(8L, 7L));
+        given(reviewRepository.findAllWithDetailsByIdIn(List.of(9L, 8L))).willReturn(List.of(review(9L, author), review(8L, celebrity)));
+
+        FeedResponse response = feedService.read(reader.getId(), null, 2);
+
+        assertThat(response.getReviews().stream().map(ReviewPageResponse::getId).collect(Collectors.toList())).containsExactly(9L, 8L);
+        assertThat(response.getNextCursor()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("작성 시 팔로워가 적은 작성자의 리뷰만 수신함에 추가")
+    void fan_out() {
+        feedInbox.fill(1L, List.of());
+        given(userRepository.findFollowerCountById(2L)).willReturn(Optional.of(10));
+        given(userRepository.findFollowerCountById(3L)).willReturn(Optional.of(20_000));
+
+        feedService.fanOut(2L, List.of(1L), 11L);
+        feedService.fanOut(3L, List.of(1L), 12L);
+
+        assertThat(feedInbox.read(1L, null, 10).get().getIds()).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("작성 시 수신함에 넣지 않은 작성자는 팔로워 수가 줄어도 DB 에서 읽어 병합")
+    void read_pull_author_after_follower_drop() {
+        given(userRepository.findFollowerCountById(3L)).willReturn(Optional.of(20_000));
+        feedService.fanOut(3L, List.of(1L), 12L);
+        given(followRepository.findFollowingsOf(1L)).willReturn(List.of(following(2L, 10), following(3L, 9_999)));
+        given(reviewRepository.findFeedIds(List.of(2L), Long.MAX_VALUE, PageRequest.of(0, 200))).willReturn(List.of(9L));
+        given(reviewRepository.findFeedIds(List.of(3L), Long.MAX_VALUE, PageRequest.of(0, 2))).willReturn(List.of(12L));
+        given(reviewRepository.findAllWithDetailsByIdIn(List.of(12L, 9L))).willReturn(List.of(review(12L, celebrity), review(9L, author)));
+
+        FeedResponse response = feedService.read(reader.getId(), null, 2);
+
+        assertThat(response.getReviews().stream().map(ReviewPageResponse::getId).collect(Collectors.toList())).containsExactly(12L, 9L);
+    }
+
+    @Test
+    @DisplayName("팔로잉이 없으면 리뷰를 조회하지 않음")
+    void read_without_following() {
+        given(followRepository.findFollowingsOf(1L)).willReturn(List.of());
+
+        FeedResponse response = feedService.read(reader.getId(), null, 10);
+
+        assertThat(response.getReviews()).isEmpty();
+        assertThat(response.getNextCursor()).isNull();
+        verify(reviewRepository, never()).findAllWithDetailsByIdIn(anyList());
+    }
+
+    private Review review(Long id, User author) {
+        Review review = Review.builder()
+                .id(id)
+                .author(author)
+                .book(book)
+                .spoiler(false)
+                .chart(Chart.builder().professionalism(1).fun(1).readability(1).collectible(1).difficulty(1).build())
+                .build();
+        ReflectionTestUtils.setField(review, "createdDatetime", LocalDateTime.now());
+        return review;
+    }
+
+    private static FollowingVo following(Long id, int followerCount) {
+        return new FollowingVo() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getFollowerCount() {
+                return followerCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package site.bookmore.bookmore.feed.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedInboxTest {
+
+    @Test
+    @DisplayName("최신순 조회와 cursor 페이징")
+    void read_with_cursor() {
+        FeedInbox feedInbox = new FeedInbox(5, 10);
+        feedInbox.fill(1L, List.of(30L, 20L, 10L));
+        feedInbox.push(List.of(1L), 25L);
+
+        assertThat(feedInbox.read(1L, null, 2).get().getIds()).containsExactly(30L, 25L);
+        assertThat(feedInbox.read(1L, 25L, 10).get().getIds()).containsExactly(20L, 10L);
+        assertThat(feedInbox.read(1L, 25L, 10).get().isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 에서 수신함을 만드는 동안 도착한 리뷰도 합쳐서 보관")
+    void fill_merges_pushed_while_loading() {
+        FeedInbox feedInbox = new FeedInbox(5, 10);
+        feedInbox.open(1L);
+        feedInbox.push(List.of(1L), 50L);
+        assertThat(feedInbox.read(1L, null, 10)).isEmpty();
+
+        feedInbox.fill(1L, List.of(30L, 20L));
+
+        FeedInbox.Window window = feedInbox.read(1L, null, 10).get();
+        assertThat(window.getIds()).containsExactly(50L, 30L, 20L);
+        assertThat(window.isComplete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("수신함이 가득 차면 가장 오래된 리뷰부터 밀려남")
+    void push_over_capacity() {
+        FeedInbox feedInbox = new FeedInbox(3, 10);
+        feedInbox.fill(1L, List.of(3L, 2L, 1L));
+        feedInbox.push(List.of(1L), 4L);
+
+        FeedInbox.Window window = feedInbox.read(1L, null, 10).get();
+        assertThat(window.getIds()).containsExactly(4L, 3L, 2L);
+        assertThat(window.isComplete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("수신함이 없는 사용자에게는 보관하지 않고, 사용자 수를 넘으면 오래 조회하지 않은 수신함부터 제거")
+    void bounded_users() {
+        FeedInbox feedInbox = new FeedInbox(3, 2);
+        feedInbox.push(List.of(1L), 1L);
+        assertThat(feedInbox.read(1L, null, 10)).isEmpty();
+
+        feedInbox.fill(1L, List.of());
+        feedInbox.fill(2L, List.of());
+        feedInbox.fill(3L, List.of());
+
+        assertThat(feedInbox.read(1L, null, 10)).isEmpty();
+        assertThat(feedInbox.read(3L, null, 10)).isPresent();
+    }
+
+    @Test
+    @DisplayName("팔로워 분포가 치우친 그래프에서도 수신함이 최근 리뷰와 일치")
+    void skewed_follower_graph() {
+        int users = 2_000;
+        int capacity = 50;
+        Random random = new Random(42);
+        FeedInbox feedInbox = new FeedInbox(capacity, users);
+
+        // 작성자 i 가 팔로우될 확률은 1 / (i + 1) 에 비례 (Zipf)
+        double[] weights = new double[users];
+        double total = 0;
+        for (int i = 0; i < users; i++) {
+            total += 1.0 / (i + 1);
+            weights[i] = total;
+        }
+
+        Map<Long, Set<Long>> followers = new HashMap<>();
+        Map<Long, Set<Long>> followings = new HashMap<>();
+        for (long user = 0; user < users; user++) {
+            for (int i = 0; i < 20; i++) {
+                long author = pick(weights, total, random);
+                if (author == user) continue;
+                followers.computeIfAbsent(author, k -> new HashSet<>()).add(user);
+                followings.computeIfAbsent(user, k -> new HashSet<>()).add(author);
+            }
+        }
+
+        List<Long> readers = List.of(0L, 1L, 500L, 1_999L);
+        readers.forEach(reader -> feedInbox.fill(reader, List.of()));
+
+        Map<Long, Long> authorOf = new HashMap<>();
+        for (long reviewId = 1; reviewId <= 20_000; reviewId++) {
+            long author = random.nextInt(users);
+            authorOf.put(reviewId, author);
+            feedInbox.push(followers.getOrDefault(author, Collections.emptySet()), reviewId);
+        }
+
+        int largest = followers.values().stream().mapToInt(Set::size).max().orElse(0);
+        assertThat(largest).isGreaterThan(users / 10);
+
+        for (Long reader : readers) {
+            Set<Long> following = followings.getOrDefault(reader, Collections.emptySet());
+            List<Long> expected = authorOf.entrySet().stream()
+                    .filter(e -> following.contains(e.getValue()))
+                    .map(Map.Entry::getKey)
+                    .sorted(Comparator.reverseOrder())
+                    .limit(capacity)
+                    .collect(Collectors.toList());
+
+            assertThat(feedInbox.read(reader, null, capacity + 10).get().getIds()).isEqualTo(expected);
+        }
+    }
+
+    private static long pick(double[] weights, double total, Random random) {
+        int index = Arrays.binarySearch(weights, random.nextDouble() * total);
+        return Math.min(weights.length - 1, index >= 0 ? index : -index - 1);
+    }
+}
@@ -0,0 +1,156 @@
+package site.bookmore.bookmore.outbox.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+import site.bookmore.bookmore.alarms.repository.AlarmBatchRepository;
+import site.bookmore.bookmore.feed.service.FeedService;
+import site.bookmore.bookmore.observer.event.alarm.AlarmPush;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+import site.bookmore.bookmore.outbox.entity.OutboxStatus;
+import site.bookmore.bookmore.outbox.entity.OutboxType;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class OutboxRelayTest {
+    private final OutboxRepository outboxRepository = Mockito.mock(OutboxRepository.class);
+    private final FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+    private final AlarmBatchRepository alarmBatchRepository = Mockito.mock(AlarmBatchRepository.class);
+    private final FeedService feedService = Mockito.mock(FeedService.class);
+    private final ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxRelay outboxRelay = new OutboxRelay(outboxRepository, followRepository, alarmBatchRepository, feedService,
+            publisher, transactionTemplate, meterRegistry, new SyncTaskExecutor(), new SyncTaskExecutor());
+
+    private final Outbox outbox = Outbox.builder()
+            .id(1L)
+            .type(OutboxType.NEW_FOLLOW_REVIEW)
+            .sourceId(10L)
+            .fromUserId(100L)
+            .lastTargetId(0L)
+            .status(OutboxStatus.PENDING)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "chunkSize", 2);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 20);
+        given(outboxRepository.findPendingForUpdate(any(), eq(20))).willReturn(List.of(outbox));
+        given(outboxRepository.findById(1L)).willReturn(Optional.of(outbox));
+        given(outboxRepository.lease(anyLong(), any(), any())).willReturn(1);
+    }
+
+    @Test
+    @DisplayName("팔로워를 chunk 단위로 나누어 알림 저장 후 완료 처리")
+    void relay_in_chunks() {
+        given(followRepository.findFollowerIdsAfter(eq(100L), eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(followRepository.findFollowerIdsAfter(eq(100L), eq(2L), any(Pageable.class))).willReturn(List.of(3L));
+        given(alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, 100L, 10L, List.of(1L, 2L))).willReturn(Map.of(1L, true, 2L, true));
+        given(alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, 100L, 10L, List.of(3L))).willReturn(Map.of(3L, true));
+
+        outboxRelay.relay();
+
+        verify(alarmBatchRepository).insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, 100L, 10L, List.of(1L, 2L));
+        verify(alarmBatchRepository).insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, 100L, 10L, List.of(3L));
+        verify(feedService).fanOut(100L, List.of(3L), 10L);
+        verify(publisher, times(2)).publishEvent(any(AlarmPush.class));
+        assertThat(outbox.getLastTargetId()).isEqualTo(3L);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DONE);
+        assertThat(meterRegistry.get("outbox.dispatched").tag("type", "NEW_FOLLOW_REVIEW").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("단건 알림은 수신자에게 한 번에 저장")
+    void relay_single_alarm() {
+        Outbox like = Outbox.builder()
+                .id(2L)
+                .type(OutboxType.NEW_LIKE_ON_REVIEW)
+                .sourceId(10L)
+                .fromUserId(100L)
+                .targetUserId(200L)
+                .lastTargetId(0L)
+                .status(OutboxStatus.PENDING)
+                .build();
+        given(outboxRepository.findPendingForUpdate(any(), eq(20))).willReturn(List.of(like));
+        given(outboxRepository.findById(2L)).willReturn(Optional.of(like));
+
+        outboxRelay.relay();
+
+        verify(alarmBatchRepository).insertAll(2L, AlarmType.NEW_LIKE_ON_REVIEW, 100L, 10L, List.of(200L));
+        verify(followRepository, never()).findFollowerIdsAfter(anyLong(), anyLong(), any(Pageable.class));
+        assertThat(like.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("다시 전달되어 저장된 알림이 없으면 전송하지 않음")
+    void relay_redelivered() {
+        given(followRepository.findFollowerIdsAfter(eq(100L), eq(0L), any(Pageable.class))).willReturn(List.of(1L));
+        given(alarmBatchRepository.insertAll(1L, AlarmType.NEW_FOLLOW_REVIEW, 100L, 10L, List.of(1L))).willReturn(Map.of());
+
+        outboxRelay.relay();
+
+        verify(publisher, never()).publishEvent(any(AlarmPush.class));
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("executor 에서 기다리는 동안 임대가 만료되어 다시 가져간 이벤트는 처리하지 않음")
+    void relay_lease_lost() {
+        given(outboxRepository.lease(anyLong(), any(), any())).willReturn(0);
+
+        outboxRelay.relay();
+
+        verify(followRepository, never()).findFollowerIdsAfter(anyLong(), anyLong(), any(Pageable.class));
+        verify(alarmBatchRepository, never()).insertAll(any(), any(), any(), any(), any());
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 잠근 이벤트는 가져오지 않음")
+    void relay_locked_by_other() {
+        given(outboxRepository.findPendingForUpdate(any(), anyInt())).willReturn(List.of());
+
+        outboxRelay.relay();
+
+        verify(followRepository, never()).findFollowerIdsAfter(anyLong(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("처리 중 실패하면 커서를 유지한 채 재시도 대기")
+    void relay_fail() {
+        given(followRepository.findFollowerIdsAfter(eq(100L), eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(followRepository.findFollowerIdsAfter(eq(100L), eq(2L), any(Pageable.class))).willThrow(new RuntimeException("db error"));
+
+        outboxRelay.relay();
+
+        assertThat(outbox.getLastTargetId()).isEqualTo(2L);
+        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getLastError()).isEqualTo("db error");
+        assertThat(meterRegistry.get("outbox.failed").tag("type", "NEW_FOLLOW_REVIEW").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,58 @@
+package site.bookmore.bookmore.outbox.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class OutboxRetentionJobTest {
+    private final OutboxRepository outboxRepository = Mockito.mock(OutboxRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+    private final OutboxRetentionJob outboxRetentionJob = new OutboxRetentionJob(outboxRepository, transactionTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRetentionJob, "retentionDays", 7);
+        ReflectionTestUtils.setField(outboxRetentionJob, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 이벤트를 chunk 단위로 남지 않을 때까지 삭제")
+    void purge_in_chunks() {
+        given(outboxRepository.findExpiredIds(any(), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+
+        outboxRetentionJob.purge();
+
+        verify(outboxRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(outboxRepository).deleteAllByIdIn(List.of(3L));
+        verify(outboxRepository, times(2)).findExpiredIds(Mockito.argThat(cutoff ->
+                cutoff.isBefore(LocalDateTime.now().minusDays(6))), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("삭제할 이벤트가 없으면 삭제하지 않음")
+    void purge_nothing() {
+        given(outboxRepository.findExpiredIds(any(), any(Pageable.class))).willReturn(List.of());
+
+        outboxRetentionJob.purge();
+
+        verify(outboxRepository, never()).deleteAllByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,63 @@
+package site.bookmore.bookmore.recommend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import site.bookmore.bookmore.recommend.dto.RecommendResponse;
+import site.bookmore.bookmore.recommend.entity.RecommendType;
+import site.bookmore.bookmore.recommend.entity.Recommendation;
+import site.bookmore.bookmore.recommend.repository.RecommendationRepository;
+import site.bookmore.bookmore.recommend.util.RecommendationCodec;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+class RecommendServiceTest {
+    private final RecommendationRepository recommendationRepository = Mockito.mock(RecommendationRepository.class);
+    private final FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+    private final RecommendService recommendService = new RecommendService(recommendationRepository, followRepository, userRepository);
+
+    @Test
+    @DisplayName("저장된 추천 순서대로 조회하고 이미 팔로우했거나 탈퇴한 사용자는 제외")
+    void find() {
+        User deleted = user(4L);
+        deleted.delete();
+        Recommendation recommendation = Recommendation.builder()
+                .userId(1L)
+                .recommendType(RecommendType.PEOPLE)
+                .data(RecommendationCodec.encode(new long[]{2L, 3L, 4L, 5L}, new int[]{9, 5, 3, 1}))
+                .computedDatetime(LocalDateTime.now())
+                .build();
+
+        given(recommendationRepository.findByUserIdAndRecommendType(1L, RecommendType.PEOPLE)).willReturn(Optional.of(recommendation));
+        given(followRepository.findFollowingIds(1L)).willReturn(List.of(3L));
+        given(userRepository.findAllById(List.of(2L, 4L, 5L))).willReturn(List.of(user(5L), deleted, user(2L)));
+
+        List<RecommendResponse> responses = recommendService.find(1L, RecommendType.PEOPLE, 10);
+
+        assertThat(responses).extracting(RecommendResponse::getUserId).containsExactly(2L, 5L);
+        assertThat(responses).extracting(RecommendResponse::getScore).containsExactly(9, 1);
+    }
+
+    @Test
+    @DisplayName("계산된 추천이 없으면 빈 목록")
+    void find_empty() {
+        given(recommendationRepository.findByUserIdAndRecommendType(1L, RecommendType.READERS)).willReturn(Optional.empty());
+
+        assertThat(recommendService.find(1L, RecommendType.READERS, 10)).isEmpty();
+    }
+
+    private User user(Long id) {
+        return User.builder().id(id).email(id + "@test.com").nickname("user" + id).password("password")
+                .birth(LocalDate.of(2000, 1, 1)).build();
+    }
+}
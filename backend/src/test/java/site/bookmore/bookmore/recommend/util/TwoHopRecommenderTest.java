@@ -0,0 +1,76 @@
+package site.bookmore.bookmore.recommend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoHopRecommenderTest {
+
+    // 0 → 1, 2 / 1 → 3, 4 / 2 → 3, 0 / 3 → 4
+    private final Csr follows = csr(5, new int[][]{{0, 1}, {0, 2}, {1, 3}, {1, 4}, {2, 3}, {2, 0}, {3, 4}, {0, 1}});
+
+    @Test
+    @DisplayName("간선을 정렬하고 중복을 제거한 인접 배열")
+    void build_csr() {
+        assertThat(follows.edges()).isEqualTo(7);
+        assertThat(follows.contains(0, 1)).isTrue();
+        assertThat(follows.contains(0, 3)).isFalse();
+
+        Csr followers = follows.transpose(5);
+        assertThat(followers.contains(3, 1)).isTrue();
+        assertThat(followers.contains(3, 2)).isTrue();
+        assertThat(followers.end(0) - followers.start(0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("친구의 친구를 경로 수 순으로 추천하고 이미 팔로우한 사용자와 자신은 제외")
+    void people() {
+        TwoHopRecommender recommender = new TwoHopRecommender(follows, follows, follows, 5, 10, 100);
+
+        TwoHopRecommender.Result result = recommender.recommend(0);
+
+        // 0 → 1 → 3, 0 → 2 → 3, 0 → 1 → 4. 0 → 2 → 0 은 자신
+        assertThat(result.getCandidates()).containsExactly(3, 4);
+        assertThat(result.getScores()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("이웃이 너무 많은 중간 정점은 건너뜀")
+    void skip_hub() {
+        TwoHopRecommender recommender = new TwoHopRecommender(follows, follows, follows, 5, 10, 1);
+
+        // 1, 2 모두 팔로잉이 2명이라 건너뛴다.
+        assertThat(recommender.recommend(0).getCandidates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fork-join 으로 모든 사용자 계산")
+    void run() {
+        Map<Integer, int[]> results = new ConcurrentHashMap<>();
+        TwoHopRecommender recommender = new TwoHopRecommender(follows, follows, follows, 5, 1, 100);
+
+        recommender.run(new ForkJoinPool(2), batch -> batch.forEach(result -> results.put(result.getUser(), result.getCandidates())));
+
+        assertThat(results.get(0)).containsExactly(3);
+        // 2 → 3 → 4, 2 → 0 → 1 동점이면 id 가 작은 쪽
+        assertThat(results.get(2)).containsExactly(1);
+        assertThat(results).containsOnlyKeys(0, 2);
+    }
+
+    private static Csr csr(int nodes, int[][] edges) {
+        Csr.Builder builder = Csr.builder(nodes);
+        for (int[] edge : edges) {
+            builder.count(edge[0]);
+        }
+        builder.allocate();
+        for (int[] edge : edges) {
+            builder.put(edge[0], edge[1]);
+        }
+        return builder.build();
+    }
+}
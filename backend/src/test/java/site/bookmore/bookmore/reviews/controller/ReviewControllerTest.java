@@ -44,7 +44,7 @@ class ReviewControllerTest {
         ReviewRequest reviewRequest = new ReviewRequest("body", false, ChartRequest.builder().build(), null);
 
         // when
-        when(reviewService.create(any(ReviewRequest.class), eq("9791158393083"), anyString()))
+        when(reviewService.create(any(ReviewRequest.class), eq("9791158393083"), any()))
                 .thenReturn(1L);
 
         // then
@@ -57,7 +57,7 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.result.id").value(1))
                 .andExpect(jsonPath("$.result.message").value("리뷰 등록 완료"));
 
-        verify(reviewService).create(any(ReviewRequest.class), eq("9791158393083"), anyString());
+        verify(reviewService).create(any(ReviewRequest.class), eq("9791158393083"), any());
     }
 
     @Test
@@ -114,7 +114,7 @@ class ReviewControllerTest {
         ReviewRequest reviewRequest = new ReviewRequest("body", false, ChartRequest.builder().build(), tags);
 
         // when
-        when(reviewService.create(any(ReviewRequest.class), eq("9791158393083"), anyString()))
+        when(reviewService.create(any(ReviewRequest.class), eq("9791158393083"), any()))
                 .thenReturn(1L);
 
         // then
@@ -127,7 +127,7 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.result.id").value(1))
                 .andExpect(jsonPath("$.result.message").value("리뷰 등록 완료"));
 
-        verify(reviewService).create(any(ReviewRequest.class), eq("9791158393083"), anyString());
+        verify(reviewService).create(any(ReviewRequest.class), eq("9791158393083"), any());
     }
 
     @Test
@@ -139,7 +139,7 @@ class ReviewControllerTest {
         ReviewRequest reviewRequest = new ReviewRequest("body", false, ChartRequest.builder().build(), tags);
 
         // when
-        when(reviewService.create(any(ReviewRequest.class), eq("9791158393083"), anyString()))
+        when(reviewService.create(any(ReviewRequest.class), eq("9791158393083"), any()))
                 .thenReturn(1L);
 
         // then
@@ -151,7 +151,7 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("ERROR"))
                 .andExpect(jsonPath("$.result.message").value("태그는 10자 이하로 입력해주세요."));
 
-        verify(reviewService, never()).create(any(ReviewRequest.class), eq("9791158393083"), anyString());
+        verify(reviewService, never()).create(any(ReviewRequest.class), eq("9791158393083"), any());
     }
 
     /* ========== 도서 리뷰 조회 ========== */
@@ -182,7 +182,7 @@ class ReviewControllerTest {
         ReviewRequest reviewRequest = new ReviewRequest("new body", true, ChartRequest.builder().build(), null);
 
         // when
-        when(reviewService.update(any(ReviewRequest.class), eq(1L), anyString()))
+        when(reviewService.update(any(ReviewRequest.class), eq(1L), any()))
                 .thenReturn(1L);
 
         // then
@@ -195,7 +195,7 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.result.id").value(1))
                 .andExpect(jsonPath("$.result.message").value("리뷰 수정 완료"));
 
-        verify(reviewService).update(any(ReviewRequest.class), eq(1L), anyString());
+        verify(reviewService).update(any(ReviewRequest.class), eq(1L), any());
     }
 
     /* ========== 도서 리뷰 삭제 ========== */
@@ -204,7 +204,7 @@ class ReviewControllerTest {
     @WithMockUser
     void delete_success() throws Exception {
         // when
-        when(reviewService.delete(eq(1L), anyString()))
+        when(reviewService.delete(eq(1L), any()))
                 .thenReturn(1L);
 
         // then
@@ -215,7 +215,7 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.result.id").value(1))
                 .andExpect(jsonPath("$.result.message").value("리뷰 삭제 완료"));
 
-        verify(reviewService).delete(eq(1L), anyString());
+        verify(reviewService).delete(eq(1L), any());
     }
 
     /* ========== 도서 리뷰 좋아요 | 취소 ========== */
@@ -224,7 +224,7 @@ class ReviewControllerTest {
     @WithMockUser
     void doLikes_success() throws Exception {
         // when
-        when(reviewService.doLikes(anyString(), eq(1L)))
+        when(reviewService.doLikes(any(), eq(1L)))
                 .thenReturn(true);
 
         // then
@@ -234,7 +234,7 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
                 .andExpect(jsonPath("$.result").value("좋아요를 눌렀습니다."));
 
-        verify(reviewService).doLikes(anyString(), eq(1L));
+        verify(reviewService).doLikes(any(), eq(1L));
     }
 
     @Test
@@ -242,7 +242,7 @@ class ReviewControllerTest {
     @WithMockUser
     void doLikes_cancel_success() throws Exception {
         // when
-        when(reviewService.doLikes(anyString(), eq(1L)))
+        when(reviewService.doLikes(any(), eq(1L)))
                 .thenReturn(false);
 
         // then
@@ -252,6 +252,6 @@ class ReviewControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("SUCCESS"))
                 .andExpect(jsonPath("$.result").value("좋아요가 취소되었습니다."));
 
-        verify(reviewService).doLikes(anyString(), eq(1L));
+        verify(reviewService).doLikes(any(), eq(1L));
     }
 }
\ No newline at end of file
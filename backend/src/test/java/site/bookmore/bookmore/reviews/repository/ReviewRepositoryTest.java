@@ -0,0 +1,124 @@
+package site.bookmore.bookmore.reviews.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import site.bookmore.bookmore.books.entity.Book;
+import site.bookmore.bookmore.books.repository.BookRepository;
+import site.bookmore.bookmore.books.service.BookStatsService;
+import site.bookmore.bookmore.config.AuditingConfig;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
+import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
+import site.bookmore.bookmore.reviews.entity.Chart;
+import site.bookmore.bookmore.reviews.entity.Review;
+import site.bookmore.bookmore.reviews.entity.ReviewTag;
+import site.bookmore.bookmore.reviews.entity.Tag;
+import site.bookmore.bookmore.reviews.service.ReviewService;
+import site.bookmore.bookmore.reviews.util.HotReviewRanker;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(AuditingConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:review-repository;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewRepositoryTest {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private OutboxRepository outboxRepository;
+    @Autowired
+    private LikesRepository likesRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private ReviewTagRepository reviewTagRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private ReviewService reviewService;
+
+    private Book book;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = new ReviewService(bookRepository, Mockito.mock(BookStatsService.class), outboxRepository, likesRepository,
+                reviewRepository, userRepository, tagRepository, reviewTagRepository,
+                Mockito.mock(HotReviewRanker.class), Mockito.mock(ApplicationEventPublisher.class));
+
+        author = User.builder()
+                .email("author@test.com")
+                .password("password")
+                .nickname("author")
+                .birth(LocalDate.of(2000, 1, 1))
+                .build();
+        entityManager.persist(author);
+
+        book = Book.builder()
+                .id("9791162241998")
+                .title("title")
+                .build();
+        entityManager.persist(book);
+
+        for (int i = 0; i < 20; i++) {
+            Review review = Review.builder()
+                    .author(author)
+                    .book(book)
+                    .body("body" + i)
+                    .spoiler(false)
+                    .chart(Chart.builder().professionalism(1).fun(2).readability(3).collectible(4).difficulty(5).build())
+                    .build();
+            entityManager.persist(review);
+
+            Tag tag = Tag.of("tag" + i);
+            entityManager.persist(tag);
+            entityManager.persist(ReviewTag.of(review, tag));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("도서 리뷰 페이지 조회 시 페이지 크기와 무관하게 쿼리 수가 고정")
+    void read_review_page_without_n_plus_one() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ReviewPageResponse> page = reviewService.read(PageRequest.of(0, 10, Sort.Direction.DESC, "createdDatetime"), book.getId());
+        List<ReviewPageResponse> responses = page.getContent();
+
+        assertThat(responses).hasSize(10);
+        assertThat(responses.get(0).getTags()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        // 도서 조회 + id 페이지 조회 + count 조회 + fetch join 조회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+}
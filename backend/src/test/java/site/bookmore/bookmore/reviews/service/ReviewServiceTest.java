@@ -5,11 +5,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import site.bookmore.bookmore.books.entity.Book;
 import site.bookmore.bookmore.books.repository.BookRepository;
+import site.bookmore.bookmore.books.service.BookStatsService;
 import site.bookmore.bookmore.common.exception.AbstractAppException;
 import site.bookmore.bookmore.common.exception.ErrorCode;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+import site.bookmore.bookmore.observer.event.review.ReviewScoreChange;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
 import site.bookmore.bookmore.reviews.dto.ChartRequest;
+import site.bookmore.bookmore.reviews.dto.ReviewPageResponse;
 import site.bookmore.bookmore.reviews.dto.ReviewRequest;
 import site.bookmore.bookmore.reviews.entity.Likes;
 import site.bookmore.bookmore.reviews.entity.Review;
@@ -19,44 +28,54 @@ import site.bookmore.bookmore.reviews.repository.LikesRepository;
 import site.bookmore.bookmore.reviews.repository.ReviewRepository;
 import site.bookmore.bookmore.reviews.repository.ReviewTagRepository;
 import site.bookmore.bookmore.reviews.repository.TagRepository;
+import site.bookmore.bookmore.reviews.util.HotReviewRanker;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.FollowRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ReviewServiceTest {
 
     private final BookRepository bookRepository = Mockito.mock(BookRepository.class);
-    private final FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+    private final BookStatsService bookStatsService = Mockito.mock(BookStatsService.class);
+    private final OutboxRepository outboxRepository = Mockito.mock(OutboxRepository.class);
     private final LikesRepository likesRepository = Mockito.mock(LikesRepository.class);
     private final ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
     private final UserRepository userRepository = Mockito.mock(UserRepository.class);
     private final TagRepository tagRepository = Mockito.mock(TagRepository.class);
     private final ReviewTagRepository reviewTagRepository = Mockito.mock(ReviewTagRepository.class);
+    private final HotReviewRanker hotReviewRanker = Mockito.mock(HotReviewRanker.class);
     private final ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
     private final ReviewService reviewService = new ReviewService(
                                                                 bookRepository,
-                                                                followRepository,
+                                                                bookStatsService,
+                                                                outboxRepository,
                                                                 likesRepository,
                                                                 reviewRepository,
                                                                 userRepository,
                                                                 tagRepository,
                                                                 reviewTagRepository,
+                                                                hotReviewRanker,
                                                                 publisher);
 
     private final User user = User.builder()
+            .id(1L)
             .email("email")
             .build();
 
     private final User user2 = User.builder()
+            .id(2L)
             .email("email2")
             .build();
 
@@ -69,6 +88,8 @@ class ReviewServiceTest {
             .book(book)
             .build();
 
+    private final Pageable pageable = PageRequest.of(0, 10);
+
     private final Set<String> tags = Set.of("tag1", "tag2");
 
     private final Set<Tag> tagSet = Tag.of(tags);
@@ -85,50 +106,54 @@ class ReviewServiceTest {
     @Test
     @DisplayName("도서 리뷰 등록 성공")
     void create_success() {
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
         when(bookRepository.findById(book.getId()))
                 .thenReturn(Optional.of(book));
         when(reviewRepository.save(any(Review.class)))
                 .thenReturn(review);
 
-        Assertions.assertDoesNotThrow(() -> reviewService.create(new ReviewRequest("body", false, new ChartRequest(), new HashSet<>()), book.getId(), user.getEmail()));
+        Assertions.assertDoesNotThrow(() -> reviewService.create(new ReviewRequest("body", false, new ChartRequest(), new HashSet<>()), book.getId(), user.getId()));
+        verify(outboxRepository).save(any(Outbox.class));
     }
 
     @Test
-    @DisplayName("도서 리뷰 등록 실패 - 유저 정보가 없는 경우")
-    void create_user_not_found() {
-        when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.empty());
+    @DisplayName("도서 리뷰 등록 실패 - 책 정보가 없는 경우")
+    void create_book_not_found() {
+        when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
         when(bookRepository.findById(book.getId()))
-                .thenReturn(Optional.of(book));
+                .thenReturn(Optional.empty());
         when(reviewRepository.save(any(Review.class)))
                 .thenReturn(review);
 
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.create(new ReviewRequest(), book.getId(), user.getEmail()));
-        assertEquals(ErrorCode.USER_NOT_FOUND, abstractAppException.getErrorCode());
+        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.create(new ReviewRequest(), book.getId(), user.getId()));
+        assertEquals(ErrorCode.BOOK_NOT_FOUND, abstractAppException.getErrorCode());
     }
 
+    /* ========== 도서 리뷰 조회 ========== */
     @Test
-    @DisplayName("도서 리뷰 등록 실패 - 책 정보가 없는 경우")
-    void create_book_not_found() {
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+    @DisplayName("도서 리뷰 조회 - id 조회 이후 삭제된 리뷰는 제외")
+    void read_skip_deleted_between_queries() {
         when(bookRepository.findById(book.getId()))
-                .thenReturn(Optional.empty());
-        when(reviewRepository.save(any(Review.class)))
-                .thenReturn(review);
+                .thenReturn(Optional.of(book));
+        when(reviewRepository.findIdsByBook(book, pageable))
+                .thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        when(reviewRepository.findAllWithDetailsByIdIn(List.of(1L)))
+                .thenReturn(List.of());
 
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.create(new ReviewRequest(), book.getId(), user.getEmail()));
-        assertEquals(ErrorCode.BOOK_NOT_FOUND, abstractAppException.getErrorCode());
+        Page<ReviewPageResponse> result = Assertions.assertDoesNotThrow(() -> reviewService.read(pageable, book.getId()));
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(1, result.getTotalElements());
     }
 
     /* ========== 리뷰, 태그 등록 =========*/
     @Test
     @DisplayName("도서 리뷰 등록 성공 - 태그 모두 처음 저장되는 경우")
     void create_with_tag() {
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
         when(bookRepository.findById(book.getId()))
                 .thenReturn(Optional.of(book));
         when(reviewRepository.save(any(Review.class)))
@@ -142,7 +167,7 @@ class ReviewServiceTest {
 
         ReviewRequest reviewRequest = new ReviewRequest("body", false, new ChartRequest(), tags);
 
-        Assertions.assertDoesNotThrow(() -> reviewService.create(reviewRequest, book.getId(), user.getEmail()));
+        Assertions.assertDoesNotThrow(() -> reviewService.create(reviewRequest, book.getId(), user.getId()));
     }
 
     /* ========== 도서 리뷰 수정 ========== */
@@ -151,12 +176,9 @@ class ReviewServiceTest {
     void update_review_exclude_chart() {
         when(reviewRepository.findByIdWithTags(review.getId()))
                 .thenReturn(Optional.of(review));
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
         ReviewRequest reviewRequest = new ReviewRequest("body", false, null, new HashSet<>());
 
-        Assertions.assertDoesNotThrow(() -> reviewService.update(reviewRequest, review.getId(), user.getEmail()));
+        Assertions.assertDoesNotThrow(() -> reviewService.update(reviewRequest, review.getId(), user.getId()));
     }
 
     @Test
@@ -165,33 +187,17 @@ class ReviewServiceTest {
         when(reviewRepository.findById(review.getId()))
                 .thenReturn(Optional.empty());
 
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.update(new ReviewRequest(), review.getId(), user.getEmail()));
+        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.update(new ReviewRequest(), review.getId(), user.getId()));
         assertEquals(ErrorCode.REVIEW_NOT_FOUND, abstractAppException.getErrorCode());
     }
 
-    @Test
-    @DisplayName("도서 리뷰 수정 실패 - 해당 유저가 없는 경우")
-    void update__user_not_found() {
-        when(reviewRepository.findByIdWithTags(review.getId()))
-                .thenReturn(Optional.of(review));
-        when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.empty());
-
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.update(new ReviewRequest(), review.getId(), user.getEmail()));
-        assertEquals(ErrorCode.USER_NOT_FOUND, abstractAppException.getErrorCode());
-    }
-
     @Test
     @DisplayName("도서 리뷰 수정 실패 - 작성자와 유저가 일치하지 않는 경우")
     void update_invalid_permission() {
         when(reviewRepository.findByIdWithTags(review.getId()))
                 .thenReturn(Optional.of(review));
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user2.getEmail()))
-                .thenReturn(Optional.of(user2));
 
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.update(new ReviewRequest("new body", true, new ChartRequest(), null), review.getId(), user2.getEmail()));
+        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.update(new ReviewRequest("new body", true, new ChartRequest(), null), review.getId(), user2.getId()));
         assertEquals(ErrorCode.INVALID_PERMISSION, abstractAppException.getErrorCode());
     }
 
@@ -202,33 +208,17 @@ class ReviewServiceTest {
         when(reviewRepository.findById(review.getId()))
                 .thenReturn(Optional.empty());
 
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.delete(review.getId(), user.getEmail()));
+        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.delete(review.getId(), user.getId()));
         assertEquals(ErrorCode.REVIEW_NOT_FOUND, abstractAppException.getErrorCode());
     }
 
-    @Test
-    @DisplayName("도서 리뷰 삭제 실패 - 해당 유저가 없는 경우")
-    void delete__user_not_found() {
-        when(reviewRepository.findByIdAndDeletedDatetimeIsNull(review.getId()))
-                .thenReturn(Optional.of(review));
-        when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.empty());
-
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.delete(review.getId(), user.getEmail()));
-        assertEquals(ErrorCode.USER_NOT_FOUND, abstractAppException.getErrorCode());
-    }
-
     @Test
     @DisplayName("도서 리뷰 삭제 실패 - 작성자와 유저가 일치하지 않는 경우")
     void delete_invalid_permission() {
         when(reviewRepository.findByIdAndDeletedDatetimeIsNull(review.getId()))
                 .thenReturn(Optional.of(review));
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user2.getEmail()))
-                .thenReturn(Optional.of(user2));
 
-        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.delete(review.getId(), user2.getEmail()));
+        AbstractAppException abstractAppException = Assertions.assertThrows(AbstractAppException.class, () -> reviewService.delete(review.getId(), user2.getId()));
         assertEquals(ErrorCode.INVALID_PERMISSION, abstractAppException.getErrorCode());
     }
 
@@ -236,30 +226,33 @@ class ReviewServiceTest {
     @Test
     @DisplayName("도서 리뷰 좋아요 성공")
     void doLikes_success() {
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
         when(reviewRepository.findByIdAndDeletedDatetimeIsNull(review.getId()))
                 .thenReturn(Optional.of(review));
         when(likesRepository.findByUserAndReview(user, review))
                 .thenReturn(Optional.empty());
 
-        boolean result = reviewService.doLikes(user.getEmail(), review.getId());
+        boolean result = reviewService.doLikes(user.getId(), review.getId());
 
         assertTrue(result);
         assertEquals(1, review.getLikesCount());
+        // 인기 리뷰 보드는 커밋 후 이벤트로 갱신
+        verify(publisher).publishEvent(any(ReviewScoreChange.class));
+        verify(hotReviewRanker, never()).onLikes(any(), any(), anyInt(), any());
     }
 
     @Test
     @DisplayName("도서 리뷰 좋아요 취소 성공")
     void doLikes_cancel_success() {
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
         when(reviewRepository.findByIdAndDeletedDatetimeIsNull(review.getId()))
                 .thenReturn(Optional.of(review));
         when(likesRepository.findByUserAndReview(user, review))
                 .thenReturn(Optional.of(likes));
 
-        boolean result = reviewService.doLikes(user.getEmail(), review.getId());
+        boolean result = reviewService.doLikes(user.getId(), review.getId());
 
         assertFalse(result);
         assertEquals(0, review.getLikesCount());
@@ -0,0 +1,86 @@
+package site.bookmore.bookmore.reviews.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import site.bookmore.bookmore.reviews.repository.ReviewRepository;
+import site.bookmore.bookmore.reviews.vo.HotReviewVo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HotReviewRankerTest {
+    private final ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
+    private final HotReviewRanker hotReviewRanker = new HotReviewRanker(reviewRepository);
+
+    private HotReviewVo vo(Long id, int likesCount, LocalDateTime createdDatetime) {
+        return new HotReviewVo() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getLikesCount() {
+                return likesCount;
+            }
+
+            @Override
+            public LocalDateTime getCreatedDatetime() {
+                return createdDatetime;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("오래된 리뷰는 좋아요가 많아도 점수가 감쇠")
+    void top_decays_old_reviews() {
+        LocalDateTime now = LocalDateTime.now();
+        given(reviewRepository.findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc("10001"))
+                .willReturn(List.of(vo(1L, 100, now.minusDays(30)), vo(2L, 10, now.minusHours(1))));
+
+        assertThat(hotReviewRanker.top("10001", 5)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("보드는 최초 조회 시에만 DB 에서 생성되고 이후 좋아요 이벤트로 갱신")
+    void onLikes_updates_loaded_board() {
+        LocalDateTime now = LocalDateTime.now();
+        given(reviewRepository.findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc("10001"))
+                .willReturn(List.of(vo(1L, 5, now), vo(2L, 3, now)));
+
+        assertThat(hotReviewRanker.top("10001", 5)).containsExactly(1L, 2L);
+
+        hotReviewRanker.onLikes("10001", 2L, 10, now);
+        hotReviewRanker.onDelete("10001", 1L);
+
+        assertThat(hotReviewRanker.top("10001", 5)).containsExactly(2L);
+        verify(reviewRepository, times(1)).findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc("10001");
+    }
+
+    @Test
+    @DisplayName("보드를 만드는 동안 커밋된 좋아요는 DB 에서 읽은 값보다 우선")
+    void onLikes_during_load() {
+        LocalDateTime now = LocalDateTime.now();
+        given(reviewRepository.findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc("10001")).willAnswer(invocation -> {
+            hotReviewRanker.onLikes("10001", 2L, 10, now);
+            return List.of(vo(1L, 5, now), vo(2L, 3, now));
+        });
+
+        assertThat(hotReviewRanker.top("10001", 5)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("음수 size 는 빈 목록")
+    void top_negative_size() {
+        given(reviewRepository.findTop50ByBookIdAndDeletedDatetimeIsNullOrderByLikesCountDesc("10001"))
+                .willReturn(List.of(vo(1L, 5, LocalDateTime.now())));
+
+        assertThat(hotReviewRanker.top("10001", -1)).isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package site.bookmore.bookmore.security.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticationCacheTest {
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("user", "token", List.of());
+
+    @Test
+    @DisplayName("만료 시각 전까지만 캐시된 인증 정보를 반환")
+    void get_until_expired() {
+        AuthenticationCache cache = new AuthenticationCache(10);
+        cache.put("token", authentication, 1000L);
+
+        assertThat(cache.get("token", 999L)).isSameAs(authentication);
+        assertThat(cache.get("other", 999L)).isNull();
+        assertThat(cache.get("token", 1000L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않음")
+    void put_bounded() {
+        AuthenticationCache cache = new AuthenticationCache(10);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 100; i++) {
+            cache.put("token" + i, authentication, expiresAt);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.get("token99", expiresAt - 1)).isSameAs(authentication);
+    }
+}
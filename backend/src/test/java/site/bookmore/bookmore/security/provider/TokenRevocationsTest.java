@@ -0,0 +1,37 @@
+package site.bookmore.bookmore.security.provider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationsTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenRevocations tokenRevocations = new TokenRevocations(userRepository, 3600);
+
+    @Test
+    @DisplayName("이 서버에서 탈퇴한 사용자는 갱신 전에도 바로 무효화")
+    void revoke_immediately() {
+        tokenRevocations.revoke(1L);
+
+        assertThat(tokenRevocations.isRevoked(1L)).isTrue();
+        assertThat(tokenRevocations.isRevoked(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 탈퇴한 사용자는 갱신 후 무효화")
+    void refresh_from_db() {
+        given(userRepository.findIdsDeletedSince(any())).willReturn(List.of(2L));
+
+        tokenRevocations.refresh();
+
+        assertThat(tokenRevocations.isRevoked(2L)).isTrue();
+        assertThat(tokenRevocations.isRevoked(3L)).isFalse();
+    }
+}
@@ -1,5 +1,6 @@
 package site.bookmore.bookmore.users.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,12 +8,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import site.bookmore.bookmore.common.dto.ResultResponse;
+import site.bookmore.bookmore.users.dto.RanksAroundResponse;
+import site.bookmore.bookmore.users.dto.RanksMoverResponse;
 import site.bookmore.bookmore.users.dto.RanksResponse;
+import site.bookmore.bookmore.users.service.RanksHistoryService;
 import site.bookmore.bookmore.users.service.RanksService;
 
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -25,6 +31,10 @@ class RanksControllerTest {
     MockMvc mockMvc;
     @MockBean
     RanksService ranksService;
+    @MockBean
+    RanksHistoryService ranksHistoryService;
+    @Autowired
+    ObjectMapper objectMapper;
 
 
     @Test
@@ -37,7 +47,7 @@ class RanksControllerTest {
                 RanksResponse.builder().id(1L).point(4).ranking(2L).build(),
                 RanksResponse.builder().id(2L).point(3).ranking(3L).build(),
                 RanksResponse.builder().id(3L).point(7).ranking(1L).build());
-        given(ranksService.findTop100Ranks()).willReturn(ranksList);
+        given(ranksService.findTop100RanksJson()).willReturn(objectMapper.writeValueAsBytes(ResultResponse.success(ranksList)));
 
         mockMvc.perform(get("/api/v1/users/ranks")
                         .with(csrf()))
@@ -70,4 +80,44 @@ class RanksControllerTest {
                 .andExpect(jsonPath("$..['ranking']").exists());
 
     }
+
+    @Test
+    @DisplayName("나의 앞뒤 순위 조회")
+    @WithMockUser
+    void my_ranks_around_success() throws Exception {
+
+        RanksAroundResponse response = RanksAroundResponse.builder()
+                .me(RanksResponse.builder().id(2L).point(3).ranking(2L).nickName("me").build())
+                .total(3)
+                .topPercent(66.6)
+                .above(List.of(RanksResponse.builder().id(1L).point(5).ranking(1L).nickName("above").build()))
+                .below(List.of(RanksResponse.builder().id(3L).point(1).ranking(3L).nickName("below").build()))
+                .build();
+        given(ranksService.findMyRanksAround(any(), eq(1))).willReturn(response);
+
+        mockMvc.perform(get("/api/v1/users/ranks/my/around")
+                        .param("size", "1")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.me.ranking").value(2))
+                .andExpect(jsonPath("$.result.topPercent").exists())
+                .andExpect(jsonPath("$.result.above[0].nickName").value("above"))
+                .andExpect(jsonPath("$.result.below[0].nickName").value("below"));
+    }
+
+    @Test
+    @DisplayName("순위 변동이 큰 사용자 조회")
+    @WithMockUser
+    void ranks_movers_success() throws Exception {
+
+        List<RanksMoverResponse> movers = List.of(
+                RanksMoverResponse.builder().userId(1L).nickName("riser").fromRanking(50L).toRanking(3L).change(47L).build());
+        given(ranksHistoryService.findMovers(7, 10)).willReturn(movers);
+
+        mockMvc.perform(get("/api/v1/users/ranks/movers")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result[0].nickName").value("riser"))
+                .andExpect(jsonPath("$.result[0].change").value(47));
+    }
 }
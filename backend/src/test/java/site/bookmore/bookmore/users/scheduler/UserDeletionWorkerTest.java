@@ -0,0 +1,111 @@
+package site.bookmore.bookmore.users.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.alarms.entity.AlarmType;
+import site.bookmore.bookmore.alarms.repository.AlarmRepository;
+import site.bookmore.bookmore.observer.event.follow.FollowChange;
+import site.bookmore.bookmore.users.entity.DeletionPhase;
+import site.bookmore.bookmore.users.entity.UserDeletion;
+import site.bookmore.bookmore.users.repositroy.FollowCountRepository;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserDeletionRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UserDeletionWorkerTest {
+    private final UserDeletionRepository userDeletionRepository = Mockito.mock(UserDeletionRepository.class);
+    private final FollowRepository followRepository = Mockito.mock(FollowRepository.class);
+    private final FollowCountRepository followCountRepository = Mockito.mock(FollowCountRepository.class);
+    private final AlarmRepository alarmRepository = Mockito.mock(AlarmRepository.class);
+    private final ApplicationEventPublisher publisher = Mockito.mock(ApplicationEventPublisher.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+    private final UserDeletionWorker userDeletionWorker = new UserDeletionWorker(userDeletionRepository, followRepository, followCountRepository,
+            alarmRepository, publisher, transactionTemplate);
+
+    private final UserDeletion deletion = UserDeletion.of(100L);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deletion, "id", 1L);
+        ReflectionTestUtils.setField(userDeletionWorker, "chunkSize", 2);
+        given(userDeletionRepository.findTop20ByPhaseNotAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(DeletionPhase.DONE), any()))
+                .willReturn(List.of(deletion));
+        given(userDeletionRepository.lease(eq(1L), any(), any())).willReturn(1);
+        given(userDeletionRepository.findById(1L)).willReturn(Optional.of(deletion));
+    }
+
+    @Test
+    @DisplayName("팔로잉, 팔로워, 알림 순서로 chunk 단위 일괄 정리 후 완료 처리")
+    void work_in_chunks() {
+        given(followRepository.findFollowingIdsForUpdate(eq(100L), eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(followRepository.findFollowingIdsForUpdate(eq(100L), eq(2L), any(Pageable.class))).willReturn(List.of());
+        given(followRepository.findFollowerIdsForUpdate(eq(100L), eq(0L), any(Pageable.class))).willReturn(List.of(3L));
+        given(alarmRepository.findIdsByFromUserAfter(eq(100L), eq(AlarmType.NEW_FOLLOW), eq(0L), any(Pageable.class))).willReturn(List.of(7L));
+
+        userDeletionWorker.work();
+
+        verify(followRepository).softDeleteFollowings(eq(100L), eq(List.of(1L, 2L)), any());
+        verify(followCountRepository).addFollowerCounts(List.of(1L, 2L), -1);
+        verify(followRepository).softDeleteFollowers(eq(100L), eq(List.of(3L)), any());
+        verify(followCountRepository).addFollowingCounts(List.of(3L), -1);
+        verify(alarmRepository).softDeleteAllByIdIn(eq(List.of(7L)), any());
+        verify(publisher, times(3)).publishEvent(any(FollowChange.class));
+        assertThat(deletion.isDone()).isTrue();
+        assertThat(deletion.getFollowings()).isEqualTo(2);
+        assertThat(deletion.getFollowers()).isEqualTo(1);
+        assertThat(deletion.getAlarms()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패하면 처리한 지점을 남기고 다음 실행에서 이어서 정리")
+    void work_restart_after_failure() {
+        given(followRepository.findFollowingIdsForUpdate(eq(100L), eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(followRepository.findFollowingIdsForUpdate(eq(100L), eq(2L), any(Pageable.class))).willThrow(new IllegalStateException("db down"));
+
+        userDeletionWorker.work();
+
+        assertThat(deletion.getPhase()).isEqualTo(DeletionPhase.FOLLOWINGS);
+        assertThat(deletion.getLastId()).isEqualTo(2L);
+        assertThat(deletion.getAttempts()).isEqualTo(1);
+        assertThat(deletion.getLastError()).isEqualTo("db down");
+
+        Mockito.reset(followRepository);
+        given(followRepository.findFollowingIdsForUpdate(eq(100L), eq(2L), any(Pageable.class))).willReturn(List.of(5L));
+
+        userDeletionWorker.work();
+
+        verify(followRepository, never()).findFollowingIdsForUpdate(eq(100L), eq(0L), any(Pageable.class));
+        verify(followCountRepository).addFollowerCounts(List.of(5L), -1);
+        assertThat(deletion.getFollowings()).isEqualTo(3);
+        assertThat(deletion.isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 선점한 작업은 처리하지 않음")
+    void work_already_leased() {
+        given(userDeletionRepository.lease(eq(1L), any(), any())).willReturn(0);
+
+        userDeletionWorker.work();
+
+        verify(followRepository, never()).findFollowingIdsForUpdate(anyLong(), anyLong(), any(Pageable.class));
+        assertThat(deletion.getPhase()).isEqualTo(DeletionPhase.FOLLOWINGS);
+    }
+}
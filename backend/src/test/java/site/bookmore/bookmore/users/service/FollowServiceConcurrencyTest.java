@@ -0,0 +1,112 @@
+package site.bookmore.bookmore.users.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.config.AuditingConfig;
+import site.bookmore.bookmore.feed.util.FeedInbox;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.FollowCountRepository;
+import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.FollowGraph;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(AuditingConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:follow-concurrency;MODE=MySQL;NON_KEYWORDS=USER;LOCK_TIMEOUT=10000")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FollowServiceConcurrencyTest {
+    private static final int FOLLOWERS = 1000;
+
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private FollowCountRepository followCountRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OutboxRepository outboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private FollowService followService;
+    private User celebrity;
+    private final List<Long> followerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        followService = new FollowService(followRepository, followCountRepository, userRepository, outboxRepository,
+                new FeedInbox(10, 10), new FollowGraph(1000, 1000), Mockito.mock(ApplicationEventPublisher.class));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            users.add(user("follower" + i));
+        }
+        celebrity = user("celebrity");
+        users.add(celebrity);
+        transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+        users.subList(0, FOLLOWERS).forEach(user -> followerIds.add(user.getId()));
+    }
+
+    @Test
+    @DisplayName("1000명이 동시에 팔로우해도 팔로워 수가 정확함")
+    void concurrent_follow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long followerId : followerIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> followService.following(celebrity.getId(), followerId));
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(failures.get()).isZero();
+        assertThat(userRepository.findFollowerCountById(celebrity.getId())).contains(FOLLOWERS);
+        assertThat(followRepository.count()).isEqualTo(FOLLOWERS);
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@test.com")
+                .password("password")
+                .nickname(name)
+                .birth(LocalDate.of(2000, 1, 1))
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -15,12 +16,17 @@ import site.bookmore.bookmore.common.exception.bad_request.FollowNotMeException;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateFollowException;
 import site.bookmore.bookmore.common.exception.not_found.FollowNotFoundException;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
+import site.bookmore.bookmore.feed.util.FeedInbox;
+import site.bookmore.bookmore.outbox.entity.Outbox;
+import site.bookmore.bookmore.outbox.repository.OutboxRepository;
 import site.bookmore.bookmore.users.dto.FollowerResponse;
 import site.bookmore.bookmore.users.dto.FollowingResponse;
 import site.bookmore.bookmore.users.entity.Follow;
 import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.FollowCountRepository;
 import site.bookmore.bookmore.users.repositroy.FollowRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.FollowGraph;
 
 import java.util.Arrays;
 import java.util.List;
@@ -28,18 +34,24 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 
 class FollowServiceTest {
 
     FollowService followService;
     FollowRepository followRepository = mock(FollowRepository.class);
+    FollowCountRepository followCountRepository = mock(FollowCountRepository.class);
     UserRepository userRepository = mock(UserRepository.class);
+    OutboxRepository outboxRepository = mock(OutboxRepository.class);
+    FeedInbox feedInbox = mock(FeedInbox.class);
+    FollowGraph followGraph = new FollowGraph(1000, 1000);
     private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
 
     @BeforeEach
     void setUp() {
-        followService = new FollowService(followRepository, userRepository, publisher);
+        followService = new FollowService(followRepository, followCountRepository, userRepository, outboxRepository, feedInbox, followGraph, publisher);
     }
 
     @Test
@@ -65,27 +77,33 @@ class FollowServiceTest {
                 .follower(user)
                 .build();
 
-        Mockito.when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
+
+        Mockito.when(userRepository.existsByIdAndDeletedDatetimeIsNull(targetUser.getId()))
+                .thenReturn(true);
 
-        Mockito.when(userRepository.findByIdAndDeletedDatetimeIsNull(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.getReferenceById(targetUser.getId()))
+                .thenReturn(targetUser);
 
-        Mockito.when(followRepository.findByFollowerAndFollowing(user, targetUser))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(followRepository.findIdByFollowerIdAndFollowingId(user.getId(), targetUser.getId()))
+                .thenReturn(Optional.empty());
 
-        Mockito.when(followRepository.save(follow))
+        Mockito.when(followRepository.saveAndFlush(any(Follow.class)))
                 .thenReturn(follow);
 
-        String result = Assertions.assertDoesNotThrow(() -> followService.following(targetUser.getId(), user.getEmail()));
+        String result = Assertions.assertDoesNotThrow(() -> followService.following(targetUser.getId(), user.getId()));
 
         assertEquals(String.format("%s 님을 팔로우 하셨습니다.", targetUser.getId()), result);
         assertNull(follow.getDeletedDatetime());
+        Mockito.verify(followCountRepository).addFollowingCount(user.getId(), 1);
+        Mockito.verify(followCountRepository).addFollowerCount(targetUser.getId(), 1);
+        Mockito.verify(outboxRepository).save(any(Outbox.class));
     }
 
     @Test
-    @DisplayName("팔로우 실패(1) - 로그인하지 않은 유저가 팔로우 하려고 하는 경우")
-    void follow_fail_1() {
+    @DisplayName("팔로우 성공 - 언팔로우 했던 유저를 다시 팔로우 하는 경우")
+    void follow_success_revive() {
         User user = User.builder()
                 .id(1L)
                 .email("123@naver.com")
@@ -100,26 +118,25 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
+        Mockito.when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
 
-        Mockito.when(userRepository.findById(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.existsByIdAndDeletedDatetimeIsNull(targetUser.getId()))
+                .thenReturn(true);
 
-        Mockito.when(followRepository.findByFollowerAndFollowing(user, targetUser))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(userRepository.getReferenceById(targetUser.getId()))
+                .thenReturn(targetUser);
 
-        Mockito.when(followRepository.save(follow))
-                .thenReturn(follow);
+        Mockito.when(followRepository.findIdByFollowerIdAndFollowingId(user.getId(), targetUser.getId()))
+                .thenReturn(Optional.of(1L));
 
-        UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            followService.following(targetUser.getId(), user.getEmail());
-        });
+        Mockito.when(followRepository.revive(eq(1L), any()))
+                .thenReturn(1);
 
-        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        Assertions.assertDoesNotThrow(() -> followService.following(targetUser.getId(), user.getId()));
+
+        Mockito.verify(followRepository, Mockito.never()).saveAndFlush(any(Follow.class));
+        Mockito.verify(followCountRepository).addFollowerCount(targetUser.getId(), 1);
     }
 
     @Test
@@ -139,23 +156,11 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
-
-        Mockito.when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(followRepository.findByFollowerAndFollowing(user, targetUser))
-                .thenReturn(Optional.of(follow));
-
-        Mockito.when(followRepository.save(follow))
-                .thenReturn(follow);
+        Mockito.when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
 
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            followService.following(targetUser.getId(), user.getEmail());
+            followService.following(targetUser.getId(), user.getId());
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
@@ -171,26 +176,11 @@ class FollowServiceTest {
                 .nickname("AA")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(user)
-                .follower(user)
-                .build();
-
-        Mockito.when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(userRepository.findByIdAndDeletedDatetimeIsNull(user.getId()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(followRepository.findByFollowerAndFollowing(user, user))
-                .thenReturn(Optional.of(follow));
-
-        Mockito.when(followRepository.save(follow))
-                .thenReturn(follow);
+        Mockito.when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
 
         FollowNotMeException exception = Assertions.assertThrows(FollowNotMeException.class, () -> {
-            followService.following(user.getId(), user.getEmail());
+            followService.following(user.getId(), user.getId());
         });
 
         assertEquals(ErrorCode.FOLLOW_NOT_ME, exception.getErrorCode());
@@ -213,37 +203,32 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
-
-        Mockito.when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
 
-        Mockito.when(userRepository.findByIdAndDeletedDatetimeIsNull(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.existsByIdAndDeletedDatetimeIsNull(targetUser.getId()))
+                .thenReturn(true);
 
-        Mockito.when(followRepository.findByFollowerAndFollowingAndDeletedDatetimeIsNull(user, targetUser))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(userRepository.getReferenceById(targetUser.getId()))
+                .thenReturn(targetUser);
 
-        Mockito.when(followRepository.findByFollowerAndFollowing(user, targetUser))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(followRepository.findIdByFollowerIdAndFollowingId(user.getId(), targetUser.getId()))
+                .thenReturn(Optional.of(1L));
 
-        Mockito.when(followRepository.save(follow))
-                .thenReturn(follow);
+        Mockito.when(followRepository.revive(eq(1L), any()))
+                .thenReturn(0);
 
         DuplicateFollowException exception = Assertions.assertThrows(DuplicateFollowException.class, () -> {
-            followService.following(targetUser.getId(), user.getEmail());
+            followService.following(targetUser.getId(), user.getId());
         });
 
         assertEquals(ErrorCode.DUPLICATED_FOLLOW, exception.getErrorCode());
+        Mockito.verify(followCountRepository, Mockito.never()).addFollowerCount(any(), anyInt());
     }
 
     @Test
-    @DisplayName("언팔로우 성공")
-    void unfollow_success() {
+    @DisplayName("팔로우 실패(5) - 동시에 같은 팔로우가 들어와 유니크 제약에 걸린 경우")
+    void follow_fail_5() {
         User user = User.builder()
                 .id(1L)
                 .email("123@naver.com")
@@ -258,30 +243,31 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
+        Mockito.when(userRepository.getReferenceById(user.getId()))
+                .thenReturn(user);
 
-        Mockito.when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userRepository.existsByIdAndDeletedDatetimeIsNull(targetUser.getId()))
+                .thenReturn(true);
 
-        Mockito.when(userRepository.findByIdAndDeletedDatetimeIsNull(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.getReferenceById(targetUser.getId()))
+                .thenReturn(targetUser);
 
-        Mockito.when(followRepository.findByFollowerAndFollowing(any(User.class), any(User.class)))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(followRepository.findIdByFollowerIdAndFollowingId(user.getId(), targetUser.getId()))
+                .thenReturn(Optional.empty());
 
-        String result = Assertions.assertDoesNotThrow(() -> followService.unfollowing(targetUser.getId(), user.getEmail()));
+        Mockito.when(followRepository.saveAndFlush(any(Follow.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_follow_follower_following"));
 
-        assertEquals(String.format("%s 님을 언팔로우 하셨습니다.", targetUser.getId()), result);
-        assertNotNull(follow.getDeletedDatetime());
+        DuplicateFollowException exception = Assertions.assertThrows(DuplicateFollowException.class, () -> {
+            followService.following(targetUser.getId(), user.getId());
+        });
+
+        assertEquals(ErrorCode.DUPLICATED_FOLLOW, exception.getErrorCode());
     }
 
     @Test
-    @DisplayName("언팔로우 실패(1) - 로그인하지 않은 유저가 언팔로우 하려고 하는 경우")
-    void unfollow_fail_1() {
+    @DisplayName("언팔로우 성공")
+    void unfollow_success() {
         User user = User.builder()
                 .id(1L)
                 .email("123@naver.com")
@@ -296,23 +282,17 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
-
-        Mockito.when(userRepository.findById(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.existsByIdAndDeletedDatetimeIsNull(targetUser.getId()))
+                .thenReturn(true);
 
-        Mockito.when(followRepository.findByFollowerAndFollowing(any(User.class), any(User.class)))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(followRepository.softDelete(eq(user.getId()), eq(targetUser.getId()), any()))
+                .thenReturn(1);
 
-        UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            followService.unfollowing(targetUser.getId(), user.getEmail());
-        });
+        String result = Assertions.assertDoesNotThrow(() -> followService.unfollowing(targetUser.getId(), user.getId()));
 
-        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        assertEquals(String.format("%s 님을 언팔로우 하셨습니다.", targetUser.getId()), result);
+        Mockito.verify(followCountRepository).addFollowingCount(user.getId(), -1);
+        Mockito.verify(followCountRepository).addFollowerCount(targetUser.getId(), -1);
     }
 
     @Test
@@ -332,27 +312,15 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
-
-        Mockito.when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(followRepository.findByFollowerAndFollowing(any(User.class), any(User.class)))
-                .thenReturn(Optional.of(follow));
-
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            followService.unfollowing(targetUser.getId(), user.getEmail());
+            followService.unfollowing(targetUser.getId(), user.getId());
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
     }
 
     @Test
-    @DisplayName("언팔로우 실패(3) - 팔로우하지 않은 사람을 언팔로우 하는 경우")
+    @DisplayName("언팔로우 실패(3) - 팔로우하지 않았거나 이미 언팔로우 한 사람을 언팔로우 하는 경우")
     void unfollow_fail_3() {
         User user = User.builder()
                 .id(1L)
@@ -368,58 +336,18 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Mockito.when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userRepository.existsByIdAndDeletedDatetimeIsNull(targetUser.getId()))
+                .thenReturn(true);
 
-        Mockito.when(userRepository.findByIdAndDeletedDatetimeIsNull(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(followRepository.softDelete(eq(user.getId()), eq(targetUser.getId()), any()))
+                .thenReturn(0);
 
         FollowNotFoundException exception = Assertions.assertThrows(FollowNotFoundException.class, () -> {
-            followService.unfollowing(targetUser.getId(), user.getEmail());
-        });
-
-        assertEquals(ErrorCode.FOLLOW_NOT_FOUND, exception.getErrorCode());
-    }
-
-    @Test
-    @DisplayName("언팔로우 실패(4) - 언팔로우를 이미 한 경우")
-    void unfollow_fail_4() {
-        User user = User.builder()
-                .id(1L)
-                .email("123@naver.com")
-                .password("123qwer")
-                .nickname("AA")
-                .build();
-
-        User targetUser = User.builder()
-                .id(2L)
-                .email("456@naver.com")
-                .password("456qwer")
-                .nickname("BB")
-                .build();
-
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
-
-        follow.delete();
-
-        Mockito.when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(userRepository.findByIdAndDeletedDatetimeIsNull(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
-
-        Mockito.when(followRepository.findByFollowerAndFollowing(any(User.class), any(User.class)))
-                .thenReturn(Optional.of(follow));
-
-        FollowNotFoundException exception = Assertions.assertThrows(FollowNotFoundException.class, () -> {
-            followService.unfollowing(targetUser.getId(), user.getEmail());
+            followService.unfollowing(targetUser.getId(), user.getId());
         });
 
         assertEquals(ErrorCode.FOLLOW_NOT_FOUND, exception.getErrorCode());
+        Mockito.verify(followCountRepository, Mockito.never()).addFollowerCount(any(), anyInt());
     }
 
     @Test
@@ -630,16 +558,13 @@ class FollowServiceTest {
                 .follower(user)
                 .build();
 
-        Mockito.when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findFollowerCountById(targetUser.getId()))
+                .thenReturn(Optional.of(1));
 
-        Mockito.when(userRepository.findById(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(followRepository.findFollowingIds(user.getId()))
+                .thenReturn(List.of(follow.getFollowing().getId()));
 
-        Mockito.when(followRepository.findByFollowerAndFollowingAndDeletedDatetimeIsNull(user, targetUser))
-                .thenReturn(Optional.of(follow));
-
-        Boolean result = Assertions.assertDoesNotThrow(() -> followService.isFollow(targetUser.getId(), user.getEmail()));
+        Boolean result = Assertions.assertDoesNotThrow(() -> followService.isFollow(targetUser.getId(), user.getId()));
 
         assertEquals(true, result);
     }
@@ -667,19 +592,16 @@ class FollowServiceTest {
                 .follower(user)
                 .build();
 
-        Mockito.when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(userRepository.findById(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.findFollowerCountById(targetUser.getId()))
+                .thenReturn(Optional.of(1));
 
-        Boolean result = Assertions.assertDoesNotThrow(() -> followService.isFollow(targetUser.getId(), user.getEmail()));
+        Boolean result = Assertions.assertDoesNotThrow(() -> followService.isFollow(targetUser.getId(), user.getId()));
 
         assertEquals(false, result);
     }
 
     @Test
-    @DisplayName("팔로우 인지 아닌지 출력 실패(1) - 로그인하지 않은 유저가 팔로우 하려고 하는 경우")
+    @DisplayName("팔로우 인지 아닌지 출력 실패(1) - 팔로워 수가 캐시된 뒤 탈퇴한 유저인 경우")
     void isFollow_fail_1() {
         User user = User.builder()
                 .id(1L)
@@ -695,23 +617,16 @@ class FollowServiceTest {
                 .nickname("BB")
                 .build();
 
-        Follow follow = Follow.builder()
-                .id(1L)
-                .following(targetUser)
-                .follower(user)
-                .build();
+        Mockito.when(userRepository.findFollowerCountById(targetUser.getId()))
+                .thenReturn(Optional.of(1))
+                .thenReturn(Optional.empty());
 
-        Mockito.when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(userRepository.findById(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Assertions.assertDoesNotThrow(() -> followService.isFollow(targetUser.getId(), user.getId()));
 
-        Mockito.when(followRepository.findByFollowerAndFollowingAndDeletedDatetimeIsNull(user, targetUser))
-                .thenReturn(Optional.of(follow));
+        followGraph.evictUser(targetUser.getId());
 
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            followService.isFollow(targetUser.getId(), "789@naver.com");
+            followService.isFollow(targetUser.getId(), user.getId());
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
@@ -740,19 +655,41 @@ class FollowServiceTest {
                 .follower(user)
                 .build();
 
-        Mockito.when(userRepository.findByEmail(user.getEmail()))
-                .thenReturn(Optional.of(user));
-
-        Mockito.when(userRepository.findById(targetUser.getId()))
-                .thenReturn(Optional.of(targetUser));
+        Mockito.when(userRepository.findFollowerCountById(targetUser.getId()))
+                .thenReturn(Optional.of(1));
 
-        Mockito.when(followRepository.findByFollowerAndFollowingAndDeletedDatetimeIsNull(user, targetUser))
-                .thenReturn(Optional.of(follow));
+        Mockito.when(followRepository.findFollowingIds(user.getId()))
+                .thenReturn(List.of(follow.getFollowing().getId()));
 
         UserNotFoundException exception = Assertions.assertThrows(UserNotFoundException.class, () -> {
-            followService.isFollow(100L, user.getEmail());
+            followService.isFollow(100L, user.getId());
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("맞팔로우 확인 - 두 번째 조회부터 팔로잉 목록 캐시 사용")
+    void isMutualFollow_cached() {
+        User user = User.builder()
+                .id(1L)
+                .email("123@naver.com")
+                .password("123qwer")
+                .nickname("AA")
+                .build();
+
+        Mockito.when(userRepository.findFollowerCountById(2L))
+                .thenReturn(Optional.of(1));
+        Mockito.when(followRepository.findFollowingIds(1L))
+                .thenReturn(List.of(3L, 2L));
+        Mockito.when(followRepository.findFollowingIds(2L))
+                .thenReturn(List.of(1L));
+
+        assertTrue(followService.isMutualFollow(2L, user.getId()));
+        assertTrue(followService.isMutualFollow(2L, user.getId()));
+
+        Mockito.verify(followRepository, Mockito.times(1)).findFollowingIds(1L);
+        Mockito.verify(followRepository, Mockito.times(1)).findFollowingIds(2L);
+        Mockito.verify(userRepository, Mockito.times(1)).findFollowerCountById(2L);
+    }
+}
@@ -0,0 +1,105 @@
+package site.bookmore.bookmore.users.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import site.bookmore.bookmore.users.dto.RanksHistoryResponse;
+import site.bookmore.bookmore.users.dto.RanksMoverResponse;
+import site.bookmore.bookmore.users.entity.RanksHistory;
+import site.bookmore.bookmore.users.entity.User;
+import site.bookmore.bookmore.users.repositroy.RanksHistoryRepository;
+import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.RankingEngine;
+import site.bookmore.bookmore.users.util.RanksHistoryCache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+class RanksHistoryServiceTest {
+    private final RanksHistoryRepository ranksHistoryRepository = Mockito.mock(RanksHistoryRepository.class);
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+    private final RankingEngine rankingEngine = new RankingEngine();
+    private final RanksHistoryService ranksHistoryService = new RanksHistoryService(ranksHistoryRepository, userRepository, rankingEngine, new RanksHistoryCache(10));
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    @DisplayName("메모리 랭킹을 스냅샷으로 저장하고 일별 순위 조회")
+    void snapshot_and_history() {
+        given(ranksHistoryRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        RanksHistory first = snapshot(today.minusDays(1), 2L, 3);
+        RanksHistory second = snapshot(today, 2L, 1);
+
+        given(userRepository.findByIdAndDeletedDatetimeIsNull(2L)).willReturn(Optional.of(user(2L)));
+        given(ranksHistoryRepository.findLatestSnapshotDate()).willReturn(Optional.of(today));
+        given(ranksHistoryRepository.findAllBySnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(any())).willReturn(List.of(first, second));
+
+        List<RanksHistoryResponse> history = ranksHistoryService.findHistory(2L, 7);
+
+        assertThat(history).extracting(RanksHistoryResponse::getDate).containsExactly(today.minusDays(1), today);
+        assertThat(history).extracting(RanksHistoryResponse::getRanking).containsExactly(3L, 1L);
+        assertThat(first.getUserCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("새 스냅샷이 저장되기 전까지는 풀어 둔 순위를 재사용하고 기간만 다시 자름")
+    void history_cached_until_next_snapshot() {
+        given(ranksHistoryRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        RanksHistory first = snapshot(today.minusDays(1), 2L, 3);
+        RanksHistory second = snapshot(today, 2L, 1);
+
+        given(userRepository.findByIdAndDeletedDatetimeIsNull(2L)).willReturn(Optional.of(user(2L)));
+        given(ranksHistoryRepository.findLatestSnapshotDate()).willReturn(Optional.of(today));
+        given(ranksHistoryRepository.findAllBySnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(any())).willReturn(List.of(first, second));
+
+        ranksHistoryService.findHistory(2L, 7);
+        List<RanksHistoryResponse> history = ranksHistoryService.findHistory(2L, 0);
+
+        assertThat(history).extracting(RanksHistoryResponse::getDate).containsExactly(today);
+        verify(ranksHistoryRepository, Mockito.times(1)).findAllBySnapshotDateGreaterThanEqualOrderBySnapshotDateAsc(any());
+    }
+
+    @Test
+    @DisplayName("두 스냅샷을 비교해 순위 변동이 큰 순서로 조회")
+    void movers() {
+        given(ranksHistoryRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+        RanksHistory before = snapshot(today.minusDays(7), 2L, 3);
+        RanksHistory after = snapshot(today, 2L, 1);
+
+        given(ranksHistoryRepository.findTop1ByOrderBySnapshotDateDesc()).willReturn(Optional.of(after));
+        given(ranksHistoryRepository.findTop1BySnapshotDateLessThanEqualOrderBySnapshotDateDesc(today.minusDays(7))).willReturn(Optional.of(before));
+        given(userRepository.findAllById(any())).willReturn(List.of(user(1L), user(2L), user(3L)));
+
+        List<RanksMoverResponse> movers = ranksHistoryService.findMovers(7, 10);
+
+        // 2 : 3위 → 1위, 1 : 1위 → 2위, 3 : 2위 → 3위. 변동폭이 같으면 사용자 id 순
+        assertThat(movers).extracting(RanksMoverResponse::getUserId).containsExactly(2L, 1L, 3L);
+        assertThat(movers).extracting(RanksMoverResponse::getChange).containsExactly(2L, -1L, -1L);
+    }
+
+    // 사용자 1, 2, 3 중 userId 의 순위가 ranking 이 되도록 점수를 맞춘 뒤 스냅샷 저장
+    private RanksHistory snapshot(LocalDate date, Long userId, int ranking) {
+        rankingEngine.register(1L, 1L, 20);
+        rankingEngine.register(3L, 3L, 10);
+        rankingEngine.register(userId, userId, ranking == 1 ? 30 : ranking == 2 ? 15 : 5);
+        given(ranksHistoryRepository.findBySnapshotDate(date)).willReturn(Optional.empty());
+
+        ranksHistoryService.snapshot(date);
+
+        ArgumentCaptor<RanksHistory> captor = ArgumentCaptor.forClass(RanksHistory.class);
+        verify(ranksHistoryRepository, Mockito.atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private User user(Long id) {
+        return User.builder().id(id).email(id + "@test.com").nickname("user" + id).password("1q2w3e4r")
+                .birth(LocalDate.of(2000, 1, 1)).build();
+    }
+}
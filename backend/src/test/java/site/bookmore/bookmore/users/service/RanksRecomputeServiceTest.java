@@ -0,0 +1,118 @@
+package site.bookmore.bookmore.users.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.bookmore.bookmore.users.dto.RanksRecomputeResult;
+import site.bookmore.bookmore.users.repositroy.RanksRepository;
+import site.bookmore.bookmore.users.vo.RanksPointCountVo;
+import site.bookmore.bookmore.users.vo.RanksRankingVo;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RanksRecomputeServiceTest {
+    private final RanksRepository ranksRepository = Mockito.mock(RanksRepository.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+    private final RanksRecomputeService ranksRecomputeService = new RanksRecomputeService(ranksRepository, transactionTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ranksRecomputeService, "chunkSize", 2);
+        given(ranksRepository.findMaxUserId()).willReturn(5L);
+    }
+
+    @Test
+    @DisplayName("user_id 구간별로 점수 갱신 후, 한 번 만든 순위표로 순위가 바뀐 행만 갱신")
+    void recompute() {
+        given(ranksRepository.updatePoints(anyLong(), anyLong())).willReturn(2);
+        given(ranksRepository.countUsersByPoint()).willReturn(List.of(pointCount(5, 2L), pointCount(10, 1L), pointCount(0, 2L)));
+        given(ranksRepository.findRankingsBetween(1L, 2L)).willReturn(List.of(ranking(1L, 10, 1L), ranking(2L, 5, 3L)));
+        given(ranksRepository.findRankingsBetween(3L, 4L)).willReturn(List.of(ranking(3L, 5, 3L), ranking(4L, 0, 5L)));
+        given(ranksRepository.findRankingsBetween(5L, 5L)).willReturn(List.of(ranking(5L, 0, 4L)));
+
+        RanksRecomputeResult result = ranksRecomputeService.recompute(false);
+
+        verify(ranksRepository).updatePoints(1L, 2L);
+        verify(ranksRepository).updatePoints(3L, 4L);
+        verify(ranksRepository).updatePoints(5L, 5L);
+        verify(ranksRepository, times(1)).countUsersByPoint();
+        verify(ranksRepository).updateRanking(2L, List.of(2L));
+        verify(ranksRepository).updateRanking(2L, List.of(3L));
+        verify(ranksRepository).updateRanking(4L, List.of(4L));
+        assertThat(result.getChunks()).isEqualTo(3);
+        assertThat(result.getPointRows()).isEqualTo(6);
+        assertThat(result.getRankingRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("dry-run 이면 변경될 행 수만 조회")
+    void recompute_dry_run() {
+        given(ranksRepository.countPointChanges(anyLong(), anyLong())).willReturn(1L);
+        given(ranksRepository.countUsersByPoint()).willReturn(List.of(pointCount(10, 1L), pointCount(5, 1L)));
+        given(ranksRepository.findRankingsBetween(1L, 2L)).willReturn(List.of(ranking(1L, 10, 1L), ranking(2L, 5, 3L)));
+
+        RanksRecomputeResult result = ranksRecomputeService.recompute(true);
+
+        verify(ranksRepository, never()).updatePoints(anyLong(), anyLong());
+        verify(ranksRepository, never()).updateRanking(anyLong(), anyCollection());
+        assertThat(result.isDryRun()).isTrue();
+        assertThat(result.getPointRows()).isEqualTo(3);
+        assertThat(result.getRankingRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("랭킹이 없으면 실행하지 않음")
+    void recompute_empty() {
+        given(ranksRepository.findMaxUserId()).willReturn(null);
+
+        RanksRecomputeResult result = ranksRecomputeService.recompute(false);
+
+        assertThat(result.getChunks()).isZero();
+        verify(ranksRepository, never()).updatePoints(anyLong(), anyLong());
+    }
+
+    private static RanksPointCountVo pointCount(int point, long userCount) {
+        return new RanksPointCountVo() {
+            @Override
+            public Integer getPoint() {
+                return point;
+            }
+
+            @Override
+            public Long getUserCount() {
+                return userCount;
+            }
+        };
+    }
+
+    private static RanksRankingVo ranking(long id, int point, long ranking) {
+        return new RanksRankingVo() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getPoint() {
+                return point;
+            }
+
+            @Override
+            public Long getRanking() {
+                return ranking;
+            }
+        };
+    }
+}
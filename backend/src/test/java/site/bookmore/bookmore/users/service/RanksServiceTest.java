@@ -7,17 +7,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import site.bookmore.bookmore.common.exception.not_found.RanksNotFoundException;
+import site.bookmore.bookmore.observer.event.ranks.RanksCreate;
+import site.bookmore.bookmore.users.dto.RanksAroundResponse;
 import site.bookmore.bookmore.users.dto.RanksResponse;
 import site.bookmore.bookmore.users.entity.Ranks;
 import site.bookmore.bookmore.users.entity.User;
 import site.bookmore.bookmore.users.repositroy.RanksRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
+import site.bookmore.bookmore.users.util.Leaderboard;
+import site.bookmore.bookmore.users.util.RankingEngine;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +35,12 @@ class RanksServiceTest {
     private RanksRepository ranksRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private RankingEngine rankingEngine;
+    @Mock
+    private Leaderboard leaderboard;
+    @Mock
+    private ApplicationEventPublisher publisher;
 
     @InjectMocks
     RanksService ranksService;
@@ -37,6 +52,31 @@ class RanksServiceTest {
             .id(2L).email("test2@test.com").nickname("test2").password("1q2w3e4r")
             .birth(LocalDate.of(2003, 10, 5)).build();
 
+    @Test
+    @DisplayName("신규 가입자 랭킹 등록 - 점수 0 인 마지막 순위")
+    void register() {
+        when(rankingEngine.isLoaded()).thenReturn(true);
+        when(rankingEngine.tailRank()).thenReturn(3L);
+        when(ranksRepository.save(any(Ranks.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Ranks ranks = ranksService.register(user);
+
+        assertThat(ranks.getRanking()).isEqualTo(3L);
+        assertThat(ranks.getPoint()).isZero();
+        verify(publisher).publishEvent(any(RanksCreate.class));
+    }
+
+    @Test
+    @DisplayName("신규 가입자 랭킹 등록 - 메모리 랭킹을 불러오기 전")
+    void register_before_load() {
+        when(ranksRepository.countByPointGreaterThanAndRankingGreaterThan(0, -1L)).thenReturn(4L);
+        when(ranksRepository.save(any(Ranks.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Ranks ranks = ranksService.register(user);
+
+        assertThat(ranks.getRanking()).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("랭킹 Top100 조회")
     void findTop100Ranks() {
@@ -58,11 +98,65 @@ class RanksServiceTest {
     void findMyRanks() {
         Ranks ranks1 = Ranks.builder().ranking(1L).id(1L).point(2).user(user).build();
 
-        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail())).thenReturn(Optional.of(user));
+        when(userRepository.findByIdAndDeletedDatetimeIsNull(user.getId())).thenReturn(Optional.of(user));
         when(ranksRepository.findByUser(user)).thenReturn(Optional.of(ranks1));
 
-        RanksResponse ranksResponse = ranksService.findMyRanks(user.getEmail());
+        RanksResponse ranksResponse = ranksService.findMyRanks(user.getId());
 
         assertThat(ranksResponse.getId()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("랭킹 Top100 조회 - 메모리 랭킹")
+    void findTop100Ranks_engine() {
+        when(rankingEngine.isLoaded()).thenReturn(true);
+        when(rankingEngine.top(100)).thenReturn(List.of(
+                new RankingEngine.Rank(1L, 10L, 5, 1L),
+                new RankingEngine.Rank(2L, 20L, 3, 2L)));
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(user, user2));
+
+        List<RanksResponse> ranksResponseList = ranksService.findTop100Ranks();
+
+        assertThat(ranksResponseList).extracting(RanksResponse::getNickName).containsExactly("test", "test2");
+        assertThat(ranksResponseList).extracting(RanksResponse::getRanking).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("나의 랭킹 조회 - 메모리 랭킹")
+    void findMyRanks_engine() {
+        when(userRepository.findByIdAndDeletedDatetimeIsNull(user.getId())).thenReturn(Optional.of(user));
+        when(rankingEngine.find(1L)).thenReturn(Optional.of(new RankingEngine.Rank(1L, 10L, 5, 3L)));
+
+        RanksResponse ranksResponse = ranksService.findMyRanks(user.getId());
+
+        assertThat(ranksResponse.getId()).isEqualTo(10L);
+        assertThat(ranksResponse.getRanking()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("나의 앞뒤 순위 조회")
+    void findMyRanksAround() {
+        RankingEngine.Rank me = new RankingEngine.Rank(2L, 20L, 3, 2L);
+        RankingEngine.Rank above = new RankingEngine.Rank(1L, 10L, 5, 1L);
+
+        when(userRepository.findByIdAndDeletedDatetimeIsNull(user2.getId())).thenReturn(Optional.of(user2));
+        when(rankingEngine.around(2L, 5)).thenReturn(Optional.of(new RankingEngine.Around(me, 2, List.of(above), List.of())));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(user));
+
+        RanksAroundResponse response = ranksService.findMyRanksAround(user2.getId(), 5);
+
+        assertThat(response.getMe().getRanking()).isEqualTo(2L);
+        assertThat(response.getTopPercent()).isEqualTo(100.0);
+        assertThat(response.getAbove()).extracting(RanksResponse::getNickName).containsExactly("test");
+        assertThat(response.getBelow()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("나의 앞뒤 순위 조회 실패 - 랭킹에 없는 사용자")
+    void findMyRanksAround_not_found() {
+        when(userRepository.findByIdAndDeletedDatetimeIsNull(user.getId())).thenReturn(Optional.of(user));
+        when(rankingEngine.around(1L, 5)).thenReturn(Optional.empty());
+
+        assertThrows(RanksNotFoundException.class, () -> ranksService.findMyRanksAround(user.getId(), 5));
+    }
 }
\ No newline at end of file
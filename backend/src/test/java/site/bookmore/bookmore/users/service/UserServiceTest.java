@@ -3,15 +3,17 @@ package site.bookmore.bookmore.users.service;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import site.bookmore.bookmore.alarms.repository.AlarmRepository;
 import site.bookmore.bookmore.common.exception.AbstractAppException;
 import site.bookmore.bookmore.common.exception.ErrorCode;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateEmailException;
 import site.bookmore.bookmore.common.exception.conflict.DuplicateNicknameException;
+import site.bookmore.bookmore.common.exception.forbidden.InvalidPermissionException;
 import site.bookmore.bookmore.common.exception.not_found.UserNotFoundException;
 import site.bookmore.bookmore.common.exception.unauthorized.InvalidPasswordException;
 import site.bookmore.bookmore.common.exception.unauthorized.InvalidTokenException;
+import site.bookmore.bookmore.observer.event.user.UserDelete;
 import site.bookmore.bookmore.s3.AwsS3Uploader;
 import site.bookmore.bookmore.security.provider.JwtProvider;
 import site.bookmore.bookmore.users.dto.UserJoinRequest;
@@ -19,8 +21,9 @@ import site.bookmore.bookmore.users.dto.UserLoginRequest;
 import site.bookmore.bookmore.users.dto.UserUpdateRequest;
 import site.bookmore.bookmore.users.entity.Ranks;
 import site.bookmore.bookmore.users.entity.User;
-import site.bookmore.bookmore.users.repositroy.FollowRepository;
+import site.bookmore.bookmore.users.entity.UserDeletion;
 import site.bookmore.bookmore.users.repositroy.RanksRepository;
+import site.bookmore.bookmore.users.repositroy.UserDeletionRepository;
 import site.bookmore.bookmore.users.repositroy.UserRepository;
 
 import java.time.LocalDate;
@@ -31,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static site.bookmore.bookmore.common.exception.ErrorCode.*;
 
@@ -40,15 +44,16 @@ class UserServiceTest {
     private final UserRepository userRepository = mock(UserRepository.class);
 
     private final RanksRepository ranksRepository = mock(RanksRepository.class);
-    private final FollowRepository followRepository = mock(FollowRepository.class);
+    private final UserDeletionRepository userDeletionRepository = mock(UserDeletionRepository.class);
 
     private final JwtProvider jwtProvider = mock(JwtProvider.class);
 
     private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
     private final AwsS3Uploader awsS3Uploader = mock(AwsS3Uploader.class);
-    private final AlarmRepository alarmRepository = mock(AlarmRepository.class);
+    private final RanksService ranksService = mock(RanksService.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
 
-    private final UserService userService = new UserService(passwordEncoder, jwtProvider, userRepository, ranksRepository, followRepository, awsS3Uploader, alarmRepository);
+    private final UserService userService = new UserService(passwordEncoder, jwtProvider, userRepository, ranksRepository, userDeletionRepository, awsS3Uploader, ranksService, publisher);
 
     private final User user = User.builder()
             .id(0L)
@@ -68,9 +73,9 @@ class UserServiceTest {
 
         when(userRepository.save(any(User.class)))
                 .thenReturn(user);
-        when(ranksRepository.findTop1ByOrderByRankingDesc()).thenReturn(Optional.empty());
 
         Assertions.assertDoesNotThrow(() -> userService.join(new UserJoinRequest()));
+        verify(ranksService).register(any(User.class));
 
     }
 
@@ -207,6 +212,8 @@ class UserServiceTest {
 
 
         Assertions.assertDoesNotThrow(() -> userService.delete(user.getEmail(), 0L));
+        verify(userDeletionRepository).save(any(UserDeletion.class));
+        verify(publisher).publishEvent(any(UserDelete.class));
     }
 
     @Test
@@ -224,6 +231,21 @@ class UserServiceTest {
         assertThat(abstractAppException.getErrorCode()).isEqualTo(INVALID_TOKEN);
     }
 
+    @Test
+    @DisplayName("회원 탈퇴 정리 진행 상황 - 실패(관리자가 아님)")
+    void findDeletion_fail() {
+
+        when(userRepository.findByEmailAndDeletedDatetimeIsNull(user.getEmail()))
+                .thenReturn(Optional.of(user));
+
+
+        AbstractAppException abstractAppException = assertThrows(InvalidPermissionException.class, () -> {
+            userService.findDeletion(user.getEmail(), 0L);
+        });
+
+        assertThat(abstractAppException.getErrorCode()).isEqualTo(INVALID_PERMISSION);
+    }
+
     @Test
     @DisplayName("회원 정보 검증 - 성공")
     void verify_success() {
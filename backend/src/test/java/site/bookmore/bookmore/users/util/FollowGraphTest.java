@@ -0,0 +1,78 @@
+package site.bookmore.bookmore.users.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphTest {
+    private final FollowGraph followGraph = new FollowGraph(5, 2);
+
+    @Test
+    @DisplayName("채운 팔로잉 목록으로 팔로우 여부 확인")
+    void follows() {
+        assertThat(followGraph.follows(1L, 2L)).isEmpty();
+
+        followGraph.fill(1L, List.of(7L, 2L, 5L), followGraph.stamp(1L));
+
+        assertThat(followGraph.follows(1L, 2L)).contains(true);
+        assertThat(followGraph.follows(1L, 3L)).contains(false);
+    }
+
+    @Test
+    @DisplayName("전체 id 개수가 한도를 넘으면 오래 조회되지 않은 사용자부터 제거")
+    void evict_eldest_by_edges() {
+        followGraph.fill(1L, List.of(2L, 3L), followGraph.stamp(1L));
+        followGraph.fill(2L, List.of(1L, 3L), followGraph.stamp(2L));
+        followGraph.follows(1L, 2L);
+
+        followGraph.fill(3L, List.of(1L, 2L), followGraph.stamp(3L));
+
+        assertThat(followGraph.follows(2L, 1L)).isEmpty();
+        assertThat(followGraph.follows(1L, 2L)).contains(true);
+        assertThat(followGraph.edges()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("팔로우 변경 시 팔로워의 목록과 대상의 팔로워 수 제거")
+    void evict() {
+        followGraph.fill(1L, List.of(2L), followGraph.stamp(1L));
+        followGraph.putFollowerCount(2L, 1, followGraph.stamp(2L));
+
+        followGraph.evict(1L, 2L);
+
+        assertThat(followGraph.follows(1L, 2L)).isEmpty();
+        assertThat(followGraph.followerCount(2L)).isEmpty();
+        assertThat(followGraph.edges()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 탈퇴한 사용자의 목록과 팔로워 수 제거")
+    void evictUser() {
+        followGraph.fill(1L, List.of(2L), followGraph.stamp(1L));
+        followGraph.putFollowerCount(1L, 3, followGraph.stamp(1L));
+
+        followGraph.evictUser(1L);
+
+        assertThat(followGraph.follows(1L, 2L)).isEmpty();
+        assertThat(followGraph.followerCount(1L)).isEmpty();
+        assertThat(followGraph.edges()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 이후 지워진 사용자는 조회 전 값으로 채우지 않음")
+    void skip_fill_after_evict() {
+        long followingStamp = followGraph.stamp(1L);
+        long countStamp = followGraph.stamp(2L);
+
+        followGraph.evict(1L, 2L);
+        followGraph.fill(1L, List.of(2L), followingStamp);
+        followGraph.putFollowerCount(2L, 1, countStamp);
+
+        assertThat(followGraph.follows(1L, 2L)).isEmpty();
+        assertThat(followGraph.followerCount(2L)).isEmpty();
+        assertThat(followGraph.edges()).isZero();
+    }
+}
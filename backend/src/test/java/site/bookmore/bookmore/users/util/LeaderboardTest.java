@@ -0,0 +1,102 @@
+package site.bookmore.bookmore.users.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import site.bookmore.bookmore.common.exception.service_unavailable.TooManyConnectionsException;
+import site.bookmore.bookmore.users.dto.RanksDiffResponse;
+import site.bookmore.bookmore.users.dto.RanksResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeaderboardTest {
+    private final Leaderboard leaderboard = new Leaderboard(new ObjectMapper(), new SyncTaskExecutor());
+
+    private final RanksResponse first = RanksResponse.builder().id(1L).point(5).ranking(1L).nickName("first").build();
+    private final RanksResponse second = RanksResponse.builder().id(2L).point(3).ranking(2L).nickName("second").build();
+
+    @Test
+    @DisplayName("스냅샷을 직렬화하여 보관하고, 순위가 같으면 교체하지 않음")
+    void publish() {
+        assertThat(leaderboard.json()).isEmpty();
+
+        assertThat(leaderboard.publish(List.of(first, second))).isTrue();
+        byte[] json = leaderboard.json().get();
+        assertThat(new String(json, StandardCharsets.UTF_8)).contains("\"nickName\":\"first\"", "\"resultCode\":\"SUCCESS\"");
+
+        RanksResponse same = RanksResponse.builder().id(1L).point(5).ranking(1L).nickName("first").build();
+        assertThat(leaderboard.publish(List.of(same, second))).isFalse();
+        assertThat(leaderboard.json().get()).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("변경분은 바뀐 항목과 빠진 항목만 포함")
+    void diff() {
+        RanksResponse moved = RanksResponse.builder().id(1L).point(5).ranking(2L).nickName("first").build();
+        RanksResponse third = RanksResponse.builder().id(3L).point(9).ranking(1L).nickName("third").build();
+
+        RanksDiffResponse diff = Leaderboard.diff(List.of(first, second), List.of(third, moved));
+
+        assertThat(diff.getChanged()).extracting(RanksResponse::getId).containsExactly(3L, 1L);
+        assertThat(diff.getRemoved()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("동시 연결 수를 넘으면 구독 거절")
+    void subscribe_limit() {
+        for (int i = 0; i < 1000; i++) {
+            leaderboard.subscribe();
+        }
+
+        assertThrows(TooManyConnectionsException.class, leaderboard::subscribe);
+        assertThat(leaderboard.connections()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("전송 큐가 가득 차면 대기 중인 변경분을 버리고 현재 스냅샷을 다시 전송")
+    void resend_snapshot_when_queue_full() {
+        List<Runnable> queue = new ArrayList<>();
+        TaskExecutor full = task -> {
+            if (queue.size() >= 1) throw new TaskRejectedException("full");
+            queue.add(task);
+        };
+        Leaderboard bounded = new Leaderboard(new ObjectMapper(), full);
+        bounded.publish(List.of(first));
+        SseEmitter emitter = bounded.subscribe();
+
+        bounded.publish(List.of(first, second));
+        runAll(queue);
+        bounded.publish(List.of(second));
+        runAll(queue);
+
+        assertThat(events(emitter)).containsExactly("snapshot", "diff");
+    }
+
+    private static void runAll(List<Runnable> queue) {
+        List<Runnable> tasks = new ArrayList<>(queue);
+        queue.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    // 초기화 전 emitter 에 쌓인 이벤트 이름
+    private static List<String> events(SseEmitter emitter) {
+        Set<?> sent = (Set<?>) ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+        List<String> names = new ArrayList<>();
+        for (Object data : sent) {
+            String text = String.valueOf(ReflectionTestUtils.invokeMethod(data, "getData"));
+            if (text.startsWith("event:")) names.add(text.substring(6, text.indexOf('\n')));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,164 @@
+package site.bookmore.bookmore.users.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.bookmore.bookmore.users.vo.RanksPointVo;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingEngineTest {
+    private final RankingEngine rankingEngine = new RankingEngine();
+
+    @BeforeEach
+    void setUp() {
+        rankingEngine.load(List.of(row(1L, 10), row(2L, 5), row(3L, 5), row(4L, 0)));
+    }
+
+    @Test
+    @DisplayName("동점자는 같은 순위")
+    void find_with_ties() {
+        assertThat(rankingEngine.find(1L).get().getRanking()).isEqualTo(1L);
+        assertThat(rankingEngine.find(2L).get().getRanking()).isEqualTo(2L);
+        assertThat(rankingEngine.find(3L).get().getRanking()).isEqualTo(2L);
+        assertThat(rankingEngine.find(4L).get().getRanking()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("좋아요 반영 후 순위와 상위 목록 갱신")
+    void add() {
+        assertThat(rankingEngine.add(3L, 6)).isTrue();
+
+        assertThat(rankingEngine.find(3L).get().getRanking()).isEqualTo(1L);
+        assertThat(rankingEngine.find(1L).get().getRanking()).isEqualTo(2L);
+        assertThat(rankingEngine.top(3)).extracting(RankingEngine.Rank::getUserId).containsExactly(3L, 1L, 2L);
+        assertThat(rankingEngine.drainDirty()).containsExactly(3L);
+        assertThat(rankingEngine.drainDirty()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 적재하는 동안의 좋아요를 새 랭킹에 반영하고, 기록되지 않은 사용자는 계속 기록 대상")
+    void reload_keeps_changes() {
+        rankingEngine.add(4L, 3);
+        rankingEngine.beginLoad();
+        rankingEngine.add(2L, 1);
+
+        // 적재 시점의 좋아요 합계에는 적재 전의 좋아요만 포함된 상태
+        rankingEngine.load(List.of(row(1L, 10), row(2L, 5), row(3L, 5), row(4L, 3)));
+
+        assertThat(rankingEngine.find(2L).get().getPoint()).isEqualTo(6);
+        assertThat(rankingEngine.find(4L).get().getPoint()).isEqualTo(3);
+        assertThat(rankingEngine.drainDirty()).containsExactlyInAnyOrder(2L, 4L);
+
+        rankingEngine.add(1L, 1);
+        rankingEngine.load(List.of(row(1L, 10), row(2L, 6), row(3L, 5), row(4L, 3)));
+        assertThat(rankingEngine.find(1L).get().getPoint()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 사용자는 다음 체크포인트에서 다시 기록")
+    void mark_dirty() {
+        rankingEngine.add(2L, 1);
+        Set<Long> drained = rankingEngine.drainDirty();
+
+        rankingEngine.markDirty(drained);
+
+        assertThat(rankingEngine.drainDirty()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 사용자는 반영하지 않고, 탈퇴한 사용자는 순위에서 제외")
+    void unknown_and_remove() {
+        assertThat(rankingEngine.add(99L, 1)).isFalse();
+
+        rankingEngine.remove(1L);
+
+        assertThat(rankingEngine.find(1L)).isEmpty();
+        assertThat(rankingEngine.find(2L).get().getRanking()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("초기 범위를 넘는 점수도 순위 계산")
+    void grow() {
+        rankingEngine.add(4L, 5_000);
+        rankingEngine.register(5L, 50L, 100_000);
+
+        assertThat(rankingEngine.find(5L).get().getRanking()).isEqualTo(1L);
+        assertThat(rankingEngine.find(4L).get().getRanking()).isEqualTo(2L);
+        assertThat(rankingEngine.find(2L).get().getRanking()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("신규 가입자는 점수 0 인 사용자와 같은 마지막 순위")
+    void tail_rank() {
+        assertThat(rankingEngine.tailRank()).isEqualTo(4L);
+
+        rankingEngine.register(5L, 50L, 0);
+
+        assertThat(rankingEngine.find(5L).get().getRanking()).isEqualTo(4L);
+        assertThat(rankingEngine.tailRank()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("앞뒤 순위 조회 - 같은 점수는 사용자 id 순")
+    void around() {
+        RankingEngine.Around around = rankingEngine.around(2L, 1).get();
+
+        assertThat(around.getMe().getRanking()).isEqualTo(2L);
+        assertThat(around.getAbove()).extracting(RankingEngine.Rank::getUserId).containsExactly(1L);
+        assertThat(around.getBelow()).extracting(RankingEngine.Rank::getUserId).containsExactly(3L);
+        assertThat(around.getTopPercent()).isEqualTo(50.0);
+
+        RankingEngine.Around last = rankingEngine.around(4L, 3).get();
+        assertThat(last.getAbove()).extracting(RankingEngine.Rank::getUserId).containsExactly(1L, 2L, 3L);
+        assertThat(last.getAbove()).extracting(RankingEngine.Rank::getRanking).containsExactly(1L, 2L, 2L);
+        assertThat(last.getBelow()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임의의 점수 변경 후에도 전체 정렬 결과와 순위 일치")
+    void random_updates() {
+        Random random = new Random(7);
+        Map<Long, Integer> points = new HashMap<>();
+        List<RanksPointVo> rows = new ArrayList<>();
+        for (long userId = 1; userId <= 500; userId++) {
+            int point = random.nextInt(50);
+            points.put(userId, point);
+            rows.add(row(userId, point));
+        }
+        rankingEngine.load(rows);
+
+        for (int i = 0; i < 5_000; i++) {
+            long userId = 1 + random.nextInt(500);
+            int delta = random.nextBoolean() ? 1 : -1;
+            points.put(userId, Math.max(0, points.get(userId) + delta));
+            rankingEngine.add(userId, delta);
+        }
+
+        for (Map.Entry<Long, Integer> entry : points.entrySet()) {
+            long expected = 1 + points.values().stream().filter(point -> point > entry.getValue()).count();
+            assertThat(rankingEngine.find(entry.getKey()).get().getRanking()).isEqualTo(expected);
+        }
+    }
+
+    private static RanksPointVo row(Long userId, int point) {
+        return new RanksPointVo() {
+            @Override
+            public Long getId() {
+                return userId * 10;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Integer getPoint() {
+                return point;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package site.bookmore.bookmore.users.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RanksHistoryCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 스냅샷을 사용자 id 순서대로 그대로 읽음")
+    void encode_decode() {
+        long[] userIds = {1L, 2L, 7L, 300L, 1_000_000L};
+        long[] rankings = {3L, 1L, 5L, 2L, 4L};
+        int[] points = {10, 40, 0, 25, 3};
+
+        byte[] data = RanksHistoryCodec.encode(userIds, rankings, points);
+
+        try (RanksHistoryCodec.Reader reader = RanksHistoryCodec.reader(data)) {
+            for (int i = 0; i < userIds.length; i++) {
+                assertThat(reader.next()).isTrue();
+                assertThat(reader.userId()).isEqualTo(userIds[i]);
+                assertThat(reader.ranking()).isEqualTo(rankings[i]);
+                assertThat(reader.point()).isEqualTo(points[i]);
+            }
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 10만 명 스냅샷이 사용자당 4바이트 미만")
+    void compact() {
+        int size = 100_000;
+        Random random = new Random(36);
+        long[] userIds = new long[size];
+        long[] rankings = new long[size];
+        int[] points = new int[size];
+        long userId = 0;
+        for (int i = 0; i < size; i++) {
+            userId += 1 + random.nextInt(3);
+            userIds[i] = userId;
+            // 대부분 점수 0 인 긴 꼬리
+            points[i] = random.nextInt(10) == 0 ? random.nextInt(500) : 0;
+            rankings[i] = points[i] == 0 ? size / 10 : 1 + random.nextInt(size / 10);
+        }
+
+        byte[] data = RanksHistoryCodec.encode(userIds, rankings, points);
+
+        assertThat(data.length).isLessThan(size * 4);
+    }
+}